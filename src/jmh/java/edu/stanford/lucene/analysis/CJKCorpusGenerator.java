@@ -0,0 +1,280 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.commons.io.IOUtils;
+
+import com.ibm.icu.text.Transliterator;
+import com.ibm.icu.text.UnicodeSet;
+import com.ibm.icu.text.UnicodeSetIterator;
+
+/**
+ * Generates catalog-like text for benchmarks: words of Japanese kanji and
+ * kana, traditional and simplified Chinese, Hangul, and Latin romanization,
+ * in a tunable mix.  The same seed and settings give the same text on any
+ * machine, so benchmarks can run on large workloads without shipping them.
+ * <p>
+ * Chars are drawn from the frequent chars of each script, as the legacy
+ * national character sets list them: JIS X 0208 level 1 kanji, the GB 2312
+ * level 1 hanzi, the Big5 frequent hanzi and the KS X 1001 Hangul.
+ * {@link #variantFraction} is the share of Han chars drawn instead from the
+ * chars stanford_cjk_transliterations.txt maps (the modern Japanese and
+ * variant forms CJKFoldingFilter folds); those are left out of the other
+ * pools, so the share is exact.  Document lengths, in chars, are log-normal
+ * around {@link #medianLength}.
+ * <p>
+ * Run {@link #main} to write a corpus to a file, one document per line, e.g.
+ * <pre>
+ * java -cp ... edu.stanford.lucene.analysis.CJKCorpusGenerator out=corpus.txt size=2g seed=42 variants=0.1
+ * </pre>
+ */
+public final class CJKCorpusGenerator {
+    private static final int[] VARIANTS;
+    private static final int[] KANJI;
+    private static final int[] SIMPLIFIED;
+    private static final int[] TRADITIONAL;
+    private static final int[] HIRAGANA = codePoints(new UnicodeSet("[\\u3041-\\u3093]"));
+    private static final int[] KATAKANA = codePoints(new UnicodeSet("[\\u30A1-\\u30F3\\u30FC]"));
+    private static final int[] HANGUL;
+
+    static {
+        final UnicodeSet variants;
+        try (InputStream stream = CJKFoldingFilter.class.getResourceAsStream("stanford_cjk_transliterations.txt")) {
+            String rules = IOUtils.toString(stream, StandardCharsets.UTF_8);
+            variants = Transliterator.createFromRules("stanford", rules, Transliterator.FORWARD).getSourceSet();
+        } catch (IOException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+        VARIANTS = codePoints(variants);
+        final int[] euc = { 0xA1, 0xFE };
+        KANJI = codePoints(decode("EUC-JP", 0xB0, 0xCF, euc).removeAll(variants));
+        SIMPLIFIED = codePoints(decode("GB2312", 0xB0, 0xD7, euc).removeAll(variants));
+        TRADITIONAL = codePoints(decode("Big5", 0xA4, 0xC6, 0x40, 0x7E, 0xA1, 0xFE).removeAll(variants));
+        HANGUL = codePoints(decode("EUC-KR", 0xB0, 0xC8, euc));
+    }
+
+    /** @return the chars of two byte codes {@code lead trail} in {@code charset}, for each trail range */
+    private static UnicodeSet decode(String charset, int leadFrom, int leadTo, int... trailRanges) {
+        UnicodeSet chars = new UnicodeSet();
+        byte[] code = new byte[2];
+        for (int lead = leadFrom; lead <= leadTo; lead++) {
+            for (int r = 0; r < trailRanges.length; r += 2) {
+                for (int trail = trailRanges[r]; trail <= trailRanges[r + 1]; trail++) {
+                    code[0] = (byte) lead;
+                    code[1] = (byte) trail;
+                    String decoded = new String(code, Charset.forName(charset));
+                    if (decoded.codePointCount(0, decoded.length()) == 1 && decoded.codePointAt(0) != 0xFFFD) {
+                        chars.add(decoded.codePointAt(0));
+                    }
+                }
+            }
+        }
+        return chars;
+    }
+
+    private static int[] codePoints(UnicodeSet set) {
+        int[] codePoints = new int[set.size()];
+        int i = 0;
+        for (UnicodeSetIterator it = new UnicodeSetIterator(set); it.next(); ) {
+            codePoints[i++] = it.codepoint;
+        }
+        return codePoints;
+    }
+
+    private static final String[] PINYIN = { "zhong", "guo", "shi", "xue", "wen", "hua", "shu", "ju", "yan", "jiu",
+            "li", "shi", "di", "fang", "chu", "ban", "she", "ren", "min", "jing", "ji", "she", "hui", "bei", "nan" };
+    private static final String[] ROMAJI = { "Tōkyō", "Nihon", "kindai", "bungaku", "shi", "kenkyū", "shuppan",
+            "kai", "Iwanami", "Shoten", "keizai", "rekishi", "no", "to", "hen", "Kōdansha", "bukkyō", "bijutsu" };
+    private static final String[] KOREAN = { "Han'guk", "sa", "Sŏul", "Taehakkyo", "Ch'ulp'anbu", "munhak",
+            "yŏn'gu", "Kuksa", "P'yŏnch'an", "Wiwŏnhoe", "Chosŏn", "wangjo", "sillok" };
+    private static final String[] CATALOG = { "1985.", "p.", "cm.", "xii,", "384", "21", ";", ":", "/", "v.",
+            "Includes", "bibliographical", "references", "index.", "PL2727.S2", "Y8" };
+
+    private final Random random;
+    private double japanese = 0.3;
+    private double traditional = 0.2;
+    private double simplified = 0.2;
+    private double hangul = 0.05;
+    private double latin = 0.25;
+    private double variantFraction = 0.1;
+    private int medianLength = 200;
+    private double lengthSigma = 1.0;
+
+    public CJKCorpusGenerator(long seed) {
+        random = new Random(seed);
+    }
+
+    /** relative weights of the scripts of words; need not sum to 1 */
+    public CJKCorpusGenerator mix(double japanese, double traditional, double simplified, double hangul, double latin) {
+        this.japanese = japanese;
+        this.traditional = traditional;
+        this.simplified = simplified;
+        this.hangul = hangul;
+        this.latin = latin;
+        return this;
+    }
+
+    /** share of Han chars that CJKFoldingFilter and the Stanford rules map */
+    public CJKCorpusGenerator variantFraction(double variantFraction) {
+        this.variantFraction = variantFraction;
+        return this;
+    }
+
+    /** document lengths are {@code median * exp(sigma * N(0, 1))} chars */
+    public CJKCorpusGenerator documentLength(int median, double sigma) {
+        this.medianLength = median;
+        this.lengthSigma = sigma;
+        return this;
+    }
+
+    /** @return the next document; it has no line breaks */
+    public String nextDocument() {
+        final long length = Math.round(medianLength * Math.exp(lengthSigma * random.nextGaussian()));
+        final int target = (int) Math.max(1, Math.min(length, 100L * medianLength));
+        StringBuilder doc = new StringBuilder(target + 16);
+        while (doc.length() < target) {
+            if (doc.length() > 0) {
+                doc.append(' ');
+            }
+            appendWord(doc);
+        }
+        return doc.toString();
+    }
+
+    /** @return documents, separated by spaces, up to {@code size} chars */
+    public String text(int size) {
+        StringBuilder text = new StringBuilder(size + medianLength);
+        while (text.length() < size) {
+            text.append(nextDocument()).append(' ');
+        }
+        text.setLength(size);
+        return text.toString();
+    }
+
+    /** writes documents, one per line, until at least {@code size} chars are written */
+    public void write(Writer out, long size) throws IOException {
+        for (long written = 0; written < size; ) {
+            String doc = nextDocument();
+            out.write(doc);
+            out.write('\n');
+            written += doc.length() + 1;
+        }
+    }
+
+    private void appendWord(StringBuilder doc) {
+        double pick = random.nextDouble() * (japanese + traditional + simplified + hangul + latin);
+        if ((pick -= japanese) < 0) {
+            // kanji stem and kana ending, or a katakana loanword
+            if (random.nextInt(5) == 0) {
+                appendChars(doc, KATAKANA, 2 + random.nextInt(5));
+            } else {
+                appendHan(doc, KANJI, 1 + random.nextInt(3));
+                appendChars(doc, HIRAGANA, random.nextInt(3));
+            }
+        } else if ((pick -= traditional) < 0) {
+            appendHan(doc, TRADITIONAL, 2 + random.nextInt(5));
+        } else if ((pick -= simplified) < 0) {
+            appendHan(doc, SIMPLIFIED, 2 + random.nextInt(5));
+        } else if ((pick -= hangul) < 0) {
+            appendChars(doc, HANGUL, 2 + random.nextInt(4));
+        } else {
+            appendLatin(doc);
+        }
+    }
+
+    /** Han chars of the word's script, or, at variantFraction, variants */
+    private void appendHan(StringBuilder doc, int[] script, int count) {
+        for (int i = 0; i < count; i++) {
+            appendChars(doc, random.nextDouble() < variantFraction ? VARIANTS : script, 1);
+        }
+    }
+
+    private void appendChars(StringBuilder doc, int[] chars, int count) {
+        for (int i = 0; i < count; i++) {
+            doc.appendCodePoint(chars[random.nextInt(chars.length)]);
+        }
+    }
+
+    private void appendLatin(StringBuilder doc) {
+        switch (random.nextInt(4)) {
+            case 0:
+                // pinyin words are often written syllable by syllable
+                doc.append(PINYIN[random.nextInt(PINYIN.length)]).append(PINYIN[random.nextInt(PINYIN.length)]);
+                break;
+            case 1:
+                doc.append(ROMAJI[random.nextInt(ROMAJI.length)]);
+                break;
+            case 2:
+                doc.append(KOREAN[random.nextInt(KOREAN.length)]);
+                break;
+            default:
+                doc.append(CATALOG[random.nextInt(CATALOG.length)]);
+        }
+    }
+
+    /**
+     * Writes a corpus.  Arguments are {@code name=value}: out (mandatory),
+     * size in chars with an optional k, m or g suffix (default 100m), seed
+     * (default 42), mix as five weights japanese,traditional,simplified,hangul,latin
+     * (default 0.3,0.2,0.2,0.05,0.25), variants (default 0.1), median
+     * document length (default 200) and sigma (default 1.0).
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg);
+            }
+            options.put(arg.substring(0, eq), arg.substring(eq + 1));
+        }
+        String out = options.remove("out");
+        if (out == null) {
+            throw new IllegalArgumentException("out=<file> is required");
+        }
+        long size = parseSize(options.getOrDefault("size", "100m"));
+        options.remove("size");
+        CJKCorpusGenerator generator = new CJKCorpusGenerator(Long.parseLong(options.getOrDefault("seed", "42")));
+        options.remove("seed");
+        String mix = options.remove("mix");
+        if (mix != null) {
+            String[] weights = mix.split(",");
+            if (weights.length != 5) {
+                throw new IllegalArgumentException("mix needs 5 weights, got " + mix);
+            }
+            generator.mix(Double.parseDouble(weights[0]), Double.parseDouble(weights[1]),
+                    Double.parseDouble(weights[2]), Double.parseDouble(weights[3]), Double.parseDouble(weights[4]));
+        }
+        generator.variantFraction(Double.parseDouble(options.getOrDefault("variants", "0.1")));
+        options.remove("variants");
+        generator.documentLength(Integer.parseInt(options.getOrDefault("median", "200")),
+                Double.parseDouble(options.getOrDefault("sigma", "1.0")));
+        options.remove("median");
+        options.remove("sigma");
+        if (!options.isEmpty()) {
+            throw new IllegalArgumentException("Unknown options: " + options);
+        }
+        try (Writer writer = new BufferedWriter(Files.newBufferedWriter(Paths.get(out), StandardCharsets.UTF_8), 1 << 16)) {
+            generator.write(writer, size);
+        }
+    }
+
+    private static long parseSize(String size) {
+        final String lower = size.toLowerCase();
+        final char unit = lower.charAt(lower.length() - 1);
+        final int shift = unit == 'k' ? 10 : unit == 'm' ? 20 : unit == 'g' ? 30 : 0;
+        return Long.parseLong(shift == 0 ? lower : lower.substring(0, lower.length() - 1)) << shift;
+    }
+}
@@ -0,0 +1,95 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Compares {@link CJKFoldingFilter#mapUnicode(char[], int, char[], int, int)}
+ * with the {@code HashMap<String,String>} lookup it replaced, on Japanese and
+ * Chinese catalog text.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CJKFoldingFilterBenchmark {
+    static final String JAPANESE =
+            "日本近代文学大系 第三巻 岩波書店 昭和四十八年 国立国会図書館蔵 "
+            + "両大戦間の日本経済 仏教美術史の研究 円本時代の出版文化 "
+            + "徳川実紀 児童文学の歴史 広島県史 近世編 図書館学の基礎 "
+            + "戦後日本の労働運動 鉄道の発達と地域社会 気象観測の歴史";
+
+    static final String CHINESE =
+            "红楼梦研究 俞平伯著 上海古籍出版社 两晋南北朝史 吕思勉著 "
+            + "中華書局 南洋華僑史 臺灣文學史綱 中国近代史资料丛刊 "
+            + "敦煌遗书总目索引 宋元明清书画家传记资料索引 说文解字注 "
+            + "史记 汉书 后汉书 三国志 晋书 宋书 南齐书 梁书 陈书";
+
+    private static final Pattern RULE = Pattern.compile("^\\\\u(\\p{XDigit}{4}) *> *\\\\u(\\p{XDigit}{4});");
+
+    @Param({"japanese", "chinese"})
+    public String text;
+
+    private char[] input;
+    private char[] output;
+    private Map<String, String> variant2Trad;
+
+    @Setup
+    public void setup() throws IOException {
+        input = ("japanese".equals(text) ? JAPANESE : CHINESE).toCharArray();
+        output = new char[4 * input.length];
+        variant2Trad = loadHashMap();
+    }
+
+    @Benchmark
+    public int table() {
+        return CJKFoldingFilter.mapUnicode(input, 0, output, 0, input.length);
+    }
+
+    @Benchmark
+    public int hashMap() {
+        int outputPos = 0;
+        for (char c : input) {
+            if (c < '\u3000')
+                output[outputPos++] = c;
+            else if (variant2Trad.containsKey(String.valueOf(c))) {
+                String mapped = variant2Trad.get(String.valueOf(c));
+                for (int i = 0; i < mapped.length(); i++)
+                    output[outputPos++] = mapped.charAt(i);
+            } else
+                output[outputPos++] = c;
+        }
+        return outputPos;
+    }
+
+    /** The pre-table lookup structure, built from the same mapping data */
+    private static Map<String, String> loadHashMap() throws IOException {
+        Map<String, String> map = new HashMap<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                CJKFoldingFilter.class.getResourceAsStream("stanford_cjk_transliterations.txt"),
+                StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                Matcher m = RULE.matcher(line);
+                if (m.find()) {
+                    map.put(String.valueOf((char) Integer.parseInt(m.group(1), 16)),
+                            String.valueOf((char) Integer.parseInt(m.group(2), 16)));
+                }
+            }
+        }
+        return map;
+    }
+}
@@ -0,0 +1,55 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Runs whitespace separated catalog text through
+ * {@link CJKFoldingFilter#incrementToken()}, with and without
+ * preserveOriginal.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CJKFoldingFilterTokenBenchmark {
+    @Param({"japanese", "chinese", "generated"})
+    public String text;
+
+    @Param({"false", "true"})
+    public boolean preserveOriginal;
+
+    private String input;
+    private WhitespaceTokenizer tokenizer;
+    private TokenStream stream;
+
+    @Setup
+    public void setup() {
+        input = "generated".equals(text) ? new CJKCorpusGenerator(42).text(CJKFoldingFilterBenchmark.CHINESE.length())
+                : "japanese".equals(text) ? CJKFoldingFilterBenchmark.JAPANESE : CJKFoldingFilterBenchmark.CHINESE;
+        tokenizer = new WhitespaceTokenizer();
+        stream = new CJKFoldingFilter(tokenizer, preserveOriginal);
+    }
+
+    @Benchmark
+    public int incrementToken() throws IOException {
+        tokenizer.setReader(new StringReader(input));
+        stream.reset();
+        int tokens = 0;
+        while (stream.incrementToken()) {
+            tokens++;
+        }
+        stream.end();
+        stream.close();
+        return tokens;
+    }
+}
@@ -0,0 +1,61 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.commons.io.file.PathUtils;
+import org.openjdk.jmh.annotations.*;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Time to first use of the Stanford rules, as on the first core load after a
+ * restart: compiled by ICU, compiled into a table, or a table read back from
+ * a cache directory.  Each fork is a fresh JVM, so run with several forks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class CompiledRulesStartupBenchmark {
+    @Param({"icu", "compile", "cacheHit"})
+    public String source;
+
+    private String rules;
+    private Path cacheDir;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream stream = CompiledRulesStartupBenchmark.class.getResourceAsStream("stanford_cjk_transliterations.txt")) {
+            rules = IOUtils.toString(stream, StandardCharsets.UTF_8);
+        }
+        if ("cacheHit".equals(source)) {
+            cacheDir = Files.createTempDirectory("rules");
+            CompiledRules.compileUncached("stanford", rules, Transliterator.FORWARD, cacheDir);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (cacheDir != null) {
+            PathUtils.deleteDirectory(cacheDir);
+        }
+    }
+
+    @Benchmark
+    public Object load() {
+        if ("icu".equals(source)) {
+            return Transliterator.createFromRules("stanford", rules, Transliterator.FORWARD);
+        }
+        return CompiledRules.compileUncached("stanford", rules, Transliterator.FORWARD, cacheDir);
+    }
+}
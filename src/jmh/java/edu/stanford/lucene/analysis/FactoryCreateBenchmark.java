@@ -0,0 +1,89 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.util.ClasspathResourceLoader;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Cost of each factory's {@code create()} on a short field value, as when
+ * indexing many small catalog fields: the filter's own setup, and reading
+ * the value through it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FactoryCreateBenchmark {
+    static final String RULES = "edu/stanford/lucene/analysis/stanford_cjk_transliterations.txt";
+
+    static final String VALUE = "臺灣文學史綱 両大戦間の日本経済";
+
+    private final char[] cbuf = new char[256];
+    private CJKFoldingFilterFactory folding;
+    private ICUTransformCharFilterFactory transform;
+    private ICUCustomTransformCharFilterFactory custom;
+
+    @Setup
+    public void setup() throws IOException {
+        ClasspathResourceLoader loader = new ClasspathResourceLoader(FactoryCreateBenchmark.class.getClassLoader());
+        folding = new CJKFoldingFilterFactory(new HashMap<>());
+        folding.inform(loader);
+        transform = new ICUTransformCharFilterFactory(args("id", "Traditional-Simplified"));
+        custom = new ICUCustomTransformCharFilterFactory(args("id", RULES));
+        custom.inform(loader);
+    }
+
+    private static Map<String, String> args(String name, String value) {
+        Map<String, String> args = new HashMap<>();
+        args.put(name, value);
+        return args;
+    }
+
+    @Benchmark
+    public int cjkFolding() throws IOException {
+        WhitespaceTokenizer tokenizer = new WhitespaceTokenizer();
+        tokenizer.setReader(new StringReader(VALUE));
+        int tokens = 0;
+        try (TokenStream stream = folding.create(tokenizer)) {
+            stream.reset();
+            while (stream.incrementToken()) {
+                tokens++;
+            }
+            stream.end();
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public int icuTransform() throws IOException {
+        return read(transform.create(new StringReader(VALUE)));
+    }
+
+    @Benchmark
+    public int icuCustomTransform() throws IOException {
+        return read(custom.create(new StringReader(VALUE)));
+    }
+
+    private int read(Reader reader) throws IOException {
+        int total = 0;
+        try (Reader r = reader) {
+            int n;
+            while ((n = r.read(cbuf, 0, cbuf.length)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+}
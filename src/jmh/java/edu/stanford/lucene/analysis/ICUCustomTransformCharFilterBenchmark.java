@@ -0,0 +1,71 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.IOUtils;
+import org.openjdk.jmh.annotations.*;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Reads a 1 MB document through the Stanford rules, mapped with a
+ * {@link FoldingTableCharFilter} or run by ICU in an
+ * {@link ICUTransformCharFilter}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ICUCustomTransformCharFilterBenchmark {
+    @Param({"table", "icu"})
+    public String engine;
+
+    @Param({"chinese", "japanese", "generated"})
+    public String text;
+
+    private FoldingTable table;
+    private Transliterator transform;
+    private String document;
+    private final char[] cbuf = new char[4096];
+
+    @Setup
+    public void setup() throws IOException {
+        String rules;
+        try (InputStream stream = ICUCustomTransformCharFilterBenchmark.class.getResourceAsStream("stanford_cjk_transliterations.txt")) {
+            rules = IOUtils.toString(stream, StandardCharsets.UTF_8);
+        }
+        if ("table".equals(engine)) {
+            table = FoldingTable.parseRules(new StringReader(rules));
+        } else {
+            transform = Transliterator.createFromRules("stanford", rules, Transliterator.FORWARD);
+        }
+        document = "generated".equals(text)
+                ? new CJKCorpusGenerator(42).text(ICUTransformCharFilterBenchmark.DOCUMENT_SIZE)
+                : ICUTransformCharFilterBenchmark.document(
+                        "chinese".equals(text) ? CJKFoldingFilterBenchmark.CHINESE : CJKFoldingFilterBenchmark.JAPANESE,
+                        ICUTransformCharFilterBenchmark.DOCUMENT_SIZE);
+    }
+
+    @Benchmark
+    public int read() throws IOException {
+        int total = 0;
+        try (Reader reader = table != null
+                ? new FoldingTableCharFilter(new StringReader(document), table, ICUTransformCharFilter.DEFAULT_BUFFER_SIZE, true)
+                : new ICUTransformCharFilter(new StringReader(document), transform)) {
+            int n;
+            while ((n = reader.read(cbuf, 0, cbuf.length)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+}
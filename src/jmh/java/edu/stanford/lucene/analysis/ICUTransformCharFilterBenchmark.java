@@ -0,0 +1,78 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.ibm.icu.text.Transliterator;
+import com.ibm.icu.text.UnicodeSet;
+
+/**
+ * Reads a 1 MB document through {@link ICUTransformCharFilter}, of Chinese
+ * text, of mostly Latin text as in romanized catalog records, or from
+ * {@link CJKCorpusGenerator}, with and without the source set prefilter.  Run with {@code -prof gc}:
+ * {@code gc.alloc.rate.norm} is then the number of bytes allocated per MB of
+ * input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ICUTransformCharFilterBenchmark {
+    static final int DOCUMENT_SIZE = 1 << 20;
+
+    static final String MOSTLY_LATIN =
+            "Hong lou meng yan jiu / Yu Pingbo zhu. Shanghai : Shanghai gu ji chu ban she, 1985. "
+            + "PL2727.S2 Y8 1985 xii, 384 p. ; 21 cm. Includes bibliographical references. 红楼梦研究 ";
+
+    @Param({"Traditional-Simplified", "Han-Latin"})
+    public String id;
+
+    @Param({"chinese", "mostlyLatin", "generated"})
+    public String text;
+
+    @Param({"true", "false"})
+    public boolean prefilter;
+
+    private Transliterator transform;
+    private UnicodeSet sourceSet;
+    private String document;
+    private final char[] cbuf = new char[4096];
+
+    @Setup
+    public void setup() {
+        transform = Transliterator.getInstance(id);
+        sourceSet = prefilter ? ICUTransformCharFilter.sourceSet(transform) : null;
+        document = "generated".equals(text) ? new CJKCorpusGenerator(42).text(DOCUMENT_SIZE)
+                : document("chinese".equals(text) ? CJKFoldingFilterBenchmark.CHINESE : MOSTLY_LATIN, DOCUMENT_SIZE);
+    }
+
+    @Benchmark
+    public int read() throws IOException {
+        int total = 0;
+        try (ICUTransformCharFilter reader = new ICUTransformCharFilter(new StringReader(document), transform,
+                ICUTransformCharFilter.DEFAULT_BUFFER_SIZE, true, sourceSet)) {
+            int n;
+            while ((n = reader.read(cbuf, 0, cbuf.length)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+
+    /** repeats {@code sample} to a document of {@code size} chars */
+    static String document(String sample, int size) {
+        StringBuilder doc = new StringBuilder(size + sample.length());
+        while (doc.length() < size) {
+            doc.append(sample).append(' ');
+        }
+        doc.setLength(size);
+        return doc.toString();
+    }
+}
@@ -0,0 +1,67 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Reads a 10 MB document through {@link ICUTransformCharFilter} with read
+ * sizes from the 10 chars {@code TestICUTransformCharFilter} uses up to a
+ * large tokenizer buffer; the time per op should not depend on the read size
+ * beyond the cost of the calls themselves.
+ * <p>
+ * With {@code -p corpus=<file>}, reads that file instead, streamed from
+ * disk, e.g. a multi-GB corpus written by {@link CJKCorpusGenerator#main}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ICUTransformCharFilterReadBenchmark {
+    static final int DOCUMENT_SIZE = 10 << 20;
+
+    @Param({"10", "128", "1024", "8192"})
+    public int readSize;
+
+    @Param({""})
+    public String corpus;
+
+    private Transliterator transform;
+    private String document;
+    private char[] cbuf;
+
+    @Setup
+    public void setup() {
+        transform = Transliterator.getInstance("Traditional-Simplified");
+        if (corpus.isEmpty()) {
+            document = ICUTransformCharFilterBenchmark.document(CJKFoldingFilterBenchmark.CHINESE, DOCUMENT_SIZE);
+        }
+        cbuf = new char[readSize];
+    }
+
+    @Benchmark
+    public int read() throws IOException {
+        int total = 0;
+        Reader input = corpus.isEmpty() ? new StringReader(document)
+                : Files.newBufferedReader(Paths.get(corpus), StandardCharsets.UTF_8);
+        try (ICUTransformCharFilter reader = new ICUTransformCharFilter(input, transform)) {
+            int n;
+            while ((n = reader.read(cbuf, 0, cbuf.length)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+}
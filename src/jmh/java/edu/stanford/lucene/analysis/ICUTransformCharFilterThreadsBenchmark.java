@@ -0,0 +1,81 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Reads catalog records through {@link ICUTransformCharFilter}s from one
+ * factory on 1, 4 and all available threads, with a transliterator per thread
+ * as the factories now hand out, and with the single shared transliterator
+ * they used before.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ICUTransformCharFilterThreadsBenchmark {
+    @Param({"Traditional-Simplified", "Han-Latin"})
+    public String id;
+
+    @Param({"perThread", "shared"})
+    public String transliterators;
+
+    private ICUTransformCharFilterFactory factory;
+    private Transliterator shared;
+
+    @Setup
+    public void setup() {
+        Map<String, String> args = new HashMap<>();
+        args.put("id", id);
+        factory = new ICUTransformCharFilterFactory(args);
+        shared = Transliterator.getInstance(id);
+    }
+
+    @State(Scope.Thread)
+    public static class Buffer {
+        final char[] cbuf = new char[1024];
+    }
+
+    @Benchmark
+    @Threads(1)
+    public int threads1(Buffer buffer) throws IOException {
+        return read(buffer.cbuf);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public int threads4(Buffer buffer) throws IOException {
+        return read(buffer.cbuf);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public int threadsMax(Buffer buffer) throws IOException {
+        return read(buffer.cbuf);
+    }
+
+    private int read(char[] cbuf) throws IOException {
+        Reader input = new StringReader(CJKFoldingFilterBenchmark.CHINESE);
+        int total = 0;
+        try (Reader reader = "shared".equals(transliterators)
+                ? new ICUTransformCharFilter(input, shared) : factory.create(input)) {
+            int n;
+            while ((n = reader.read(cbuf, 0, cbuf.length)) != -1) {
+                total += n;
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,156 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharFilterFactory;
+import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.TokenizerFactory;
+import org.apache.lucene.analysis.custom.CustomAnalyzer;
+import org.apache.lucene.util.ClasspathResourceLoader;
+import org.openjdk.jmh.annotations.*;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Analyzes catalog text with the full chain of a field type in
+ * example/solr_configs/schema.xml, built as a plain Lucene
+ * {@link CustomAnalyzer}: the pattern replace char filters, the CJK
+ * transforms, the ICU tokenizer and the CJK filters.  Run from the project
+ * directory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SchemaAnalyzerBenchmark {
+    @Param({"example/solr_configs/schema.xml"})
+    public String schema;
+
+    @Param({"text_cjk"})
+    public String fieldType;
+
+    /** the bundled warmup sample, one field value per line, or 20 generated values */
+    @Param({"sample", "generated"})
+    public String text;
+
+    private Analyzer analyzer;
+    private String[] values;
+
+    @Setup
+    public void setup() throws Exception {
+        analyzer = analyzer(Paths.get(schema), fieldType);
+        if ("generated".equals(text)) {
+            CJKCorpusGenerator generator = new CJKCorpusGenerator(42).documentLength(60, 0.5);
+            values = new String[20];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = generator.nextDocument();
+            }
+        } else {
+            values = FactoryWarmup.SAMPLE.split("\n");
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        analyzer.close();
+    }
+
+    /** analyzes the values, each as a field of its own */
+    @Benchmark
+    public int analyze() throws IOException {
+        int tokens = 0;
+        for (String value : values) {
+            try (TokenStream stream = analyzer.tokenStream("cjk_title", value)) {
+                stream.reset();
+                while (stream.incrementToken()) {
+                    tokens++;
+                }
+                stream.end();
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * @return the analyzer of {@code fieldType} in a Solr schema; factories
+     * named {@code solr.Name} are looked up by their simple class name
+     */
+    static Analyzer analyzer(Path schema, String fieldType) throws Exception {
+        Element analyzer = null;
+        NodeList types = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(schema.toFile())
+                .getDocumentElement().getElementsByTagName("*");
+        for (int i = 0; i < types.getLength() && analyzer == null; i++) {
+            Element type = (Element) types.item(i);
+            if (type.getTagName().equalsIgnoreCase("fieldType") && fieldType.equals(type.getAttribute("name"))) {
+                analyzer = (Element) type.getElementsByTagName("analyzer").item(0);
+            }
+        }
+        if (analyzer == null) {
+            throw new IllegalArgumentException("No analyzer for field type " + fieldType + " in " + schema);
+        }
+
+        CustomAnalyzer.Builder builder = CustomAnalyzer.builder(
+                new ClasspathResourceLoader(SchemaAnalyzerBenchmark.class.getClassLoader()));
+        for (Node node = analyzer.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (!(node instanceof Element)) {
+                continue;
+            }
+            Element element = (Element) node;
+            String className = element.getAttribute("class");
+            Map<String, String> args = new HashMap<>();
+            NamedNodeMap attributes = element.getAttributes();
+            for (int i = 0; i < attributes.getLength(); i++) {
+                if (!attributes.item(i).getNodeName().equals("class")) {
+                    args.put(attributes.item(i).getNodeName(), attributes.item(i).getNodeValue());
+                }
+            }
+            switch (element.getTagName()) {
+                case "charFilter":
+                    builder.addCharFilter(factoryClass(className, CharFilterFactory.class,
+                            CharFilterFactory.availableCharFilters(), CharFilterFactory::lookupClass), args);
+                    break;
+                case "tokenizer":
+                    builder.withTokenizer(factoryClass(className, TokenizerFactory.class,
+                            TokenizerFactory.availableTokenizers(), TokenizerFactory::lookupClass), args);
+                    break;
+                case "filter":
+                    builder.addTokenFilter(factoryClass(className, TokenFilterFactory.class,
+                            TokenFilterFactory.availableTokenFilters(), TokenFilterFactory::lookupClass), args);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected " + element.getTagName() + " in " + fieldType);
+            }
+        }
+        return builder.build();
+    }
+
+    private static <T> Class<? extends T> factoryClass(String className, Class<T> type, Iterable<String> spiNames,
+            java.util.function.Function<String, Class<? extends T>> lookup) throws ClassNotFoundException {
+        if (!className.startsWith("solr.")) {
+            return Class.forName(className).asSubclass(type);
+        }
+        String simpleName = className.substring("solr.".length());
+        for (String spiName : spiNames) {
+            Class<? extends T> factory = lookup.apply(spiName);
+            if (factory.getSimpleName().equals(simpleName)) {
+                return factory;
+            }
+        }
+        throw new ClassNotFoundException(className);
+    }
+}
@@ -3,11 +3,12 @@
 package edu.stanford.lucene.analysis;
 
 import java.io.IOException;
-import java.util.*;
+import java.util.Arrays;
 
 import org.apache.lucene.analysis.TokenFilter;
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.analysis.tokenattributes.PositionIncrementAttribute;
 import org.apache.lucene.util.ArrayUtil;
 import org.apache.lucene.util.RamUsageEstimator;
 
@@ -21,33 +22,70 @@ import org.apache.lucene.util.RamUsageEstimator;
 public class CJKFoldingFilter extends TokenFilter
 {
 	 private final CharTermAttribute charTermAttr = addAttribute(CharTermAttribute.class);
-	 private char[] output = new char[512];
+	 private final PositionIncrementAttribute posIncAttr = addAttribute(PositionIncrementAttribute.class);
+	 private final FoldingTable table;
+	 private final boolean preserveOriginal;
+	 // scratch space, for tables with mappings that lengthen a token and for preserveOriginal
+	 private char[] output;
 	 private int outputPos;
+	 // the original token, while its folded form in output waits to be returned
+	 private State state;
 
 	protected CJKFoldingFilter(TokenStream input)
+	{
+		this(input, false);
+	}
+
+	/**
+	 * @param preserveOriginal if true, tokens that folding changes are kept,
+	 *  with the folded token stacked after them at position increment 0
+	 */
+	protected CJKFoldingFilter(TokenStream input, boolean preserveOriginal)
+	{
+		this(input, Variant2Trad.TABLE, preserveOriginal);
+	}
+
+	/**
+	 * @param table the foldings to apply instead of variant2Trad
+	 */
+	CJKFoldingFilter(TokenStream input, FoldingTable table)
+	{
+		this(input, table, false);
+	}
+
+	CJKFoldingFilter(TokenStream input, FoldingTable table, boolean preserveOriginal)
 	{
 		super(input);
+		this.table = table;
+		this.preserveOriginal = preserveOriginal;
 	}
 
 
 	@Override
 	public final boolean incrementToken() throws IOException
 	{
+		if (state != null)
+		{
+			assert preserveOriginal : "state should only be captured if preserveOriginal is true";
+			restoreState(state);
+			state = null;
+			charTermAttr.copyBuffer(output, 0, outputPos);
+			posIncAttr.setPositionIncrement(0);
+			return true;
+		}
+
 		if (input.incrementToken())
 		{
 			final char[] buffer = charTermAttr.buffer();
 			final int bufferLen = charTermAttr.length();
-			for (int i = 0 ; i < bufferLen ; ++i)
+			// If no characters actually require rewriting then we
+			// just return token as-is
+			if (table.hasMapping(buffer, 0, bufferLen))
 			{
-				final char c = buffer[i];
-				// If no characters actually require rewriting then we
-				// just return token as-is
-				if (c >= '\u3000')
-				{
+				if (preserveOriginal)
+					foldPreservingOriginal(buffer, bufferLen);
+				else
 					mapUnicode(buffer, bufferLen);
-					charTermAttr.copyBuffer(output, 0, outputPos);
-					break;
-				}
 			}
 			return true;
 		}
@@ -55,2040 +93,114 @@ public class CJKFoldingFilter extends TokenFilter
 		return false;
 	}
 
+	@Override
+	public void reset() throws IOException
+	{
+		super.reset();
+		state = null;
+	}
+
 	/**
-	* Maps Unicode characters per variant2Trad map below.
-	* @param input The string to fold
+	* Maps Unicode characters per variant2Trad table below and sets the term to
+	* the result.  When every mapping keeps the UTF-16 length, as all of
+	* variant2Trad does, the term buffer is rewritten in place; otherwise the
+	* result is built in a scratch buffer and copied back.
+	* @param input The string to fold; may be the term buffer itself
 	* @param length The number of characters in the input string
 	*/
 	public void mapUnicode(char[] input, int length)
 	{
-		// Worst-case length required:
-		final int maxSizeNeeded = 4 * length;
-		if (output.length < maxSizeNeeded)
+		if (table.isLengthPreserving())
+		{
+			mapUnicode(table, input, 0, charTermAttr.resizeBuffer(length), 0, length);
+			charTermAttr.setLength(length);
+			return;
+		}
+
+		mapToOutput(input, length);
+	    charTermAttr.copyBuffer(output, 0, outputPos);
+	}
+
+	/**
+	 * Folds the term into the scratch buffer, leaving the term as it is.  If
+	 * folding changed it, the folded term is returned by the next call to
+	 * incrementToken.
+	 */
+	private void foldPreservingOriginal(char[] input, int length)
+	{
+		mapToOutput(input, length);
+		if (!Arrays.equals(input, 0, length, output, 0, outputPos))
+			state = captureState();
+	}
+
+	private void mapToOutput(char[] input, int length)
+	{
+		// Worst-case length required: every char becomes a surrogate pair
+		final int maxSizeNeeded = 2 * length;
+		if (output == null || output.length < maxSizeNeeded)
 			output = new char[ArrayUtil.oversize(maxSizeNeeded, Character.BYTES)];
 
-	    outputPos = mapUnicode(input, 0, output, 0, length);
+	    outputPos = mapUnicode(table, input, 0, output, 0, length);
 	}
 
 
 	/**
-	 * Maps Unicode characters per variant2Trad map below.
+	 * Maps Unicode characters per variant2Trad table below.
 	 * @param input     The characters to map
 	 * @param inputPos  Index of the first character to map
-	 * @param output    The result of the mapping. Should be of size >= {@code length * 4}.
+	 * @param output    The result of the mapping. Should be of size >= {@code length * 2}.
+	 *                  May be input itself if the mappings keep the UTF-16 length.
 	 * @param outputPos Index of output where to put the result of the mapping
 	 * @param length    The number of characters to map
 	 * @return length of output
 	 */
 	public static final int mapUnicode(char input[], int inputPos, char output[], int outputPos, int length)
+	{
+		return mapUnicode(Variant2Trad.TABLE, input, inputPos, output, outputPos, length);
+	}
+
+	/**
+	 * Maps Unicode code points per the given table.  Surrogate pairs are
+	 * mapped as a single code point; unpaired surrogates are kept as-is.
+	 * @see #mapUnicode(char[], int, char[], int, int)
+	 */
+	static int mapUnicode(FoldingTable table, char input[], int inputPos, char output[], int outputPos, int length)
 	{
 		final int end = inputPos + length;
+		final int threshold = table.threshold();
 		for (int pos = inputPos; pos < end ; ++pos)
 		{
 			final char c = input[pos];
 
 			// Quick test: if it's not in range then just keep current character
-			if (c < '\u3000')
+			if (c < threshold)
 				output[outputPos++] = c;
 			else
 			{
 				// check for Japanese Modern chars that aren't the same as Han Simplified
-				if (variant2Trad.containsKey(String.valueOf(c)))
-				{
-					String mapped = variant2Trad.get(String.valueOf(c));
-					int mappedLen = mapped.length();
-					for (int i = 0; i < mappedLen; i++)
-					{
-						output[outputPos++] = mapped.charAt(i);
-					}
-				}
+				final int mapped;
+				if (Character.isHighSurrogate(c) && pos + 1 < end && Character.isLowSurrogate(input[pos + 1]))
+					mapped = table.get(Character.toCodePoint(c, input[++pos]));
+				else
+					mapped = table.bmpGet(c);
+
+				if (mapped <= Character.MAX_VALUE)
+					output[outputPos++] = (char) mapped;
 				else
-					output[outputPos++] = c;
+					outputPos += Character.toChars(mapped, output, outputPos);
 			}
 		}
 		return outputPos;
 	}
 
-	private static AbstractMap<String, String> variant2Trad = new HashMap<String, String>();
+	/**
+	 * Holder for the variant2Trad table, compiled from
+	 * stanford_cjk_transliterations.txt at build time.  The JVM runs its static
+	 * initializer exactly once, on first use, and safely publishes the loaded
+	 * table to every thread; the table is immutable.
+	 */
+	private static final class Variant2Trad
 	{
-		variant2Trad.put(String.valueOf('\u4E21'), String.valueOf('\u5169')); // modern 両 => trad 兩
-		variant2Trad.put(String.valueOf('\u4E26'), String.valueOf('\u7ADD')); // modern 並 => trad 竝
-		variant2Trad.put(String.valueOf('\u4E57'), String.valueOf('\u4E58')); // modern 乗 => trad 乘
-		variant2Trad.put(String.valueOf('\u4E88'), String.valueOf('\u8C6B')); // modern 予 => trad 豫
-		variant2Trad.put(String.valueOf('\u4E9C'), String.valueOf('\u4E9E')); // modern 亜 => trad 亞
-		variant2Trad.put(String.valueOf('\u4FA1'), String.valueOf('\u50F9')); // modern 価 => trad 價
-		variant2Trad.put(String.valueOf('\u4ECF'), String.valueOf('\u4F5B')); // modern 仏 => trad 佛
-		variant2Trad.put(String.valueOf('\u4EEE'), String.valueOf('\u5047')); // modern 仮 => trad 假
-		variant2Trad.put(String.valueOf('\u4F1D'), String.valueOf('\u50B3')); // modern 伝 => trad 傳
-
-		variant2Trad.put(String.valueOf('\u5039'), String.valueOf('\u5109')); // modern 倹 => trad 儉
-		variant2Trad.put(String.valueOf('\u5150'), String.valueOf('\u5152')); // modern 児 => trad 兒
-		variant2Trad.put(String.valueOf('\u5186'), String.valueOf('\u5713')); // modern 円 => trad 圓
-		variant2Trad.put(String.valueOf('\u51E6'), String.valueOf('\u8655')); // modern 処 => trad 處
-		variant2Trad.put(String.valueOf('\u520A'), String.valueOf('\u520B')); // modern 刊 => trad 刋
-		variant2Trad.put(String.valueOf('\u5263'), String.valueOf('\u528D')); // modern 剣 => trad 劍
-		variant2Trad.put(String.valueOf('\u5264'), String.valueOf('\u5291')); // modern 剤 => trad 劑
-		variant2Trad.put(String.valueOf('\u5270'), String.valueOf('\u5269')); // modern 剰 => trad 剩
-		variant2Trad.put(String.valueOf('\u52B4'), String.valueOf('\u52DE')); // modern 労 => trad 勞
-		variant2Trad.put(String.valueOf('\u52E7'), String.valueOf('\u52F8')); // modern 勧 => trad 勸
-		variant2Trad.put(String.valueOf('\u52F2'), String.valueOf('\u52F3')); // modern 勲 => trad 勳
-		variant2Trad.put(String.valueOf('\u5358'), String.valueOf('\u55AE')); // modern 単 => trad 單
-		variant2Trad.put(String.valueOf('\u5373'), String.valueOf('\u537D')); // modern 即 => trad 卽
-		variant2Trad.put(String.valueOf('\u53B3'), String.valueOf('\u56B4')); // modern 厳 => trad 嚴
-		variant2Trad.put(String.valueOf('\u53CE'), String.valueOf('\u6536')); // modern 収 => trad 收
-		variant2Trad.put(String.valueOf('\u53D9'), String.valueOf('\u654D')); // modern 叙 => trad 敍
-		variant2Trad.put(String.valueOf('\u55B6'), String.valueOf('\u71DF')); // modern 営 => trad 營
-		variant2Trad.put(String.valueOf('\u5606'), String.valueOf('\uFA37')); // modern 嘆 => trad 嘆
-		variant2Trad.put(String.valueOf('\u56E3'), String.valueOf('\u5718')); // modern 団 => trad 團
-		variant2Trad.put(String.valueOf('\u56EF'), String.valueOf('\u570B')); // variant 囯 => trad 國
-		variant2Trad.put(String.valueOf('\u56F2'), String.valueOf('\u570D')); // modern 囲 => trad 圍
-		variant2Trad.put(String.valueOf('\u56F3'), String.valueOf('\u5716')); // modern 図 => trad 圖
-		variant2Trad.put(String.valueOf('\u570F'), String.valueOf('\u5708')); // modern 圏 => trad 圈
-		variant2Trad.put(String.valueOf('\u5727'), String.valueOf('\u58D3')); // modern 圧 => trad 壓
-		variant2Trad.put(String.valueOf('\u5841'), String.valueOf('\u58D8')); // modern 塁 => trad 壘
-		variant2Trad.put(String.valueOf('\u5869'), String.valueOf('\u9E7D')); // modern 塩 => trad 鹽
-		variant2Trad.put(String.valueOf('\u5897'), String.valueOf('\u589E')); // modern 増 => trad 增
-		variant2Trad.put(String.valueOf('\u58CA'), String.valueOf('\u58DE')); // modern 壊 => trad 壞
-		variant2Trad.put(String.valueOf('\u58CC'), String.valueOf('\u58E4')); // modern 壌 => trad 壤
-		variant2Trad.put(String.valueOf('\u58F2'), String.valueOf('\u8CE3')); // modern 売 => trad 賣
-		variant2Trad.put(String.valueOf('\u5909'), String.valueOf('\u8B8A')); // modern 変 => trad 變
-		variant2Trad.put(String.valueOf('\u5968'), String.valueOf('\u596C')); // modern 奨 => trad 奬
-		variant2Trad.put(String.valueOf('\u59EB'), String.valueOf('\u59EC')); // modern 姫 => trad 姬 (by Mieko's request SW-988)
-		variant2Trad.put(String.valueOf('\u5B22'), String.valueOf('\u5B43')); // modern 嬢 => trad 孃
-		variant2Trad.put(String.valueOf('\u5B9F'), String.valueOf('\u5BE6')); // modern 実 => trad 實
-		variant2Trad.put(String.valueOf('\u5BDB'), String.valueOf('\u5BEC')); // modern 寛 => trad 寬
-		variant2Trad.put(String.valueOf('\u5BFE'), String.valueOf('\u5C0D')); // modern 対 => trad 對
-		variant2Trad.put(String.valueOf('\u5C02'), String.valueOf('\u5C08')); // modern 専 => trad 專
-		variant2Trad.put(String.valueOf('\u5C64'), String.valueOf('\uFA3B')); // modern 層 => trad 層
-		variant2Trad.put(String.valueOf('\u5DBD'), String.valueOf('\u5CB3')); // trad 嶽 => simp 岳 (not in ICU translation)
-		variant2Trad.put(String.valueOf('\u5DDE'), String.valueOf('\u6D32')); // modern 州 => trad 洲
-		variant2Trad.put(String.valueOf('\u5DE3'), String.valueOf('\u5DE2')); // modern 巣 => trad 巢
-		variant2Trad.put(String.valueOf('\u5DFB'), String.valueOf('\u5377')); // modern 巻 => trad 卷
-		variant2Trad.put(String.valueOf('\u5E2F'), String.valueOf('\u5E36')); // modern 帯 => trad 帶
-		variant2Trad.put(String.valueOf('\u5E30'), String.valueOf('\u6B78')); // modern 帰 => trad 歸
-		variant2Trad.put(String.valueOf('\u5E81'), String.valueOf('\u5EF3')); // modern 庁 => trad 廳
-		variant2Trad.put(String.valueOf('\u5E83'), String.valueOf('\u5EE3')); // modern 広 => trad 廣
-		variant2Trad.put(String.valueOf('\u5EC3'), String.valueOf('\u5EE2')); // modern 廃 => trad 廢
-		variant2Trad.put(String.valueOf('\u5F3E'), String.valueOf('\u5F48')); // modern 弾 => trad 彈
-		variant2Trad.put(String.valueOf('\u5F93'), String.valueOf('\u5F9E')); // modern 従 => trad 從
-		variant2Trad.put(String.valueOf('\u5FB3'), String.valueOf('\u5FB7')); // modern 徳 => trad 德
-		variant2Trad.put(String.valueOf('\u5FB4'), String.valueOf('\u5FB5')); // modern 徴 => trad 徵
-		variant2Trad.put(String.valueOf('\u5FDC'), String.valueOf('\u61C9')); // modern 応 => trad 應
-
-		variant2Trad.put(String.valueOf('\u6075'), String.valueOf('\u60E0')); // modern 恵 => trad 惠
-		variant2Trad.put(String.valueOf('\u60A9'), String.valueOf('\u60F1')); // modern 悩 => trad 惱
-		variant2Trad.put(String.valueOf('\u61D0'), String.valueOf('\u61F7')); // modern 懐 => trad 懷
-		variant2Trad.put(String.valueOf('\u61F2'), String.valueOf('\uFA40')); // modern 懲 => trad 懲
-		variant2Trad.put(String.valueOf('\u6226'), String.valueOf('\u6230')); // modern 戦 => trad 戰
-		variant2Trad.put(String.valueOf('\u6231'), String.valueOf('\u6232')); // variant 戯 => trad 戲
-		variant2Trad.put(String.valueOf('\u622F'), String.valueOf('\u6232')); // modern 戯 => trad 戲
-		variant2Trad.put(String.valueOf('\u6238'), String.valueOf('\u6236')); // modern 戸 => trad 戶
-		variant2Trad.put(String.valueOf('\u623B'), String.valueOf('\u623E')); // modern 戻 => trad 戾
-		variant2Trad.put(String.valueOf('\u6255'), String.valueOf('\u62C2')); // modern 払 => trad 拂
-		variant2Trad.put(String.valueOf('\u629C'), String.valueOf('\u62D4')); // modern 抜 => trad 拔
-		variant2Trad.put(String.valueOf('\u629E'), String.valueOf('\u64C7')); // modern 択 => trad 擇
-		variant2Trad.put(String.valueOf('\u62DD'), String.valueOf('\u62DC')); // modern 拝 => trad 拜
-		variant2Trad.put(String.valueOf('\u62E0'), String.valueOf('\u64DA')); // modern 拠 => trad 據
-		variant2Trad.put(String.valueOf('\u62E1'), String.valueOf('\u64F4')); // modern 拡 => trad 擴
-		variant2Trad.put(String.valueOf('\u635C'), String.valueOf('\u641C')); // modern 捜 => trad 搜
-		variant2Trad.put(String.valueOf('\u63B2'), String.valueOf('\u63ED')); // modern 掲 => trad 揭
-		variant2Trad.put(String.valueOf('\u63FA'), String.valueOf('\u6416')); // modern 揺 => trad 搖
-		variant2Trad.put(String.valueOf('\u6442'), String.valueOf('\u651D')); // modern 摂 => trad 攝
-		variant2Trad.put(String.valueOf('\u6483'), String.valueOf('\u64CA')); // modern 撃 => trad 擊
-		variant2Trad.put(String.valueOf('\u654E'), String.valueOf('\u6559')); // variant 敎 => trad 教
-		variant2Trad.put(String.valueOf('\u658E'), String.valueOf('\u9F4B')); // modern 斎 => trad 齋
-		variant2Trad.put(String.valueOf('\u65E2'), String.valueOf('\u65E3')); // modern 既 => trad 旣
-		variant2Trad.put(String.valueOf('\u6669'), String.valueOf('\u665A')); // modern 晩 => trad 晚
-		variant2Trad.put(String.valueOf('\u6681'), String.valueOf('\u66C9')); // modern 暁 => trad 曉
-		variant2Trad.put(String.valueOf('\u66A6'), String.valueOf('\u66C6')); // modern 暦 => trad 曆
-		variant2Trad.put(String.valueOf('\u67FB'), String.valueOf('\u67E5')); // modern 査 => trad 查
-		variant2Trad.put(String.valueOf('\u6804'), String.valueOf('\u69AE')); // modern 栄 => trad 榮
-		variant2Trad.put(String.valueOf('\u685C'), String.valueOf('\u6AFB')); // modern 桜 => trad 櫻
-		variant2Trad.put(String.valueOf('\u685F'), String.valueOf('\u68E7')); // modern 桟 => trad 棧
-		variant2Trad.put(String.valueOf('\u691C'), String.valueOf('\u6AA2')); // modern 検 => trad 檢
-		variant2Trad.put(String.valueOf('\u697D'), String.valueOf('\u6A02')); // modern 楽 => trad 樂
-		variant2Trad.put(String.valueOf('\u69D8'), String.valueOf('\u6A23')); // modern 様 => trad 樣
-		variant2Trad.put(String.valueOf('\u6A29'), String.valueOf('\u6B0A')); // modern 権 => trad 權
-		variant2Trad.put(String.valueOf('\u6B20'), String.valueOf('\u7F3A')); // modern 欠 => trad 缺
-		variant2Trad.put(String.valueOf('\u6B69'), String.valueOf('\u6B65')); // modern 歩 => trad 步
-		variant2Trad.put(String.valueOf('\u6B6F'), String.valueOf('\u9F52')); // modern 歯 => trad 齒
-		variant2Trad.put(String.valueOf('\u6B74'), String.valueOf('\u6B77')); // modern 歴 => trad 歷
-		variant2Trad.put(String.valueOf('\u6BBB'), String.valueOf('\u6BBC')); // modern 殻 => trad 殼
-		variant2Trad.put(String.valueOf('\u6BCE'), String.valueOf('\u6BCF')); // modern 毎 => trad 每
-		variant2Trad.put(String.valueOf('\u6C17'), String.valueOf('\u6C23')); // modern 気 => trad 氣
-		variant2Trad.put(String.valueOf('\u6CA2'), String.valueOf('\u6FA4')); // modern 沢 => trad 澤
-		variant2Trad.put(String.valueOf('\u6D5C'), String.valueOf('\u6FF1')); // modern 浜 => trad 濱
-		variant2Trad.put(String.valueOf('\u6D99'), String.valueOf('\u6DDA')); // modern 涙 => trad 淚
-		variant2Trad.put(String.valueOf('\u6E07'), String.valueOf('\u6E34')); // modern 渇 => trad 渴
-		variant2Trad.put(String.valueOf('\u6E08'), String.valueOf('\u6FDF')); // modern 済 => trad 濟
-		variant2Trad.put(String.valueOf('\u6E09'), String.valueOf('\u6D89')); // modern 渉 => trad 涉
-		variant2Trad.put(String.valueOf('\u6E80'), String.valueOf('\u6EFF')); // modern 満 => trad 滿
-		variant2Trad.put(String.valueOf('\u6EDD'), String.valueOf('\u7027')); // modern 滝 => trad 瀧
-		variant2Trad.put(String.valueOf('\u6F22'), String.valueOf('\uFA47')); // modern 漢 => trad 漢
-
-		variant2Trad.put(String.valueOf('\u702C'), String.valueOf('\u7028')); // modern 瀬 => trad 瀨
-		variant2Trad.put(String.valueOf('\u713C'), String.valueOf('\u71D2')); // modern 焼 => trad 燒
-		variant2Trad.put(String.valueOf('\u72A0'), String.valueOf('\u72A7')); // modern 犠 => trad 犧
-		variant2Trad.put(String.valueOf('\u731F'), String.valueOf('\u7375')); // modern 猟 => trad 獵
-		variant2Trad.put(String.valueOf('\u7363'), String.valueOf('\u7378')); // modern 獣 => trad 獸
-		variant2Trad.put(String.valueOf('\u74F6'), String.valueOf('\u7501')); // modern 瓶 => trad 甁
-		variant2Trad.put(String.valueOf('\u752F'), String.valueOf('\u5BE7')); // variant 甯 => trad 寧
-		variant2Trad.put(String.valueOf('\u7573'), String.valueOf('\u758A')); // modern 畳 => trad 疊
-		variant2Trad.put(String.valueOf('\u767A'), String.valueOf('\u767C')); // modern 発 => trad 發
-		variant2Trad.put(String.valueOf('\u770C'), String.valueOf('\u7E23')); // modern 県 => trad 縣
-		variant2Trad.put(String.valueOf('\u7815'), String.valueOf('\u788E')); // modern 砕 => trad 碎
-		variant2Trad.put(String.valueOf('\u798D'), String.valueOf('\uFA52')); // modern 禍 => trad 禍
-		variant2Trad.put(String.valueOf('\u7A32'), String.valueOf('\u7A3B')); // modern 稲 => trad 稻
-		variant2Trad.put(String.valueOf('\u7A40'), String.valueOf('\uFA54')); // modern 穀 => trad 穀
-		variant2Trad.put(String.valueOf('\u7A42'), String.valueOf('\u7A57')); // modern 穂 => trad 穗
-		variant2Trad.put(String.valueOf('\u7A4F'), String.valueOf('\u7A69')); // modern 穏 => trad 穩
-		variant2Trad.put(String.valueOf('\u7BC0'), String.valueOf('\uFA56')); // modern 節 => trad 節
-		variant2Trad.put(String.valueOf('\u7C8B'), String.valueOf('\u7CB9')); // modern 粋 => trad 粹
-		variant2Trad.put(String.valueOf('\u7C9B'), String.valueOf('\u8085')); // modern 粛 => trad 肅
-		variant2Trad.put(String.valueOf('\u7CF8'), String.valueOf('\u7D72')); // modern 糸 => trad 絲
-		variant2Trad.put(String.valueOf('\u7D4C'), String.valueOf('\u7D93')); // modern 経 => trad 經
-		variant2Trad.put(String.valueOf('\u7D75'), String.valueOf('\u7E6A')); // modern 絵 => trad 繪
-		variant2Trad.put(String.valueOf('\u7D99'), String.valueOf('\u7E7C')); // modern 継 => trad 繼
-		variant2Trad.put(String.valueOf('\u7D9A'), String.valueOf('\u7E8C')); // modern 続 => trad 續
-		variant2Trad.put(String.valueOf('\u7DCF'), String.valueOf('\u7E3D')); // modern 総 => trad 總
-		variant2Trad.put(String.valueOf('\u7DD6'), String.valueOf('\u7DD2')); // variant 緖 => trad 緒
-		variant2Trad.put(String.valueOf('\u7DF4'), String.valueOf('\uFA57')); // modern 練 => trad 練
-		variant2Trad.put(String.valueOf('\u7E01'), String.valueOf('\u7DE3')); // modern 縁 => trad 緣
-		variant2Trad.put(String.valueOf('\u7E04'), String.valueOf('\u7E69')); // modern 縄 => trad 繩
-		variant2Trad.put(String.valueOf('\u7E4A'), String.valueOf('\u7E96')); // modern 繊 => trad 纖
-		variant2Trad.put(String.valueOf('\u7F36'), String.valueOf('\u7F50')); // modern 缶 => trad 罐
-
-		variant2Trad.put(String.valueOf('\u8074'), String.valueOf('\u807D')); // modern 聴 => trad 聽
-		variant2Trad.put(String.valueOf('\u8133'), String.valueOf('\u8166')); // modern 脳 => trad 腦
-		variant2Trad.put(String.valueOf('\u81D3'), String.valueOf('\u81DF')); // modern 臓 => trad 臟
-		variant2Trad.put(String.valueOf('\u8358'), String.valueOf('\u838A')); // modern 荘 => trad 莊
-		variant2Trad.put(String.valueOf('\u8457'), String.valueOf('\uFA5F')); // modern 著 => trad 著
-		variant2Trad.put(String.valueOf('\u8535'), String.valueOf('\u85CF')); // modern 蔵 => trad 藏
-		variant2Trad.put(String.valueOf('\u85AB'), String.valueOf('\u85B0')); // modern 薫 => trad 薰
-		variant2Trad.put(String.valueOf('\u85AC'), String.valueOf('\u85E5')); // modern 薬 => trad 藥
-		variant2Trad.put(String.valueOf('\u86CD'), String.valueOf('\u87A2')); // modern 蛍 => trad 螢
-		variant2Trad.put(String.valueOf('\u8912'), String.valueOf('\u8943')); // modern 褒 => trad 襃
-		variant2Trad.put(String.valueOf('\u8987'), String.valueOf('\u9738')); // modern 覇 => trad 霸
-		variant2Trad.put(String.valueOf('\u8996'), String.valueOf('\uFA61')); // modern 視 => trad 視
-		variant2Trad.put(String.valueOf('\u89A7'), String.valueOf('\u89BD')); // modern 覧 => trad 覽
-		variant2Trad.put(String.valueOf('\u8A33'), String.valueOf('\u8B6F')); // modern 訳 => trad 譯
-		variant2Trad.put(String.valueOf('\u8AAD'), String.valueOf('\u8B80')); // modern 読 => trad 讀
-		variant2Trad.put(String.valueOf('\u8AF8'), String.valueOf('\uFA22')); // modern 諸 => trad 諸
-		variant2Trad.put(String.valueOf('\u8B01'), String.valueOf('\uFA62')); // modern 謁 => trad 謁
-		variant2Trad.put(String.valueOf('\u8B39'), String.valueOf('\uFA63')); // modern 謹 => trad 謹
-		variant2Trad.put(String.valueOf('\u8B72'), String.valueOf('\u8B93')); // modern 譲 => trad 讓
-		variant2Trad.put(String.valueOf('\u8C4A'), String.valueOf('\u8C50')); // modern 豊 => trad 豐
-		variant2Trad.put(String.valueOf('\u8CD3'), String.valueOf('\uFA64')); // modern 賓 => trad 賓
-		variant2Trad.put(String.valueOf('\u8D08'), String.valueOf('\uFA65')); // modern 贈 => trad 贈
-		variant2Trad.put(String.valueOf('\u8EE2'), String.valueOf('\u8F49')); // modern 転 => trad 轉
-		variant2Trad.put(String.valueOf('\u8EFD'), String.valueOf('\u8F15')); // modern 軽 => trad 輕
-		variant2Trad.put(String.valueOf('\u8FBA'), String.valueOf('\u908A')); // modern 辺 => trad 邊
-
-		variant2Trad.put(String.valueOf('\u9013'), String.valueOf('\u905E')); // modern 逓 => trad 遞
-		variant2Trad.put(String.valueOf('\u9045'), String.valueOf('\u9072')); // modern 遅 => trad 遲
-		variant2Trad.put(String.valueOf('\u90CE'), String.valueOf('\u90DE')); // modern 郎 => trad 郞
-		variant2Trad.put(String.valueOf('\u9154'), String.valueOf('\u9189')); // modern 酔 => trad 醉
-		variant2Trad.put(String.valueOf('\u91B8'), String.valueOf('\u91C0')); // modern 醸 => trad 釀
-		variant2Trad.put(String.valueOf('\u91C8'), String.valueOf('\u91CB')); // modern 釈 => trad 釋
-		variant2Trad.put(String.valueOf('\u9244'), String.valueOf('\u9435')); // modern 鉄 => trad 鐵
-		variant2Trad.put(String.valueOf('\u92AD'), String.valueOf('\u9322')); // modern 銭 => trad 錢
-		variant2Trad.put(String.valueOf('\u932C'), String.valueOf('\u934A')); // modern 錬 => trad 鍊
-		variant2Trad.put(String.valueOf('\u93AE'), String.valueOf('\u93AD')); // modern 鎮 => trad 鎭
-		variant2Trad.put(String.valueOf('\u9665'), String.valueOf('\u9677')); // modern 陥 => trad 陷
-		variant2Trad.put(String.valueOf('\u967A'), String.valueOf('\u96AA')); // modern 険 => trad 險
-		variant2Trad.put(String.valueOf('\u96A0'), String.valueOf('\u96B1')); // modern 隠 => trad 隱
-		variant2Trad.put(String.valueOf('\u96D1'), String.valueOf('\u96DC')); // modern 雑 => trad 雜
-		variant2Trad.put(String.valueOf('\u96E3'), String.valueOf('\uFA68')); // modern 難 => trad 難
-		variant2Trad.put(String.valueOf('\u970A'), String.valueOf('\u9748')); // modern 霊 => trad 靈
-		variant2Trad.put(String.valueOf('\u97FF'), String.valueOf('\uFA69')); // modern 響 => trad 響
-		variant2Trad.put(String.valueOf('\u983B'), String.valueOf('\uFA6A')); // modern 頻 => trad 頻
-		variant2Trad.put(String.valueOf('\u983C'), String.valueOf('\u8CF4')); // modern 頼 => trad 賴
-		variant2Trad.put(String.valueOf('\u9855'), String.valueOf('\u986F')); // modern 顕 => trad 顯
-		variant2Trad.put(String.valueOf('\u99C5'), String.valueOf('\u9A5B')); // modern 駅 => trad 驛
-		variant2Trad.put(String.valueOf('\u9A12'), String.valueOf('\u9A37')); // modern 騒 => trad 騷
-		variant2Trad.put(String.valueOf('\u9A13'), String.valueOf('\u9A57')); // modern 験 => trad 驗
-		variant2Trad.put(String.valueOf('\u9AEA'), String.valueOf('\u9AEE')); // modern 髪 => trad 髮
-		variant2Trad.put(String.valueOf('\u9D8F'), String.valueOf('\u9DC4')); // modern 鶏 => trad 鷄
-		variant2Trad.put(String.valueOf('\u9ED2'), String.valueOf('\u9ED1')); // modern 黒 => trad 黑
-		variant2Trad.put(String.valueOf('\u9ED9'), String.valueOf('\u9ED8')); // modern 黙 => trad 默
-		variant2Trad.put(String.valueOf('\u9F62'), String.valueOf('\u9F61')); // modern 齢 => trad 齡
-
-		// Additional mappings from the follwing sources:
-		// "TSVCC" The Hong Kong TSVCC table - http://hkiug.ln.edu.hk/unicode/hkiug_tsvcc_table-UnicodeVersion-1.0.html
-		// "LOC" - The LOC CJK Compatibility Database - http://www.loc.gov/ils/cjk_search/browse.php
-		// "KOREAN" - Korean Pronunciation Compatibility Table
-		// "PRINCETON" - Ex Libris Provided Mappings Used in Primo
-
-		// Some mappings are included in multiple tables (denoted by a &)
-		// Some mappings newly derived character equivalences based on combinations across multiple tables (denoted by a +)
-		// For instance:
-		// TSVCC contains \u8844 -> \u8842 and KOREAN contains \u8842 -> \u4610, so we now have \u8844 -> \u4610
-		variant2Trad.put(String.valueOf('\uF991'), String.valueOf('\u637B')); // 撚 => 捻 ((KOREAN&LOC&TSVCC)+PRINCETON)
-		variant2Trad.put(String.valueOf('\u8844'), String.valueOf('\u4610')); // 衄 => 䘐 (KOREAN+TSVCC)
-		variant2Trad.put(String.valueOf('\u6F4A'), String.valueOf('\u6E86')); // 潊 => 溆 (LOC+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u63C5'), String.valueOf('\u5733')); // 揅 => 圳 (LOC+TSVCC)
-		variant2Trad.put(String.valueOf('\uFA11'), String.valueOf('\u57FC')); // 﨑 => 埼 (LOC+TSVCC)
-		variant2Trad.put(String.valueOf('\u7E26'), String.valueOf('\u7DC3')); // 縦 => 緃 (LOC+TSVCC)
-		variant2Trad.put(String.valueOf('\u7EB5'), String.valueOf('\u7DC3')); // 纵 => 緃 (LOC+TSVCC)
-		variant2Trad.put(String.valueOf('\u92BC'), String.valueOf('\u5249')); // 銼 => 剉 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u929C'), String.valueOf('\u5563')); // 銜 => 啣 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u9304'), String.valueOf('\u5F54')); // 錄 => 彔 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u76E4'), String.valueOf('\u69C3')); // 盤 => 槃 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u79B0'), String.valueOf('\u6AB7')); // 禰 => 檷 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u88AE'), String.valueOf('\u6AB7')); // 袮 => 檷 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u8967'), String.valueOf('\u6AB7')); // 襧 => 檷 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u991A'), String.valueOf('\u6BBD')); // 餚 => 殽 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u8B6D'), String.valueOf('\u6BC0')); // 譭 => 毀 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u9839'), String.valueOf('\u7A68')); // 頹 => 穨 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u9076'), String.valueOf('\u7E5E')); // 遶 => 繞 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u937C'), String.valueOf('\u91DD')); // 鍼 => 針 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u9470'), String.valueOf('\u9205')); // 鑰 => 鈅 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u9B2B'), String.valueOf('\u95DE')); // 鬫 => 闞 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u995F'), String.valueOf('\u9909')); // 饟 => 餉 (PRINCETON+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u7E3E'), String.valueOf('\u52E3')); // 績 => 勣 (PRINCETON+PRINCETON&TSVCC)
-		variant2Trad.put(String.valueOf('\u97A6'), String.valueOf('\u418B')); // 鞦 => 䆋 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u5F69'), String.valueOf('\u433D')); // 彩 => 䌽 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8913'), String.valueOf('\u4340')); // 褓 => 䍀 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8934'), String.valueOf('\u4340')); // 褴 => 䍀 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u6446'), String.valueOf('\u4653')); // 摆 => 䙓 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u64FA'), String.valueOf('\u4653')); // 擺 => 䙓 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u5FFB'), String.valueOf('\u4723')); // 忻 => 䜣 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u6B23'), String.valueOf('\u4723')); // 欣 => 䜣 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9AF4'), String.valueOf('\u4F5B')); // 髴 => 佛 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u5D18'), String.valueOf('\u4ED1')); // 崘 => 仑 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\uF9D5'), String.valueOf('\u4ED1')); // 崙 => 仑 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u97C6'), String.valueOf('\u4EDF')); // 韆 => 仟 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u5FAC'), String.valueOf('\u4EFF')); // 徬 => 仿 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u509A'), String.valueOf('\u4FF2')); // 傚 => 俲 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u84FA'), String.valueOf('\u517F')); // 蓺 => 兿 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u94C7'), String.valueOf('\u5228')); // 铇 => 刨 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u5284'), String.valueOf('\u5273')); // 劄 => 剳 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u938C'), String.valueOf('\u5286')); // 鎌 => 劆 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u6702'), String.valueOf('\u52D6')); // 朂 => 勖 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8D52'), String.valueOf('\u5468')); // 赒 => 周 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u7877'), String.valueOf('\u583F')); // 硷 => 堿 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u7906'), String.valueOf('\u583F')); // 礆 => 堿 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9E78'), String.valueOf('\u583F')); // 鹸 => 堿 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9E7C'), String.valueOf('\u583F')); // 鹼 => 堿 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u71D5'), String.valueOf('\u5BB4')); // 燕 => 宴 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9DF0'), String.valueOf('\u5BB4')); // 鷰 => 宴 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u6606'), String.valueOf('\u5D10')); // 昆 => 崐 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8C3F'), String.valueOf('\u5D60')); // 谿 => 嵠 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9332'), String.valueOf('\u5F54')); // 録 => 彔 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\uF93F'), String.valueOf('\u5F54')); // 錄 => 彔 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8BAC'), String.valueOf('\u6258')); // 讬 => 托 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u7274'), String.valueOf('\u627A')); // 牴 => 扺 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u7F9D'), String.valueOf('\u627A')); // 羝 => 扺 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u89DD'), String.valueOf('\u627A')); // 觝 => 扺 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u99C6'), String.valueOf('\u657A')); // 駆 => 敺 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u99C8'), String.valueOf('\u657A')); // 駈 => 敺 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9A45'), String.valueOf('\u657A')); // 驅 => 敺 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9229'), String.valueOf('\u7089')); // 鈩 => 炉 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u71C4'), String.valueOf('\u7114')); // 燄 => 焔 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u840D'), String.valueOf('\u7501')); // 萍 => 甁 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u83FB'), String.valueOf('\u75F2')); // 菻 => 痲 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8534'), String.valueOf('\u75F2')); // 蔴 => 痲 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9EBB'), String.valueOf('\u75F2')); // 麻 => 痲 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u983D'), String.valueOf('\u7A68')); // 頽 => 穨 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u88E5'), String.valueOf('\u7E5D')); // 裥 => 繝 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8947'), String.valueOf('\u7E5D')); // 襇 => 繝 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8716'), String.valueOf('\u8698')); // 蜖 => 蚘 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8CDB'), String.valueOf('\u8B83')); // 賛 => 讃 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8D0A'), String.valueOf('\u8B83')); // 贊 => 讃 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u8D5E'), String.valueOf('\u8B83')); // 赞 => 讃 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u9436'), String.valueOf('\u9208')); // 鐶 => 鈈 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u956E'), String.valueOf('\u9208')); // 镮 => 鈈 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u945A'), String.valueOf('\u9246')); // 鑚 => 鉆 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u947D'), String.valueOf('\u9246')); // 鑽 => 鉆 (PRINCETON+TSVCC)
-		variant2Trad.put(String.valueOf('\u772C'), String.valueOf('\u6727')); // 眬 => 朧 (PRINCETON+TSVCC+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u77D3'), String.valueOf('\u6727')); // 矓 => 朧 (PRINCETON+TSVCC+(PRINCETON&TSVCC))
-		variant2Trad.put(String.valueOf('\u5136'), String.valueOf('\u349E')); // 儶 => 㒞 (KOREAN)
-		variant2Trad.put(String.valueOf('\u8842'), String.valueOf('\u4610')); // 衂 => 䘐 (KOREAN)
-		variant2Trad.put(String.valueOf('\u5365'), String.valueOf('\u5364')); // 卥 => 卤 (KOREAN)
-		variant2Trad.put(String.valueOf('\u63D1'), String.valueOf('\u634F')); // 揑 => 捏 (KOREAN&LOC)
-		variant2Trad.put(String.valueOf('\uF92D'), String.valueOf('\u4F86')); // 來 => 來 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u5E32'), String.valueOf('\u5E21')); // 帲 => 帡 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9D9'), String.valueOf('\u6144')); // 慄 => 慄 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9EE'), String.valueOf('\u71D0')); // 燐 => 燐 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9AE'), String.valueOf('\u7469')); // 瑩 => 瑩 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF93C'), String.valueOf('\u797F')); // 祿 => 祿 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9CF'), String.valueOf('\u7D10')); // 紐 => 紐 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF93D'), String.valueOf('\u7DA0')); // 綠 => 綠 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF957'), String.valueOf('\u7DBE')); // 綾 => 綾 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF950'), String.valueOf('\u7E37')); // 縷 => 縷 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9E7'), String.valueOf('\u88CF')); // 裏 => 裏 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uFA0A'), String.valueOf('\u898B')); // 見 => 見 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF96F'), String.valueOf('\u8AAA')); // 說 => 說 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9A1'), String.valueOf('\u8AAA')); // 說 => 說 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF97D'), String.valueOf('\u8AD2')); // 諒 => 諒 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF941'), String.valueOf('\u8AD6')); // 論 => 論 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF95D'), String.valueOf('\u8AFE')); // 諾 => 諾 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9FC'), String.valueOf('\u8B58')); // 識 => 識 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF948'), String.valueOf('\u8CC2')); // 賂 => 賂 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF903'), String.valueOf('\u8CC8')); // 賈 => 賈 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF902'), String.valueOf('\u8ECA')); // 車 => 車 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF998'), String.valueOf('\u8F26')); // 輦 => 輦 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9D7'), String.valueOf('\u8F2A')); // 輪 => 輪 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uFA07'), String.valueOf('\u8F3B')); // 輻 => 輻 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF98D'), String.valueOf('\u8F62')); // 轢 => 轢 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF92C'), String.valueOf('\u90DE')); // 郎 => 郞 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9B1'), String.valueOf('\u9234')); // 鈴 => 鈴 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF986'), String.valueOf('\u95AD')); // 閭 => 閭 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9B4'), String.valueOf('\u9818')); // 領 => 領 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF91A'), String.valueOf('\u99F1')); // 駱 => 駱 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF987'), String.valueOf('\u9A6A')); // 驪 => 驪 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF939'), String.valueOf('\u9B6F')); // 魯 => 魯 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF9F2'), String.valueOf('\u9C57')); // 鱗 => 鱗 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uF93A'), String.valueOf('\u9DFA')); // 鷺 => 鷺 (KOREAN&LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u5C5B'), String.valueOf('\u5C4F')); // 屛 => 屏 (KOREAN&TSVCC)
-		variant2Trad.put(String.valueOf('\u663B'), String.valueOf('\u6602')); // 昻 => 昂 (LOC)
-		variant2Trad.put(String.valueOf('\u7E31'), String.valueOf('\u7DC3')); // 縱 => 緃 (LOC)
-		variant2Trad.put(String.valueOf('\u6E22'), String.valueOf('\u6CA8')); // 渢 => 沨 (LOC&PRINCETON&TSVCC)
-		variant2Trad.put(String.valueOf('\u9A52'), String.valueOf('\u9A28')); // 驒 => 騨 (LOC&PRINCETON&TSVCC)
-		variant2Trad.put(String.valueOf('\u5EC9'), String.valueOf('\u4EB7')); // 廉 => 亷 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u516A'), String.valueOf('\u4FDE')); // 兪 => 俞 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u5036'), String.valueOf('\u4FF1')); // 倶 => 俱 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u5C2D'), String.valueOf('\u582F')); // 尭 => 堯 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u5C1A'), String.valueOf('\u5C19')); // 尚 => 尙 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u7199'), String.valueOf('\u7155')); // 熙 => 煕 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u98F2'), String.valueOf('\u98EE')); // 飲 => 飮 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uFA2A'), String.valueOf('\u98EF')); // 飯 => 飯 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uFA2B'), String.valueOf('\u98FC')); // 飼 => 飼 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u9AD9'), String.valueOf('\u9AD8')); // 髙 => 高 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\uFA2D'), String.valueOf('\u9DB4')); // 鶴 => 鶴 (LOC&TSVCC)
-		variant2Trad.put(String.valueOf('\u9EB9'), String.valueOf('\u9EB4')); // 麹 => 麴 (LOC&TSVCC)
-
-		// PRINCETON
-		variant2Trad.put(String.valueOf('\u8011'), String.valueOf('\u4E13')); // 耑 => 专
-		variant2Trad.put(String.valueOf('\u5775'), String.valueOf('\u4E18')); // 坵 => 丘
-		variant2Trad.put(String.valueOf('\u7942'), String.valueOf('\u4ED6')); // 祂 => 他
-		variant2Trad.put(String.valueOf('\u592B'), String.valueOf('\u4F15')); // 夫 => 伕
-		variant2Trad.put(String.valueOf('\u7E56'), String.valueOf('\u4F1E')); // 繖 => 伞
-		variant2Trad.put(String.valueOf('\u5113'), String.valueOf('\u4F41')); // 儓 => 佁
-		variant2Trad.put(String.valueOf('\u73EE'), String.valueOf('\u4F69')); // 珮 => 佩
-		variant2Trad.put(String.valueOf('\u5F87'), String.valueOf('\u4F9A')); // 徇 => 侚
-		variant2Trad.put(String.valueOf('\u903C'), String.valueOf('\u506A')); // 逼 => 偪
-		variant2Trad.put(String.valueOf('\u54B1'), String.valueOf('\u507A')); // 咱 => 偺
-		variant2Trad.put(String.valueOf('\u6BAD'), String.valueOf('\u50F5')); // 殭 => 僵
-		variant2Trad.put(String.valueOf('\u924B'), String.valueOf('\u5228')); // 鉋 => 刨
-		variant2Trad.put(String.valueOf('\u9464'), String.valueOf('\u5228')); // 鑤 => 刨
-		variant2Trad.put(String.valueOf('\u8599'), String.valueOf('\u5243')); // 薙 => 剃
-		variant2Trad.put(String.valueOf('\u9509'), String.valueOf('\u5249')); // 锉 => 剉
-		variant2Trad.put(String.valueOf('\u7EE9'), String.valueOf('\u52E3')); // 绩 => 勣
-		variant2Trad.put(String.valueOf('\u9676'), String.valueOf('\u530B')); // 陶 => 匋
-		variant2Trad.put(String.valueOf('\u6BC9'), String.valueOf('\u533B')); // 毉 => 医
-		variant2Trad.put(String.valueOf('\u5DF9'), String.valueOf('\u537A')); // 巹 => 卺
-		variant2Trad.put(String.valueOf('\u8CD9'), String.valueOf('\u5468')); // 賙 => 周
-		variant2Trad.put(String.valueOf('\u5649'), String.valueOf('\u5556')); // 噉 => 啖
-		variant2Trad.put(String.valueOf('\u8854'), String.valueOf('\u5563')); // 衔 => 啣
-		variant2Trad.put(String.valueOf('\u9927'), String.valueOf('\u5582')); // 餧 => 喂
-		variant2Trad.put(String.valueOf('\u8186'), String.valueOf('\u55C9')); // 膆 => 嗉
-		variant2Trad.put(String.valueOf('\u6747'), String.valueOf('\u572C')); // 杇 => 圬
-		variant2Trad.put(String.valueOf('\u73EA'), String.valueOf('\u572D')); // 珪 => 圭
-		variant2Trad.put(String.valueOf('\u58AF'), String.valueOf('\u5815')); // 墯 => 堕
-		variant2Trad.put(String.valueOf('\u78B1'), String.valueOf('\u583F')); // 碱 => 堿
-		variant2Trad.put(String.valueOf('\u5892'), String.valueOf('\u5891')); // 墒 => 墑
-		variant2Trad.put(String.valueOf('\u8B8C'), String.valueOf('\u5BB4')); // 讌 => 宴
-		variant2Trad.put(String.valueOf('\u5D52'), String.valueOf('\u5CA9')); // 嵒 => 岩
-		variant2Trad.put(String.valueOf('\u5F55'), String.valueOf('\u5F54')); // 录 => 彔
-		variant2Trad.put(String.valueOf('\u80CC'), String.valueOf('\u63F9')); // 背 => 揹
-		variant2Trad.put(String.valueOf('\u8B54'), String.valueOf('\u64B0')); // 譔 => 撰
-		variant2Trad.put(String.valueOf('\u9A71'), String.valueOf('\u657A')); // 驱 => 敺
-		variant2Trad.put(String.valueOf('\u7843'), String.valueOf('\u6731')); // 硃 => 朱
-		variant2Trad.put(String.valueOf('\u6B17'), String.valueOf('\u680F')); // 欗 => 栏
-		variant2Trad.put(String.valueOf('\u7887'), String.valueOf('\u6917')); // 碇 => 椗
-		variant2Trad.put(String.valueOf('\u76D8'), String.valueOf('\u69C3')); // 盘 => 槃
-		variant2Trad.put(String.valueOf('\u7962'), String.valueOf('\u6AB7')); // 祢 => 檷
-		variant2Trad.put(String.valueOf('\u6B11'), String.valueOf('\u6AD5')); // 欑 => 櫕
-		variant2Trad.put(String.valueOf('\u80B4'), String.valueOf('\u6BBD')); // 肴 => 殽
-		variant2Trad.put(String.valueOf('\u96F0'), String.valueOf('\u6C1B')); // 雰 => 氛
-		variant2Trad.put(String.valueOf('\u83CF'), String.valueOf('\u6E2E')); // 菏 => 渮
-		variant2Trad.put(String.valueOf('\u946A'), String.valueOf('\u7089')); // 鑪 => 炉
-		variant2Trad.put(String.valueOf('\u8852'), String.valueOf('\u70AB')); // 衒 => 炫
-		variant2Trad.put(String.valueOf('\u73CF'), String.valueOf('\u73A8')); // 珏 => 玨
-		variant2Trad.put(String.valueOf('\u74BF'), String.valueOf('\u7487')); // 璿 => 璇
-		variant2Trad.put(String.valueOf('\u7583'), String.valueOf('\u757D')); // 疃 => 畽
-		variant2Trad.put(String.valueOf('\u75FA'), String.valueOf('\u75F9')); // 痺 => 痹
-		variant2Trad.put(String.valueOf('\u9186'), String.valueOf('\u76CF')); // 醆 => 盏
-		variant2Trad.put(String.valueOf('\u7760'), String.valueOf('\u7737')); // 睠 => 眷
-		variant2Trad.put(String.valueOf('\u77D9'), String.valueOf('\u77B0')); // 矙 => 瞰
-		variant2Trad.put(String.valueOf('\u78BB'), String.valueOf('\u786E')); // 碻 => 确
-		variant2Trad.put(String.valueOf('\u9893'), String.valueOf('\u7A68')); // 颓 => 穨
-		variant2Trad.put(String.valueOf('\u7DB7'), String.valueOf('\u7D23')); // 綷 => 紣
-		variant2Trad.put(String.valueOf('\u8515'), String.valueOf('\u8482')); // 蔕 => 蒂
-		variant2Trad.put(String.valueOf('\u8B6A'), String.valueOf('\u853C')); // 譪 => 蔼
-		variant2Trad.put(String.valueOf('\u86D4'), String.valueOf('\u8698')); // 蛔 => 蚘
-		variant2Trad.put(String.valueOf('\u8782'), String.valueOf('\u870B')); // 螂 => 蜋
-		variant2Trad.put(String.valueOf('\u883C'), String.valueOf('\u8837')); // 蠼 => 蠷
-		variant2Trad.put(String.valueOf('\u8E29'), String.valueOf('\u8DF4')); // 踩 => 跴
-		variant2Trad.put(String.valueOf('\u8FE4'), String.valueOf('\u8FC6')); // 迤 => 迆
-		variant2Trad.put(String.valueOf('\u94A5'), String.valueOf('\u9205')); // 钥 => 鈅
-		variant2Trad.put(String.valueOf('\u94BB'), String.valueOf('\u9246')); // 钻 => 鉆
-		variant2Trad.put(String.valueOf('\u96DD'), String.valueOf('\u96CD')); // 雝 => 雍
-		variant2Trad.put(String.valueOf('\u97DD'), String.valueOf('\u97B2')); // 韝 => 鞲
-		variant2Trad.put(String.valueOf('\u6B4E'), String.valueOf('\uFA37')); // 歎 => 嘆
-
-		// PRINCETON&TSVCC
-		variant2Trad.put(String.valueOf('\u5E76'), String.valueOf('\u7ADD')); // 并 => 竝
-		variant2Trad.put(String.valueOf('\u5EFC'), String.valueOf('\u4E43')); // 廼 => 乃
-		variant2Trad.put(String.valueOf('\u8FFA'), String.valueOf('\u4E43')); // 迺 => 乃
-		variant2Trad.put(String.valueOf('\u50CA'), String.valueOf('\u4ED9')); // 僊 => 仙
-		variant2Trad.put(String.valueOf('\u9AE3'), String.valueOf('\u4EFF')); // 髣 => 仿
-		variant2Trad.put(String.valueOf('\u80C4'), String.valueOf('\u5191')); // 胄 => 冑
-		variant2Trad.put(String.valueOf('\u585A'), String.valueOf('\u51A2')); // 塚 => 冢
-		variant2Trad.put(String.valueOf('\u52E6'), String.valueOf('\u527F')); // 勦 => 剿
-		variant2Trad.put(String.valueOf('\u885B'), String.valueOf('\u536B')); // 衛 => 卫
-		variant2Trad.put(String.valueOf('\u9749'), String.valueOf('\u53C6')); // 靉 => 叆
-		variant2Trad.put(String.valueOf('\u9746'), String.valueOf('\u53C7')); // 靆 => 叇
-		variant2Trad.put(String.valueOf('\u6558'), String.valueOf('\u654D')); // 敘 => 敍
-		variant2Trad.put(String.valueOf('\u777F'), String.valueOf('\u53E1')); // 睿 => 叡
-		variant2Trad.put(String.valueOf('\u8879'), String.valueOf('\u53EA')); // 衹 => 只
-		variant2Trad.put(String.valueOf('\u53F9'), String.valueOf('\uFA37')); // 叹 => 嘆
-		variant2Trad.put(String.valueOf('\u95A4'), String.valueOf('\u5408')); // 閤 => 合
-		variant2Trad.put(String.valueOf('\u9FA2'), String.valueOf('\u548C')); // 龢 => 和
-		variant2Trad.put(String.valueOf('\u54CD'), String.valueOf('\uFA69')); // 响 => 響
-		variant2Trad.put(String.valueOf('\u5613'), String.valueOf('\u556F')); // 嘓 => 啯
-		variant2Trad.put(String.valueOf('\u6076'), String.valueOf('\u5641')); // 恶 => 噁
-		variant2Trad.put(String.valueOf('\u82CF'), String.valueOf('\u56CC')); // 苏 => 囌
-		variant2Trad.put(String.valueOf('\u962F'), String.valueOf('\u5740')); // 阯 => 址
-		variant2Trad.put(String.valueOf('\u962C'), String.valueOf('\u5751')); // 阬 => 坑
-		variant2Trad.put(String.valueOf('\u91CE'), String.valueOf('\u57DC')); // 野 => 埜
-		variant2Trad.put(String.valueOf('\u83EB'), String.valueOf('\u5807')); // 菫 => 堇
-		variant2Trad.put(String.valueOf('\u8986'), String.valueOf('\u590D')); // 覆 => 复
-		variant2Trad.put(String.valueOf('\u6B80'), String.valueOf('\u592D')); // 殀 => 夭
-		variant2Trad.put(String.valueOf('\u7385'), String.valueOf('\u5999')); // 玅 => 妙
-		variant2Trad.put(String.valueOf('\u6DEB'), String.valueOf('\u5A6C')); // 淫 => 婬
-		variant2Trad.put(String.valueOf('\u5B03'), String.valueOf('\u5AAD')); // 嬃 => 媭
-		variant2Trad.put(String.valueOf('\u6127'), String.valueOf('\u5ABF')); // 愧 => 媿
-		variant2Trad.put(String.valueOf('\u61D2'), String.valueOf('\u5B3E')); // 懒 => 嬾
-		variant2Trad.put(String.valueOf('\u7260'), String.valueOf('\u5B83')); // 牠 => 它
-		variant2Trad.put(String.valueOf('\u5BBE'), String.valueOf('\uFA64')); // 宾 => 賓
-		variant2Trad.put(String.valueOf('\u5C42'), String.valueOf('\uFA3B')); // 层 => 層
-		variant2Trad.put(String.valueOf('\u5DA8'), String.valueOf('\u5CC3')); // 嶨 => 峃
-		variant2Trad.put(String.valueOf('\u5D5B'), String.valueOf('\u5D33')); // 嵛 => 崳
-		variant2Trad.put(String.valueOf('\u5ECE'), String.valueOf('\u5EBC')); // 廎 => 庼
-		variant2Trad.put(String.valueOf('\u8FEA'), String.valueOf('\u5EF8')); // 迪 => 廸
-		variant2Trad.put(String.valueOf('\u7BF2'), String.valueOf('\u5F57')); // 篲 => 彗
-		variant2Trad.put(String.valueOf('\u60E9'), String.valueOf('\uFA40')); // 惩 => 懲
-		variant2Trad.put(String.valueOf('\u7609'), String.valueOf('\u6108')); // 瘉 => 愈
-		variant2Trad.put(String.valueOf('\u6B22'), String.valueOf('\u61FD')); // 欢 => 懽
-		variant2Trad.put(String.valueOf('\u634D'), String.valueOf('\u625E')); // 捍 => 扞
-		variant2Trad.put(String.valueOf('\u64A6'), String.valueOf('\u626F')); // 撦 => 扯
-		variant2Trad.put(String.valueOf('\u62FF'), String.valueOf('\u62CF')); // 拿 => 拏
-		variant2Trad.put(String.valueOf('\u67B4'), String.valueOf('\u62D0')); // 枴 => 拐
-		variant2Trad.put(String.valueOf('\u642F'), String.valueOf('\u638F')); // 搯 => 掏
-		variant2Trad.put(String.valueOf('\u8003'), String.valueOf('\u6537')); // 考 => 攷
-		variant2Trad.put(String.valueOf('\u7156'), String.valueOf('\u6696')); // 煖 => 暖
-		variant2Trad.put(String.valueOf('\u672F'), String.valueOf('\u672E')); // 术 => 朮
-		variant2Trad.put(String.valueOf('\u6BBA'), String.valueOf('\u6740')); // 殺 => 杀
-		variant2Trad.put(String.valueOf('\u6B04'), String.valueOf('\u680F')); // 欄 => 栏
-		variant2Trad.put(String.valueOf('\u6966'), String.valueOf('\u6965')); // 楦 => 楥
-		variant2Trad.put(String.valueOf('\u69D9'), String.valueOf('\u69C7')); // 槙 => 槇
-		variant2Trad.put(String.valueOf('\u6BD8'), String.valueOf('\u6BD7')); // 毘 => 毗
-		variant2Trad.put(String.valueOf('\u6C49'), String.valueOf('\uFA47')); // 汉 => 漢
-		variant2Trad.put(String.valueOf('\u6C89'), String.valueOf('\u6C88')); // 沉 => 沈
-		variant2Trad.put(String.valueOf('\u6FD4'), String.valueOf('\u6CB5')); // 濔 => 沵
-		variant2Trad.put(String.valueOf('\u6EAF'), String.valueOf('\u6CDD')); // 溯 => 泝
-		variant2Trad.put(String.valueOf('\u6FDC'), String.valueOf('\u6D55')); // 濜 => 浕
-		variant2Trad.put(String.valueOf('\u6FA3'), String.valueOf('\u6D63')); // 澣 => 浣
-		variant2Trad.put(String.valueOf('\u6FC7'), String.valueOf('\u6DA9')); // 濇 => 涩
-		variant2Trad.put(String.valueOf('\u6F0A'), String.valueOf('\u6E87')); // 漊 => 溇
-		variant2Trad.put(String.valueOf('\u7069'), String.valueOf('\u6EDF')); // 灩 => 滟
-		variant2Trad.put(String.valueOf('\u6F84'), String.valueOf('\u6F82')); // 澄 => 澂
-		variant2Trad.put(String.valueOf('\u9394'), String.valueOf('\u7194')); // 鎔 => 熔
-		variant2Trad.put(String.valueOf('\u74B5'), String.valueOf('\u7399')); // 璵 => 玙
-		variant2Trad.put(String.valueOf('\u7F42'), String.valueOf('\u7516')); // 罂 => 甖
-		variant2Trad.put(String.valueOf('\u7572'), String.valueOf('\u756C')); // 畲 => 畬
-		variant2Trad.put(String.valueOf('\u78AA'), String.valueOf('\u7827')); // 碪 => 砧
-		variant2Trad.put(String.valueOf('\u7904'), String.valueOf('\u785A')); // 礄 => 硚
-		variant2Trad.put(String.valueOf('\u7978'), String.valueOf('\uFA52')); // 祸 => 禍
-		variant2Trad.put(String.valueOf('\u8C37'), String.valueOf('\uFA54')); // 谷 => 穀
-		variant2Trad.put(String.valueOf('\u7BE0'), String.valueOf('\u7B71')); // 篠 => 筱
-		variant2Trad.put(String.valueOf('\u7BDB'), String.valueOf('\u7BAC')); // 篛 => 箬
-		variant2Trad.put(String.valueOf('\u8282'), String.valueOf('\uFA56')); // 节 => 節
-		variant2Trad.put(String.valueOf('\u84D1'), String.valueOf('\u7C11')); // 蓑 => 簑
-		variant2Trad.put(String.valueOf('\u985E'), String.valueOf('\u7C7B')); // 類 => 类
-		variant2Trad.put(String.valueOf('\u9B3B'), String.valueOf('\u7CA5')); // 鬻 => 粥
-		variant2Trad.put(String.valueOf('\u7EC3'), String.valueOf('\uFA57')); // 练 => 練
-		variant2Trad.put(String.valueOf('\u7F0A'), String.valueOf('\u7DFC')); // 缊 => 緼
-		variant2Trad.put(String.valueOf('\u98A3'), String.valueOf('\u7E87')); // 颣 => 纇
-		variant2Trad.put(String.valueOf('\u7FFD'), String.valueOf('\u7FD9')); // 翽 => 翙
-		variant2Trad.put(String.valueOf('\u7FEC'), String.valueOf('\u7FDA')); // 翬 => 翚
-		variant2Trad.put(String.valueOf('\u81D9'), String.valueOf('\u80ED')); // 臙 => 胭
-		variant2Trad.put(String.valueOf('\u8434'), String.valueOf('\u835D')); // 萴 => 荝
-		variant2Trad.put(String.valueOf('\u84F4'), String.valueOf('\u83BC')); // 蓴 => 莼
-		variant2Trad.put(String.valueOf('\u8600'), String.valueOf('\u841A')); // 蘀 => 萚
-		variant2Trad.put(String.valueOf('\u865C'), String.valueOf('\u864F')); // 虜 => 虏
-		variant2Trad.put(String.valueOf('\u8801'), String.valueOf('\u8683')); // 蠁 => 蚃
-		variant2Trad.put(String.valueOf('\u89C6'), String.valueOf('\uFA61')); // 视 => 視
-		variant2Trad.put(String.valueOf('\u8B8B'), String.valueOf('\u8A5F')); // 讋 => 詟
-		variant2Trad.put(String.valueOf('\u8BF8'), String.valueOf('\uFA22')); // 诸 => 諸
-		variant2Trad.put(String.valueOf('\u8C12'), String.valueOf('\uFA62')); // 谒 => 謁
-		variant2Trad.put(String.valueOf('\u8C28'), String.valueOf('\uFA63')); // 谨 => 謹
-		variant2Trad.put(String.valueOf('\u8C09'), String.valueOf('\u8B85')); // 谉 => 讅
-		variant2Trad.put(String.valueOf('\u8D60'), String.valueOf('\uFA65')); // 赠 => 贈
-		variant2Trad.put(String.valueOf('\u8F92'), String.valueOf('\u8F3C')); // 辒 => 輼
-		variant2Trad.put(String.valueOf('\u965C'), String.valueOf('\u9655')); // 陜 => 陕
-		variant2Trad.put(String.valueOf('\u96BE'), String.valueOf('\uFA68')); // 难 => 難
-		variant2Trad.put(String.valueOf('\u9D08'), String.valueOf('\u96C1')); // 鴈 => 雁
-		variant2Trad.put(String.valueOf('\u9891'), String.valueOf('\uFA6A')); // 频 => 頻
-		variant2Trad.put(String.valueOf('\u9CA0'), String.valueOf('\u9ABE')); // 鲠 => 骾
-		variant2Trad.put(String.valueOf('\u9CC1'), String.valueOf('\u9C1B')); // 鳁 => 鰛
-		variant2Trad.put(String.valueOf('\u9E5A'), String.valueOf('\u9DBF')); // 鹚 => 鶿
-
-		// TSVCC
-		variant2Trad.put(String.valueOf('\u439B'), String.valueOf('\u3588')); // 䎛 => 㖈
-		variant2Trad.put(String.valueOf('\u39B3'), String.valueOf('\u363D')); // 㦳 => 㘽
-		variant2Trad.put(String.valueOf('\u79CB'), String.valueOf('\u418B')); // 秋 => 䆋
-		variant2Trad.put(String.valueOf('\u7A50'), String.valueOf('\u418B')); // 穐 => 䆋
-		variant2Trad.put(String.valueOf('\u9F9D'), String.valueOf('\u418B')); // 龝 => 䆋
-		variant2Trad.put(String.valueOf('\u7DA2'), String.valueOf('\u4337')); // 綢 => 䌷
-		variant2Trad.put(String.valueOf('\u7EF8'), String.valueOf('\u4337')); // 绸 => 䌷
-		variant2Trad.put(String.valueOf('\u7DB5'), String.valueOf('\u433D')); // 綵 => 䌽
-		variant2Trad.put(String.valueOf('\u8964'), String.valueOf('\u4340')); // 襤 => 䍀
-		variant2Trad.put(String.valueOf('\uF924'), String.valueOf('\u4340')); // 襤 => 䍀
-		variant2Trad.put(String.valueOf('\u817C'), String.valueOf('\u4A44')); // 腼 => 䩄
-		variant2Trad.put(String.valueOf('\u9766'), String.valueOf('\u4A44')); // 靦 => 䩄
-		variant2Trad.put(String.valueOf('\u9E0A'), String.valueOf('\u4D19')); // 鸊 => 䴙
-		variant2Trad.put(String.valueOf('\u58F1'), String.valueOf('\u4E00')); // 壱 => 一
-		variant2Trad.put(String.valueOf('\u58F9'), String.valueOf('\u4E00')); // 壹 => 一
-		variant2Trad.put(String.valueOf('\u5F0C'), String.valueOf('\u4E00')); // 弌 => 一
-		variant2Trad.put(String.valueOf('\u4E0A'), String.valueOf('\u4E04')); // 上 => 丄
-		variant2Trad.put(String.valueOf('\u4E0B'), String.valueOf('\u4E05')); // 下 => 丅
-		variant2Trad.put(String.valueOf('\u4E93'), String.valueOf('\u4E0C')); // 亓 => 丌
-		variant2Trad.put(String.valueOf('\u5176'), String.valueOf('\u4E0C')); // 其 => 丌
-		variant2Trad.put(String.valueOf('\u4E17'), String.valueOf('\u4E16')); // 丗 => 世
-		variant2Trad.put(String.valueOf('\u534B'), String.valueOf('\u4E16')); // 卋 => 世
-		variant2Trad.put(String.valueOf('\u4E20'), String.valueOf('\u4E18')); // 丠 => 丘
-		variant2Trad.put(String.valueOf('\u7CF9'), String.valueOf('\u4E1D')); // 糹 => 丝
-		variant2Trad.put(String.valueOf('\u7E9F'), String.valueOf('\u4E1D')); // 纟 => 丝
-		variant2Trad.put(String.valueOf('\uF978'), String.valueOf('\u5169')); // 兩 => 兩
-		variant2Trad.put(String.valueOf('\u9149'), String.valueOf('\u4E23')); // 酉 => 丣
-		variant2Trad.put(String.valueOf('\u4F75'), String.valueOf('\u7ADD')); // 併 => 竝
-		variant2Trad.put(String.valueOf('\u5002'), String.valueOf('\u7ADD')); // 倂 => 竝
-		variant2Trad.put(String.valueOf('\u5E77'), String.valueOf('\u7ADD')); // 幷 => 竝
-		variant2Trad.put(String.valueOf('\u6860'), String.valueOf('\u4E2B')); // 桠 => 丫
-		variant2Trad.put(String.valueOf('\u690F'), String.valueOf('\u4E2B')); // 椏 => 丫
-		variant2Trad.put(String.valueOf('\u723F'), String.valueOf('\u4E2C')); // 爿 => 丬
-		variant2Trad.put(String.valueOf('\u535D'), String.valueOf('\u4E31')); // 卝 => 丱
-		variant2Trad.put(String.valueOf('\uF9F6'), String.valueOf('\u4E34')); // 臨 => 临
-		variant2Trad.put(String.valueOf('\u4E95'), String.valueOf('\u4E3C')); // 井 => 丼
-		variant2Trad.put(String.valueOf('\uF988'), String.valueOf('\u4E3D')); // 麗 => 丽
-		variant2Trad.put(String.valueOf('\u6319'), String.valueOf('\u4E3E')); // 挙 => 举
-		variant2Trad.put(String.valueOf('\u64E7'), String.valueOf('\u4E3E')); // 擧 => 举
-		variant2Trad.put(String.valueOf('\u4E46'), String.valueOf('\u4E45')); // 乆 => 久
-		variant2Trad.put(String.valueOf('\u8650'), String.valueOf('\u4E47')); // 虐 => 乇
-		variant2Trad.put(String.valueOf('\u5E7A'), String.valueOf('\u4E48')); // 幺 => 么
-		variant2Trad.put(String.valueOf('\u5E85'), String.valueOf('\u4E48')); // 庅 => 么
-		variant2Trad.put(String.valueOf('\uF914'), String.valueOf('\u4E50')); // 樂 => 乐
-		variant2Trad.put(String.valueOf('\uF95C'), String.valueOf('\u4E50')); // 樂 => 乐
-		variant2Trad.put(String.valueOf('\uF9BF'), String.valueOf('\u4E50')); // 樂 => 乐
-		variant2Trad.put(String.valueOf('\u864E'), String.valueOf('\u4E55')); // 虎 => 乕
-		variant2Trad.put(String.valueOf('\u90F7'), String.valueOf('\u4E61')); // 郷 => 乡
-		variant2Trad.put(String.valueOf('\u910A'), String.valueOf('\u4E61')); // 鄊 => 乡
-		variant2Trad.put(String.valueOf('\u9115'), String.valueOf('\u4E61')); // 鄕 => 乡
-		variant2Trad.put(String.valueOf('\u59CB'), String.valueOf('\u4E68')); // 始 => 乨
-		variant2Trad.put(String.valueOf('\u7A3D'), String.valueOf('\u4E69')); // 稽 => 乩
-		variant2Trad.put(String.valueOf('\uF91B'), String.valueOf('\u4E71')); // 亂 => 乱
-		variant2Trad.put(String.valueOf('\u4E7E'), String.valueOf('\u4E79')); // 乾 => 乹
-		variant2Trad.put(String.valueOf('\u4E81'), String.valueOf('\u4E79')); // 亁 => 乹
-		variant2Trad.put(String.valueOf('\u5E72'), String.valueOf('\u4E79')); // 干 => 乹
-		variant2Trad.put(String.valueOf('\u5E79'), String.valueOf('\u4E79')); // 幹 => 乹
-		variant2Trad.put(String.valueOf('\u69A6'), String.valueOf('\u4E79')); // 榦 => 乹
-		variant2Trad.put(String.valueOf('\u9F9C'), String.valueOf('\u4E80')); // 龜 => 亀
-		variant2Trad.put(String.valueOf('\u9F9F'), String.valueOf('\u4E80')); // 龟 => 亀
-		variant2Trad.put(String.valueOf('\uF907'), String.valueOf('\u4E80')); // 龜 => 亀
-		variant2Trad.put(String.valueOf('\uF908'), String.valueOf('\u4E80')); // 龜 => 亀
-		variant2Trad.put(String.valueOf('\u66B8'), String.valueOf('\u4E86')); // 暸 => 了
-		variant2Trad.put(String.valueOf('\u4E8B'), String.valueOf('\u4E8A')); // 事 => 亊
-		variant2Trad.put(String.valueOf('\u53D3'), String.valueOf('\u4E8A')); // 叓 => 亊
-		variant2Trad.put(String.valueOf('\u5F0D'), String.valueOf('\u4E8C')); // 弍 => 二
-		variant2Trad.put(String.valueOf('\u5F10'), String.valueOf('\u4E8C')); // 弐 => 二
-		variant2Trad.put(String.valueOf('\u8CAE'), String.valueOf('\u4E8C')); // 貮 => 二
-		variant2Trad.put(String.valueOf('\u8CB3'), String.valueOf('\u4E8C')); // 貳 => 二
-		variant2Trad.put(String.valueOf('\u8D30'), String.valueOf('\u4E8C')); // 贰 => 二
-		variant2Trad.put(String.valueOf('\u8857'), String.valueOf('\u4E8D')); // 街 => 亍
-		variant2Trad.put(String.valueOf('\u4E90'), String.valueOf('\u4E8E')); // 亐 => 于
-		variant2Trad.put(String.valueOf('\u6275'), String.valueOf('\u4E8E')); // 扵 => 于
-		variant2Trad.put(String.valueOf('\u4F0D'), String.valueOf('\u4E94')); // 伍 => 五
-		variant2Trad.put(String.valueOf('\u56DB'), String.valueOf('\u4E96')); // 四 => 亖
-		variant2Trad.put(String.valueOf('\u8086'), String.valueOf('\u4E96')); // 肆 => 亖
-		variant2Trad.put(String.valueOf('\u5C81'), String.valueOf('\u4E97')); // 岁 => 亗
-		variant2Trad.put(String.valueOf('\u6B72'), String.valueOf('\u4E97')); // 歲 => 亗
-		variant2Trad.put(String.valueOf('\u6B73'), String.valueOf('\u4E97')); // 歳 => 亗
-		variant2Trad.put(String.valueOf('\u6589'), String.valueOf('\u4E9D')); // 斉 => 亝
-		variant2Trad.put(String.valueOf('\u9F4A'), String.valueOf('\u4E9D')); // 齊 => 亝
-		variant2Trad.put(String.valueOf('\u9F50'), String.valueOf('\u4E9D')); // 齐 => 亝
-		variant2Trad.put(String.valueOf('\u710F'), String.valueOf('\u4E9F')); // 焏 => 亟
-		variant2Trad.put(String.valueOf('\u4EBE'), String.valueOf('\u4EA1')); // 亾 => 亡
-		variant2Trad.put(String.valueOf('\u5166'), String.valueOf('\u4EA1')); // 兦 => 亡
-		variant2Trad.put(String.valueOf('\u7542'), String.valueOf('\u4EA9')); // 畂 => 亩
-		variant2Trad.put(String.valueOf('\u7546'), String.valueOf('\u4EA9')); // 畆 => 亩
-		variant2Trad.put(String.valueOf('\u7552'), String.valueOf('\u4EA9')); // 畒 => 亩
-		variant2Trad.put(String.valueOf('\u756E'), String.valueOf('\u4EA9')); // 畮 => 亩
-		variant2Trad.put(String.valueOf('\u4EAF'), String.valueOf('\u4EAB')); // 亯 => 享
-		variant2Trad.put(String.valueOf('\u4EB0'), String.valueOf('\u4EAC')); // 亰 => 京
-		variant2Trad.put(String.valueOf('\u591C'), String.valueOf('\u4EB1')); // 夜 => 亱
-		variant2Trad.put(String.valueOf('\uF9A2'), String.valueOf('\u4EB7')); // 廉 => 亷
-		variant2Trad.put(String.valueOf('\u751A'), String.valueOf('\u4EC0')); // 甚 => 什
-		variant2Trad.put(String.valueOf('\u5FC8'), String.valueOf('\u4EC1')); // 忈 => 仁
-		variant2Trad.put(String.valueOf('\u50CD'), String.valueOf('\u4EC2')); // 働 => 仂
-		variant2Trad.put(String.valueOf('\u505C'), String.valueOf('\u4EC3')); // 停 => 仃
-		variant2Trad.put(String.valueOf('\u8B8E'), String.valueOf('\u4EC7')); // 讎 => 仇
-		variant2Trad.put(String.valueOf('\u8B90'), String.valueOf('\u4EC7')); // 讐 => 仇
-		variant2Trad.put(String.valueOf('\u96E0'), String.valueOf('\u4EC7')); // 雠 => 仇
-		variant2Trad.put(String.valueOf('\u540C'), String.valueOf('\u4EDD')); // 同 => 仝
-		variant2Trad.put(String.valueOf('\u8855'), String.valueOf('\u4EDD')); // 衕 => 仝
-		variant2Trad.put(String.valueOf('\u4EED'), String.valueOf('\u4EDE')); // 仭 => 仞
-		variant2Trad.put(String.valueOf('\u5343'), String.valueOf('\u4EDF')); // 千 => 仟
-		variant2Trad.put(String.valueOf('\u4EFC'), String.valueOf('\u4EFB')); // 仼 => 任
-		variant2Trad.put(String.valueOf('\u5F6C'), String.valueOf('\u4EFD')); // 彬 => 份
-		variant2Trad.put(String.valueOf('\u4F4E'), String.valueOf('\u4EFE')); // 低 => 仾
-		variant2Trad.put(String.valueOf('\u5F77'), String.valueOf('\u4EFF')); // 彷 => 仿
-		variant2Trad.put(String.valueOf('\u5005'), String.valueOf('\u4F1C')); // 倅 => 伜
-		variant2Trad.put(String.valueOf('\u4FE5'), String.valueOf('\u4F21')); // 俥 => 伡
-		variant2Trad.put(String.valueOf('\uF9D4'), String.valueOf('\u4F26')); // 倫 => 伦
-		variant2Trad.put(String.valueOf('\u4FE1'), String.valueOf('\u4F29')); // 信 => 伩
-		variant2Trad.put(String.valueOf('\u4F60'), String.valueOf('\u4F32')); // 你 => 伲
-		variant2Trad.put(String.valueOf('\u62BB'), String.valueOf('\u4F38')); // 抻 => 伸
-		variant2Trad.put(String.valueOf('\u8EB0'), String.valueOf('\u4F53')); // 躰 => 体
-		variant2Trad.put(String.valueOf('\u8EC6'), String.valueOf('\u4F53')); // 軆 => 体
-		variant2Trad.put(String.valueOf('\u9AB5'), String.valueOf('\u4F53')); // 骵 => 体
-		variant2Trad.put(String.valueOf('\u9980'), String.valueOf('\u4F59')); // 馀 => 余
-		variant2Trad.put(String.valueOf('\u4FAB'), String.valueOf('\u4F5E')); // 侫 => 佞
-		variant2Trad.put(String.valueOf('\u767E'), String.valueOf('\u4F70')); // 百 => 佰
-		variant2Trad.put(String.valueOf('\u4FEB'), String.valueOf('\u4F86')); // 俫 => 來
-		variant2Trad.put(String.valueOf('\u5008'), String.valueOf('\u4F86')); // 倈 => 來
-		variant2Trad.put(String.valueOf('\u5F95'), String.valueOf('\u4F86')); // 徕 => 來
-		variant2Trad.put(String.valueOf('\u5FA0'), String.valueOf('\u4F86')); // 徠 => 來
-		variant2Trad.put(String.valueOf('\u5938'), String.valueOf('\u4F89')); // 夸 => 侉
-		variant2Trad.put(String.valueOf('\u8A87'), String.valueOf('\u4F89')); // 誇 => 侉
-		variant2Trad.put(String.valueOf('\u9634'), String.valueOf('\u4F8C')); // 阴 => 侌
-		variant2Trad.put(String.valueOf('\u9670'), String.valueOf('\u4F8C')); // 陰 => 侌
-		variant2Trad.put(String.valueOf('\u510C'), String.valueOf('\u4FA5')); // 儌 => 侥
-		variant2Trad.put(String.valueOf('\u5FBA'), String.valueOf('\u4FA5')); // 徺 => 侥
-		variant2Trad.put(String.valueOf('\u5118'), String.valueOf('\u4FAD')); // 儘 => 侭
-		variant2Trad.put(String.valueOf('\u5C3D'), String.valueOf('\u4FAD')); // 尽 => 侭
-		variant2Trad.put(String.valueOf('\u76E1'), String.valueOf('\u4FAD')); // 盡 => 侭
-		variant2Trad.put(String.valueOf('\u7E4B'), String.valueOf('\u4FC2')); // 繋 => 係
-		variant2Trad.put(String.valueOf('\u9760'), String.valueOf('\u4FC8')); // 靠 => 俈
-		variant2Trad.put(String.valueOf('\u5101'), String.valueOf('\u4FCA')); // 儁 => 俊
-		variant2Trad.put(String.valueOf('\u723C'), String.valueOf('\u4FCE')); // 爼 => 俎
-		variant2Trad.put(String.valueOf('\u7AE2'), String.valueOf('\u4FDF')); // 竢 => 俟
-		variant2Trad.put(String.valueOf('\u8129'), String.valueOf('\u4FEE')); // 脩 => 修
-		variant2Trad.put(String.valueOf('\u52B9'), String.valueOf('\u4FF2')); // 効 => 俲
-		variant2Trad.put(String.valueOf('\u6548'), String.valueOf('\u4FF2')); // 效 => 俲
-		variant2Trad.put(String.valueOf('\u5079'), String.valueOf('\u4FFB')); // 偹 => 俻
-		variant2Trad.put(String.valueOf('\u5099'), String.valueOf('\u4FFB')); // 備 => 俻
-		variant2Trad.put(String.valueOf('\u5907'), String.valueOf('\u4FFB')); // 备 => 俻
-		variant2Trad.put(String.valueOf('\u8024'), String.valueOf('\u501F')); // 耤 => 借
-		variant2Trad.put(String.valueOf('\u503C'), String.valueOf('\u5024')); // 值 => 値
-		variant2Trad.put(String.valueOf('\u5078'), String.valueOf('\u5077')); // 偸 => 偷
-		variant2Trad.put(String.valueOf('\u510E'), String.valueOf('\u50A4')); // 儎 => 傤
-		variant2Trad.put(String.valueOf('\u510D'), String.valueOf('\u50BB')); // 儍 => 傻
-		variant2Trad.put(String.valueOf('\u8C61'), String.valueOf('\u50CF')); // 象 => 像
-		variant2Trad.put(String.valueOf('\u50ED'), String.valueOf('\u50E3')); // 僭 => 僣
-		variant2Trad.put(String.valueOf('\u62DF'), String.valueOf('\u5117')); // 拟 => 儗
-		variant2Trad.put(String.valueOf('\u64EC'), String.valueOf('\u5117')); // 擬 => 儗
-		variant2Trad.put(String.valueOf('\u5976'), String.valueOf('\u511E')); // 奶 => 儞
-		variant2Trad.put(String.valueOf('\u59B3'), String.valueOf('\u511E')); // 妳 => 儞
-		variant2Trad.put(String.valueOf('\u5B2D'), String.valueOf('\u511E')); // 嬭 => 儞
-		variant2Trad.put(String.valueOf('\u7C2A'), String.valueOf('\u5142')); // 簪 => 兂
-		variant2Trad.put(String.valueOf('\u706E'), String.valueOf('\u5149')); // 灮 => 光
-		variant2Trad.put(String.valueOf('\u7097'), String.valueOf('\u5149')); // 炗 => 光
-		variant2Trad.put(String.valueOf('\u5154'), String.valueOf('\u514E')); // 兔 => 兎
-		variant2Trad.put(String.valueOf('\u634C'), String.valueOf('\u516B')); // 捌 => 八
-		variant2Trad.put(String.valueOf('\uF91F'), String.valueOf('\u5170')); // 蘭 => 兰
-		variant2Trad.put(String.valueOf('\u95D7'), String.valueOf('\u5173')); // 闗 => 关
-		variant2Trad.put(String.valueOf('\u7386'), String.valueOf('\u5179')); // 玆 => 兹
-		variant2Trad.put(String.valueOf('\u98EC'), String.valueOf('\u517B')); // 飬 => 养
-		variant2Trad.put(String.valueOf('\u5180'), String.valueOf('\u517E')); // 冀 => 兾
-		variant2Trad.put(String.valueOf('\u79C7'), String.valueOf('\u517F')); // 秇 => 兿
-		variant2Trad.put(String.valueOf('\u827A'), String.valueOf('\u517F')); // 艺 => 兿
-		variant2Trad.put(String.valueOf('\u82B8'), String.valueOf('\u517F')); // 芸 => 兿
-		variant2Trad.put(String.valueOf('\u8553'), String.valueOf('\u517F')); // 蕓 => 兿
-		variant2Trad.put(String.valueOf('\u85DD'), String.valueOf('\u517F')); // 藝 => 兿
-		variant2Trad.put(String.valueOf('\u570E'), String.valueOf('\u5713')); // 圎 => 圓
-		variant2Trad.put(String.valueOf('\u5C97'), String.valueOf('\u5188')); // 岗 => 冈
-		variant2Trad.put(String.valueOf('\u5D17'), String.valueOf('\u5188')); // 崗 => 冈
-		variant2Trad.put(String.valueOf('\u7B27'), String.valueOf('\u518A')); // 笧 => 冊
-		variant2Trad.put(String.valueOf('\u5192'), String.valueOf('\u5190')); // 冒 => 冐
-		variant2Trad.put(String.valueOf('\u5B82'), String.valueOf('\u5197')); // 宂 => 冗
-		variant2Trad.put(String.valueOf('\u51A9'), String.valueOf('\u5199')); // 冩 => 写
-		variant2Trad.put(String.valueOf('\u5B9C'), String.valueOf('\u519D')); // 宜 => 冝
-		variant2Trad.put(String.valueOf('\uFA10'), String.valueOf('\u51A2')); // 塚 => 冢
-		variant2Trad.put(String.valueOf('\u5BC3'), String.valueOf('\u51A4')); // 寃 => 冤
-		variant2Trad.put(String.valueOf('\u5BBC'), String.valueOf('\u51A6')); // 宼 => 冦
-		variant2Trad.put(String.valueOf('\u5BC7'), String.valueOf('\u51A6')); // 寇 => 冦
-		variant2Trad.put(String.valueOf('\u5BCC'), String.valueOf('\u51A8')); // 富 => 冨
-		variant2Trad.put(String.valueOf('\u7F83'), String.valueOf('\u51AA')); // 羃 => 冪
-		variant2Trad.put(String.valueOf('\u6C37'), String.valueOf('\u51B0')); // 氷 => 冰
-		variant2Trad.put(String.valueOf('\u51B4'), String.valueOf('\u51B1')); // 冴 => 冱
-		variant2Trad.put(String.valueOf('\u76C5'), String.valueOf('\u51B2')); // 盅 => 冲
-		variant2Trad.put(String.valueOf('\u6E5F'), String.valueOf('\u51B5')); // 湟 => 况
-		variant2Trad.put(String.valueOf('\u6CEF'), String.valueOf('\u51BA')); // 泯 => 冺
-		variant2Trad.put(String.valueOf('\u6D0C'), String.valueOf('\u51BD')); // 洌 => 冽
-		variant2Trad.put(String.valueOf('\u6D44'), String.valueOf('\u51C0')); // 浄 => 净
-		variant2Trad.put(String.valueOf('\u5857'), String.valueOf('\u51C3')); // 塗 => 凃
-		variant2Trad.put(String.valueOf('\u6D82'), String.valueOf('\u51C3')); // 涂 => 凃
-		variant2Trad.put(String.valueOf('\u6DB8'), String.valueOf('\u51C5')); // 涸 => 凅
-		variant2Trad.put(String.valueOf('\u51D6'), String.valueOf('\u51C6')); // 凖 => 准
-		variant2Trad.put(String.valueOf('\u5F6B'), String.valueOf('\u51CB')); // 彫 => 凋
-		variant2Trad.put(String.valueOf('\u7431'), String.valueOf('\u51CB')); // 琱 => 凋
-		variant2Trad.put(String.valueOf('\u96D5'), String.valueOf('\u51CB')); // 雕 => 凋
-		variant2Trad.put(String.valueOf('\u9D70'), String.valueOf('\u51CB')); // 鵰 => 凋
-		variant2Trad.put(String.valueOf('\uF954'), String.valueOf('\u51DB')); // 凜 => 凛
-		variant2Trad.put(String.valueOf('\u51E2'), String.valueOf('\u51E1')); // 凢 => 凡
-		variant2Trad.put(String.valueOf('\u51E3'), String.valueOf('\u51E1')); // 凣 => 凡
-		variant2Trad.put(String.valueOf('\u9CEF'), String.valueOf('\u51E4')); // 鳯 => 凤
-		variant2Trad.put(String.valueOf('\u98A8'), String.valueOf('\u51E8')); // 風 => 凨
-		variant2Trad.put(String.valueOf('\u98CE'), String.valueOf('\u51E8')); // 风 => 凨
-		variant2Trad.put(String.valueOf('\u51F4'), String.valueOf('\u51ED')); // 凴 => 凭
-		variant2Trad.put(String.valueOf('\u617F'), String.valueOf('\u51ED')); // 慿 => 凭
-		variant2Trad.put(String.valueOf('\u5757'), String.valueOf('\u51F7')); // 块 => 凷
-		variant2Trad.put(String.valueOf('\u584A'), String.valueOf('\u51F7')); // 塊 => 凷
-		variant2Trad.put(String.valueOf('\u5C80'), String.valueOf('\u51FA')); // 岀 => 出
-		variant2Trad.put(String.valueOf('\u5E7D'), String.valueOf('\u51FC')); // 幽 => 凼
-		variant2Trad.put(String.valueOf('\u51FE'), String.valueOf('\u51FD')); // 凾 => 函
-		variant2Trad.put(String.valueOf('\u5202'), String.valueOf('\u5200')); // 刂 => 刀
-		variant2Trad.put(String.valueOf('\u5204'), String.valueOf('\u5203')); // 刄 => 刃
-		variant2Trad.put(String.valueOf('\u82C5'), String.valueOf('\u5208')); // 苅 => 刈
-		variant2Trad.put(String.valueOf('\u753B'), String.valueOf('\u5212')); // 画 => 划
-		variant2Trad.put(String.valueOf('\u756B'), String.valueOf('\u5212')); // 畫 => 划
-		variant2Trad.put(String.valueOf('\u7575'), String.valueOf('\u5212')); // 畵 => 划
-		variant2Trad.put(String.valueOf('\u6289'), String.valueOf('\u5214')); // 抉 => 刔
-		variant2Trad.put(String.valueOf('\uF9C7'), String.valueOf('\u5218')); // 劉 => 刘
-		variant2Trad.put(String.valueOf('\u5227'), String.valueOf('\u5226')); // 刧 => 刦
-		variant2Trad.put(String.valueOf('\u523C'), String.valueOf('\u5226')); // 刼 => 刦
-		variant2Trad.put(String.valueOf('\u52AB'), String.valueOf('\u5226')); // 劫 => 刦
-		variant2Trad.put(String.valueOf('\u5277'), String.valueOf('\u522C')); // 剷 => 刬
-		variant2Trad.put(String.valueOf('\u93DF'), String.valueOf('\u522C')); // 鏟 => 刬
-		variant2Trad.put(String.valueOf('\u94F2'), String.valueOf('\u522C')); // 铲 => 刬
-		variant2Trad.put(String.valueOf('\u524F'), String.valueOf('\u5231')); // 剏 => 刱
-		variant2Trad.put(String.valueOf('\u5259'), String.valueOf('\u5231')); // 剙 => 刱
-		variant2Trad.put(String.valueOf('\u5241'), String.valueOf('\u5234')); // 剁 => 刴
-		variant2Trad.put(String.valueOf('\u523A'), String.valueOf('\u5236')); // 刺 => 制
-		variant2Trad.put(String.valueOf('\u523E'), String.valueOf('\u5236')); // 刾 => 制
-		variant2Trad.put(String.valueOf('\uF9FF'), String.valueOf('\u5236')); // 刺 => 制
-		variant2Trad.put(String.valueOf('\u52B5'), String.valueOf('\u5238')); // 劵 => 券
-		variant2Trad.put(String.valueOf('\u5271'), String.valueOf('\u5251')); // 剱 => 剑
-		variant2Trad.put(String.valueOf('\u5294'), String.valueOf('\u5251')); // 劔 => 剑
-		variant2Trad.put(String.valueOf('\u91D6'), String.valueOf('\u5251')); // 釖 => 剑
-		variant2Trad.put(String.valueOf('\u91FC'), String.valueOf('\u5251')); // 釼 => 剑
-		variant2Trad.put(String.valueOf('\u639E'), String.valueOf('\u5261')); // 掞 => 剡
-		variant2Trad.put(String.valueOf('\u672D'), String.valueOf('\u5273')); // 札 => 剳
-		variant2Trad.put(String.valueOf('\u7B9A'), String.valueOf('\u5273')); // 箚 => 剳
-		variant2Trad.put(String.valueOf('\u942E'), String.valueOf('\u5286')); // 鐮 => 劆
-		variant2Trad.put(String.valueOf('\u9570'), String.valueOf('\u5286')); // 镰 => 劆
-		variant2Trad.put(String.valueOf('\u52B1'), String.valueOf('\u52A2')); // 励 => 劢
-		variant2Trad.put(String.valueOf('\u52F5'), String.valueOf('\u52A2')); // 勵 => 劢
-		variant2Trad.put(String.valueOf('\uF97F'), String.valueOf('\u52A2')); // 勵 => 劢
-		variant2Trad.put(String.valueOf('\uF92F'), String.valueOf('\u52B3')); // 勞 => 劳
-		variant2Trad.put(String.valueOf('\u8274'), String.valueOf('\u52C3')); // 艴 => 勃
-		variant2Trad.put(String.valueOf('\u52C4'), String.valueOf('\u654F')); // 勄 => 敏
-		variant2Trad.put(String.valueOf('\u6555'), String.valueOf('\u52C5')); // 敕 => 勅
-		variant2Trad.put(String.valueOf('\u607F'), String.valueOf('\u52C8')); // 恿 => 勈
-		variant2Trad.put(String.valueOf('\u6142'), String.valueOf('\u52C8')); // 慂 => 勈
-		variant2Trad.put(String.valueOf('\u622E'), String.valueOf('\u52E0')); // 戮 => 勠
-		variant2Trad.put(String.valueOf('\uF9D2'), String.valueOf('\u52E0')); // 戮 => 勠
-		variant2Trad.put(String.valueOf('\u53E5'), String.valueOf('\u52FE')); // 句 => 勾
-		variant2Trad.put(String.valueOf('\uF906'), String.valueOf('\u52FE')); // 句 => 勾
-		variant2Trad.put(String.valueOf('\u6031'), String.valueOf('\u5306')); // 怱 => 匆
-		variant2Trad.put(String.valueOf('\u60A4'), String.valueOf('\u5306')); // 悤 => 匆
-		variant2Trad.put(String.valueOf('\u5F5A'), String.valueOf('\u532F')); // 彚 => 匯
-		variant2Trad.put(String.valueOf('\u6ED9'), String.valueOf('\u532F')); // 滙 => 匯
-		variant2Trad.put(String.valueOf('\u5941'), String.valueOf('\u5333')); // 奁 => 匳
-		variant2Trad.put(String.valueOf('\u5969'), String.valueOf('\u5333')); // 奩 => 匳
-		variant2Trad.put(String.valueOf('\u758B'), String.valueOf('\u5339')); // 疋 => 匹
-		variant2Trad.put(String.valueOf('\u62FE'), String.valueOf('\u5341')); // 拾 => 十
-		variant2Trad.put(String.valueOf('\uF973'), String.valueOf('\u5341')); // 拾 => 十
-		variant2Trad.put(String.valueOf('\u5EFE'), String.valueOf('\u5344')); // 廾 => 卄
-		variant2Trad.put(String.valueOf('\u5EFF'), String.valueOf('\u5344')); // 廿 => 卄
-		variant2Trad.put(String.valueOf('\u5352'), String.valueOf('\u5346')); // 卒 => 卆
-		variant2Trad.put(String.valueOf('\u5350'), String.valueOf('\u534D')); // 卐 => 卍
-		variant2Trad.put(String.valueOf('\u5D0B'), String.valueOf('\u534E')); // 崋 => 华
-		variant2Trad.put(String.valueOf('\u604A'), String.valueOf('\u534F')); // 恊 => 协
-		variant2Trad.put(String.valueOf('\u613D'), String.valueOf('\u535A')); // 愽 => 博
-		variant2Trad.put(String.valueOf('\u83D4'), String.valueOf('\u535C')); // 菔 => 卜
-		variant2Trad.put(String.valueOf('\uF933'), String.valueOf('\u5362')); // 盧 => 卢
-		variant2Trad.put(String.valueOf('\u90E8'), String.valueOf('\u5369')); // 部 => 卩
-		variant2Trad.put(String.valueOf('\u90F6'), String.valueOf('\u5369')); // 郶 => 卩
-		variant2Trad.put(String.valueOf('\u885E'), String.valueOf('\u536B')); // 衞 => 卫
-		variant2Trad.put(String.valueOf('\u5DF5'), String.valueOf('\u536E')); // 巵 => 卮
-		variant2Trad.put(String.valueOf('\u5918'), String.valueOf('\u536F')); // 夘 => 卯
-		variant2Trad.put(String.valueOf('\u623C'), String.valueOf('\u536F')); // 戼 => 卯
-		variant2Trad.put(String.valueOf('\u7F37'), String.valueOf('\u5378')); // 缷 => 卸
-		variant2Trad.put(String.valueOf('\u8CC9'), String.valueOf('\u5379')); // 賉 => 卹
-		variant2Trad.put(String.valueOf('\u53B0'), String.valueOf('\u5382')); // 厰 => 厂
-		variant2Trad.put(String.valueOf('\u539B'), String.valueOf('\u5385')); // 厛 => 厅
-		variant2Trad.put(String.valueOf('\u5EF0'), String.valueOf('\u5385')); // 廰 => 厅
-		variant2Trad.put(String.valueOf('\uF98B'), String.valueOf('\u5386')); // 曆 => 历
-		variant2Trad.put(String.valueOf('\uF98C'), String.valueOf('\u5386')); // 歷 => 历
-		variant2Trad.put(String.valueOf('\u5E9E'), String.valueOf('\u5396')); // 庞 => 厖
-		variant2Trad.put(String.valueOf('\u9F90'), String.valueOf('\u5396')); // 龐 => 厖
-		variant2Trad.put(String.valueOf('\u5ECF'), String.valueOf('\u53A9')); // 廏 => 厩
-		variant2Trad.put(String.valueOf('\u5ED0'), String.valueOf('\u53A9')); // 廐 => 厩
-		variant2Trad.put(String.valueOf('\u6C85'), String.valueOf('\u53B5')); // 沅 => 厵
-		variant2Trad.put(String.valueOf('\u6E90'), String.valueOf('\u53B5')); // 源 => 厵
-		variant2Trad.put(String.valueOf('\u79C1'), String.valueOf('\u53B6')); // 私 => 厶
-		variant2Trad.put(String.valueOf('\u53BB'), String.valueOf('\u53BA')); // 去 => 厺
-		variant2Trad.put(String.valueOf('\u53C2'), String.valueOf('\u53C1')); // 参 => 叁
-		variant2Trad.put(String.valueOf('\u53C3'), String.valueOf('\u53C1')); // 參 => 叁
-		variant2Trad.put(String.valueOf('\u84E1'), String.valueOf('\u53C1')); // 蓡 => 叁
-		variant2Trad.put(String.valueOf('\uF96B'), String.valueOf('\u53C1')); // 參 => 叁
-		variant2Trad.put(String.valueOf('\u5F42'), String.valueOf('\u53D1')); // 彂 => 发
-		variant2Trad.put(String.valueOf('\u53DF'), String.valueOf('\u53DC')); // 叟 => 叜
-		variant2Trad.put(String.valueOf('\u543F'), String.valueOf('\u53DD')); // 吿 => 叝
-		variant2Trad.put(String.valueOf('\u544A'), String.valueOf('\u53DD')); // 告 => 叝
-		variant2Trad.put(String.valueOf('\u66E1'), String.valueOf('\u53E0')); // 曡 => 叠
-		variant2Trad.put(String.valueOf('\u7582'), String.valueOf('\u53E0')); // 疂 => 叠
-		variant2Trad.put(String.valueOf('\u7589'), String.valueOf('\u53E0')); // 疉 => 叠
-		variant2Trad.put(String.valueOf('\u8FED'), String.valueOf('\u53E0')); // 迭 => 叠
-		variant2Trad.put(String.valueOf('\u6B62'), String.valueOf('\u53EA')); // 止 => 只
-		variant2Trad.put(String.valueOf('\u7957'), String.valueOf('\u53EA')); // 祗 => 只
-		variant2Trad.put(String.valueOf('\u67B1'), String.valueOf('\u53F0')); // 枱 => 台
-		variant2Trad.put(String.valueOf('\uF96E'), String.valueOf('\u53F6')); // 葉 => 叶
-		variant2Trad.put(String.valueOf('\u55A7'), String.valueOf('\u5405')); // 喧 => 吅
-		variant2Trad.put(String.valueOf('\u8AE0'), String.valueOf('\u5405')); // 諠 => 吅
-		variant2Trad.put(String.valueOf('\u95D4'), String.valueOf('\u5408')); // 闔 => 合
-		variant2Trad.put(String.valueOf('\u9616'), String.valueOf('\u5408')); // 阖 => 合
-		variant2Trad.put(String.valueOf('\uF980'), String.valueOf('\u5415')); // 呂 => 吕
-		variant2Trad.put(String.valueOf('\u608B'), String.valueOf('\u541D')); // 悋 => 吝
-		variant2Trad.put(String.valueOf('\u5451'), String.valueOf('\u541E')); // 呑 => 吞
-		variant2Trad.put(String.valueOf('\u807C'), String.valueOf('\u542C')); // 聼 => 听
-		variant2Trad.put(String.valueOf('\u5554'), String.valueOf('\u542F')); // 啔 => 启
-		variant2Trad.put(String.valueOf('\u5449'), String.valueOf('\u5433')); // 呉 => 吳
-		variant2Trad.put(String.valueOf('\u9A03'), String.valueOf('\u5446')); // 騃 => 呆
-		variant2Trad.put(String.valueOf('\u8DBA'), String.valueOf('\u544B')); // 趺 => 呋
-		variant2Trad.put(String.valueOf('\u8DD7'), String.valueOf('\u544B')); // 跗 => 呋
-		variant2Trad.put(String.valueOf('\u54FA'), String.valueOf('\u545A')); // 哺 => 呚
-		variant2Trad.put(String.valueOf('\u5492'), String.valueOf('\u546A')); // 咒 => 呪
-		variant2Trad.put(String.valueOf('\u54CC'), String.valueOf('\u5471')); // 哌 => 呱
-		variant2Trad.put(String.valueOf('\u55EC'), String.valueOf('\u5475')); // 嗬 => 呵
-		variant2Trad.put(String.valueOf('\u8A36'), String.valueOf('\u5475')); // 訶 => 呵
-		variant2Trad.put(String.valueOf('\u8BC3'), String.valueOf('\u5475')); // 诃 => 呵
-		variant2Trad.put(String.valueOf('\u5611'), String.valueOf('\u547C')); // 嘑 => 呼
-		variant2Trad.put(String.valueOf('\u8656'), String.valueOf('\u547C')); // 虖 => 呼
-		variant2Trad.put(String.valueOf('\u8B3C'), String.valueOf('\u547C')); // 謼 => 呼
-		variant2Trad.put(String.valueOf('\u5634'), String.valueOf('\u5480')); // 嘴 => 咀
-		variant2Trad.put(String.valueOf('\u8AEE'), String.valueOf('\u54A8')); // 諮 => 咨
-		variant2Trad.put(String.valueOf('\u8C18'), String.valueOf('\u54A8')); // 谘 => 咨
-		variant2Trad.put(String.valueOf('\u8A7B'), String.valueOf('\u54AF')); // 詻 => 咯
-		variant2Trad.put(String.valueOf('\u7B11'), String.valueOf('\u54B2')); // 笑 => 咲
-		variant2Trad.put(String.valueOf('\u5516'), String.valueOf('\u54D1')); // 唖 => 哑
-		variant2Trad.put(String.valueOf('\u6B38'), String.valueOf('\u5509')); // 欸 => 唉
-		variant2Trad.put(String.valueOf('\u8A92'), String.valueOf('\u5509')); // 誒 => 唉
-		variant2Trad.put(String.valueOf('\u8BF6'), String.valueOf('\u5509')); // 诶 => 唉
-		variant2Trad.put(String.valueOf('\u559E'), String.valueOf('\u5527')); // 喞 => 唧
-		variant2Trad.put(String.valueOf('\u5539'), String.valueOf('\u5537')); // 唹 => 唷
-		variant2Trad.put(String.valueOf('\u5557'), String.valueOf('\u5556')); // 啗 => 啖
-		variant2Trad.put(String.valueOf('\u7F57'), String.valueOf('\u5570')); // 罗 => 啰
-		variant2Trad.put(String.valueOf('\u7F85'), String.valueOf('\u5570')); // 羅 => 啰
-		variant2Trad.put(String.valueOf('\uF90F'), String.valueOf('\u5570')); // 羅 => 啰
-		variant2Trad.put(String.valueOf('\u5628'), String.valueOf('\u5578')); // 嘨 => 啸
-		variant2Trad.put(String.valueOf('\u5A1A'), String.valueOf('\u5583')); // 娚 => 喃
-		variant2Trad.put(String.valueOf('\u5AD0'), String.valueOf('\u5583')); // 嫐 => 喃
-		variant2Trad.put(String.valueOf('\u8B71'), String.valueOf('\u5584')); // 譱 => 善
-		variant2Trad.put(String.valueOf('\u6198'), String.valueOf('\u559C')); // 憘 => 喜
-		variant2Trad.put(String.valueOf('\u6199'), String.valueOf('\u559C')); // 憙 => 喜
-		variant2Trad.put(String.valueOf('\u55BB'), String.valueOf('\u55A9')); // 喻 => 喩
-		variant2Trad.put(String.valueOf('\u9910'), String.valueOf('\u55B0')); // 餐 => 喰
-		variant2Trad.put(String.valueOf('\u5B60'), String.valueOf('\u55E3')); // 孠 => 嗣
-		variant2Trad.put(String.valueOf('\u5C1C'), String.valueOf('\u560E')); // 尜 => 嘎
-		variant2Trad.put(String.valueOf('\u751E'), String.valueOf('\u5617')); // 甞 => 嘗
-		variant2Trad.put(String.valueOf('\u60AA'), String.valueOf('\u5641')); // 悪 => 噁
-		variant2Trad.put(String.valueOf('\u60E1'), String.valueOf('\u5641')); // 惡 => 噁
-		variant2Trad.put(String.valueOf('\uF9B9'), String.valueOf('\u5641')); // 惡 => 噁
-		variant2Trad.put(String.valueOf('\u5655'), String.valueOf('\u5645')); // 噕 => 噅
-		variant2Trad.put(String.valueOf('\u5650'), String.valueOf('\u5668')); // 噐 => 器
-		variant2Trad.put(String.valueOf('\u5694'), String.valueOf('\u568F')); // 嚔 => 嚏
-		variant2Trad.put(String.valueOf('\u6D4F'), String.valueOf('\u56A0')); // 浏 => 嚠
-		variant2Trad.put(String.valueOf('\u700F'), String.valueOf('\u56A0')); // 瀏 => 嚠
-		variant2Trad.put(String.valueOf('\u56CA'), String.valueOf('\u56A2')); // 囊 => 嚢
-		variant2Trad.put(String.valueOf('\u56BB'), String.valueOf('\u56A3')); // 嚻 => 嚣
-		variant2Trad.put(String.valueOf('\u8B14'), String.valueOf('\u56AF')); // 謔 => 嚯
-		variant2Trad.put(String.valueOf('\u8C11'), String.valueOf('\u56AF')); // 谑 => 嚯
-		variant2Trad.put(String.valueOf('\u7526'), String.valueOf('\u56CC')); // 甦 => 囌
-		variant2Trad.put(String.valueOf('\u8607'), String.valueOf('\u56CC')); // 蘇 => 囌
-		variant2Trad.put(String.valueOf('\u8613'), String.valueOf('\u56CC')); // 蘓 => 囌
-		variant2Trad.put(String.valueOf('\u56DE'), String.valueOf('\u56D8')); // 回 => 囘
-		variant2Trad.put(String.valueOf('\u56EC'), String.valueOf('\u56D8')); // 囬 => 囘
-		variant2Trad.put(String.valueOf('\u5EFB'), String.valueOf('\u56D8')); // 廻 => 囘
-		variant2Trad.put(String.valueOf('\u5EFD'), String.valueOf('\u56D8')); // 廽 => 囘
-		variant2Trad.put(String.valueOf('\u8FF4'), String.valueOf('\u56D8')); // 迴 => 囘
-		variant2Trad.put(String.valueOf('\u9025'), String.valueOf('\u56D8')); // 逥 => 囘
-		variant2Trad.put(String.valueOf('\u56E0'), String.valueOf('\u56D9')); // 因 => 囙
-		variant2Trad.put(String.valueOf('\u5700'), String.valueOf('\u570B')); // 圀 => 國
-		variant2Trad.put(String.valueOf('\u58BA'), String.valueOf('\u572B')); // 墺 => 圫
-		variant2Trad.put(String.valueOf('\u6745'), String.valueOf('\u572C')); // 杅 => 圬
-		variant2Trad.put(String.valueOf('\u6859'), String.valueOf('\u572C')); // 桙 => 圬
-		variant2Trad.put(String.valueOf('\u7814'), String.valueOf('\u5733')); // 研 => 圳
-		variant2Trad.put(String.valueOf('\u784E'), String.valueOf('\u5733')); // 硎 => 圳
-		variant2Trad.put(String.valueOf('\u784F'), String.valueOf('\u5733')); // 硏 => 圳
-		variant2Trad.put(String.valueOf('\u5872'), String.valueOf('\u573A')); // 塲 => 场
-		variant2Trad.put(String.valueOf('\u57A0'), String.valueOf('\u573B')); // 垠 => 圻
-		variant2Trad.put(String.valueOf('\u576F'), String.valueOf('\u574F')); // 坯 => 坏
-		variant2Trad.put(String.valueOf('\u5EA7'), String.valueOf('\u5750')); // 座 => 坐
-		variant2Trad.put(String.valueOf('\u57BB'), String.valueOf('\u575D')); // 垻 => 坝
-		variant2Trad.put(String.valueOf('\u5E97'), String.valueOf('\u576B')); // 店 => 坫
-		variant2Trad.put(String.valueOf('\u57C0'), String.valueOf('\u5782')); // 埀 => 垂
-		variant2Trad.put(String.valueOf('\uF942'), String.valueOf('\u5784')); // 壟 => 垄
-		variant2Trad.put(String.valueOf('\uF94A'), String.valueOf('\u5792')); // 壘 => 垒
-		variant2Trad.put(String.valueOf('\u9654'), String.valueOf('\u5793')); // 陔 => 垓
-		variant2Trad.put(String.valueOf('\u579C'), String.valueOf('\u579B')); // 垜 => 垛
-		variant2Trad.put(String.valueOf('\u9632'), String.valueOf('\u57C5')); // 防 => 埅
-		variant2Trad.put(String.valueOf('\u57D3'), String.valueOf('\u57D2')); // 埓 => 埒
-		variant2Trad.put(String.valueOf('\u91C6'), String.valueOf('\u57F0')); // 釆 => 埰
-		variant2Trad.put(String.valueOf('\u5D0E'), String.valueOf('\u57FC')); // 崎 => 埼
-		variant2Trad.put(String.valueOf('\u5D5C'), String.valueOf('\u57FC')); // 嵜 => 埼
-		variant2Trad.put(String.valueOf('\u7895'), String.valueOf('\u57FC')); // 碕 => 埼
-		variant2Trad.put(String.valueOf('\u9636'), String.valueOf('\u5826')); // 阶 => 堦
-		variant2Trad.put(String.valueOf('\u968E'), String.valueOf('\u5826')); // 階 => 堦
-		variant2Trad.put(String.valueOf('\u5895'), String.valueOf('\u5830')); // 墕 => 堰
-		variant2Trad.put(String.valueOf('\u754C'), String.valueOf('\u583A')); // 界 => 堺
-		variant2Trad.put(String.valueOf('\u754D'), String.valueOf('\u583A')); // 畍 => 堺
-		variant2Trad.put(String.valueOf('\u58EA'), String.valueOf('\u5846')); // 壪 => 塆
-		variant2Trad.put(String.valueOf('\u588D'), String.valueOf('\u5848')); // 墍 => 塈
-		variant2Trad.put(String.valueOf('\u5896'), String.valueOf('\u5854')); // 墖 => 塔
-		variant2Trad.put(String.valueOf('\u5873'), String.valueOf('\u585C')); // 塳 => 塜
-		variant2Trad.put(String.valueOf('\u846C'), String.valueOf('\u585F')); // 葬 => 塟
-		variant2Trad.put(String.valueOf('\u586B'), String.valueOf('\u5861')); // 填 => 塡
-		variant2Trad.put(String.valueOf('\u9635'), String.valueOf('\u5866')); // 阵 => 塦
-		variant2Trad.put(String.valueOf('\u9663'), String.valueOf('\u5866')); // 陣 => 塦
-		variant2Trad.put(String.valueOf('\u7857'), String.valueOf('\u589D')); // 硗 => 墝
-		variant2Trad.put(String.valueOf('\u78FD'), String.valueOf('\u589D')); // 磽 => 墝
-		variant2Trad.put(String.valueOf('\u6A3D'), String.valueOf('\u58AB')); // 樽 => 墫
-		variant2Trad.put(String.valueOf('\u7F47'), String.valueOf('\u58AB')); // 罇 => 墫
-		variant2Trad.put(String.valueOf('\u58F7'), String.valueOf('\u58F6')); // 壷 => 壶
-		variant2Trad.put(String.valueOf('\u5A7F'), String.valueOf('\u58FB')); // 婿 => 壻
-		variant2Trad.put(String.valueOf('\u805F'), String.valueOf('\u58FB')); // 聟 => 壻
-		variant2Trad.put(String.valueOf('\u5900'), String.valueOf('\u58FD')); // 夀 => 壽
-		variant2Trad.put(String.valueOf('\u6535'), String.valueOf('\u590A')); // 攵 => 夊
-		variant2Trad.put(String.valueOf('\uF966'), String.valueOf('\u590D')); // 復 => 复
-		variant2Trad.put(String.valueOf('\u657B'), String.valueOf('\u5910')); // 敻 => 夐
-		variant2Trad.put(String.valueOf('\u591B'), String.valueOf('\u591A')); // 夛 => 多
-		variant2Trad.put(String.valueOf('\u6674'), String.valueOf('\u591D')); // 晴 => 夝
-		variant2Trad.put(String.valueOf('\uFA12'), String.valueOf('\u591D')); // 晴 => 夝
-		variant2Trad.put(String.valueOf('\u5923'), String.valueOf('\u5922')); // 夣 => 夢
-		variant2Trad.put(String.valueOf('\u672C'), String.valueOf('\u5932')); // 本 => 夲
-		variant2Trad.put(String.valueOf('\u694D'), String.valueOf('\u5932')); // 楍 => 夲
-		variant2Trad.put(String.valueOf('\u6BD4'), String.valueOf('\u5936')); // 比 => 夶
-		variant2Trad.put(String.valueOf('\u7AD2'), String.valueOf('\u5947')); // 竒 => 奇
-		variant2Trad.put(String.valueOf('\u67F0'), String.valueOf('\u5948')); // 柰 => 奈
-		variant2Trad.put(String.valueOf('\u70B9'), String.valueOf('\u594C')); // 点 => 奌
-		variant2Trad.put(String.valueOf('\u9EDE'), String.valueOf('\u594C')); // 點 => 奌
-		variant2Trad.put(String.valueOf('\u7287'), String.valueOf('\u5954')); // 犇 => 奔
-		variant2Trad.put(String.valueOf('\u9029'), String.valueOf('\u5954')); // 逩 => 奔
-		variant2Trad.put(String.valueOf('\u5F09'), String.valueOf('\u5958')); // 弉 => 奘
-		variant2Trad.put(String.valueOf('\u59E7'), String.valueOf('\u5978')); // 姧 => 奸
-		variant2Trad.put(String.valueOf('\u5A8D'), String.valueOf('\u5987')); // 媍 => 妇
-		variant2Trad.put(String.valueOf('\u59D9'), String.valueOf('\u598A')); // 姙 => 妊
-		variant2Trad.put(String.valueOf('\u59F8'), String.valueOf('\u598D')); // 姸 => 妍
-		variant2Trad.put(String.valueOf('\u59AC'), String.valueOf('\u5992')); // 妬 => 妒
-		variant2Trad.put(String.valueOf('\u59CA'), String.valueOf('\u59C9')); // 姊 => 姉
-		variant2Trad.put(String.valueOf('\u5A1F'), String.valueOf('\u59E2')); // 娟 => 姢
-		variant2Trad.put(String.valueOf('\u5A63'), String.valueOf('\u59FB')); // 婣 => 姻
-		variant2Trad.put(String.valueOf('\u5A2F'), String.valueOf('\u5A1B')); // 娯 => 娛
-		variant2Trad.put(String.valueOf('\u5AD4'), String.valueOf('\u5A26')); // 嫔 => 娦
-		variant2Trad.put(String.valueOf('\u5B2A'), String.valueOf('\u5A26')); // 嬪 => 娦
-		variant2Trad.put(String.valueOf('\u5AFA'), String.valueOf('\u5A34')); // 嫺 => 娴
-		variant2Trad.put(String.valueOf('\u5A40'), String.valueOf('\u5A3F')); // 婀 => 娿
-		variant2Trad.put(String.valueOf('\u6EDB'), String.valueOf('\u5A6C')); // 滛 => 婬
-		variant2Trad.put(String.valueOf('\u5B7E'), String.valueOf('\u5A74')); // 孾 => 婴
-		variant2Trad.put(String.valueOf('\u5AAE'), String.valueOf('\u5A7E')); // 媮 => 婾
-		variant2Trad.put(String.valueOf('\u61F6'), String.valueOf('\u5B3E')); // 懶 => 嬾
-		variant2Trad.put(String.valueOf('\uF90D'), String.valueOf('\u5B3E')); // 懶 => 嬾
-		variant2Trad.put(String.valueOf('\u5B75'), String.valueOf('\u5B5A')); // 孵 => 孚
-		variant2Trad.put(String.valueOf('\u80CE'), String.valueOf('\u5B61')); // 胎 => 孡
-		variant2Trad.put(String.valueOf('\u6588'), String.valueOf('\u5B66')); // 斈 => 学
-		variant2Trad.put(String.valueOf('\u5B76'), String.valueOf('\u5B73')); // 孶 => 孳
-		variant2Trad.put(String.valueOf('\u5B7D'), String.valueOf('\u5B7C')); // 孽 => 孼
-		variant2Trad.put(String.valueOf('\u5BD5'), String.valueOf('\u5B81')); // 寕 => 宁
-		variant2Trad.put(String.valueOf('\u5BDC'), String.valueOf('\u5B81')); // 寜 => 宁
-		variant2Trad.put(String.valueOf('\uF95F'), String.valueOf('\u5B81')); // 寧 => 宁
-		variant2Trad.put(String.valueOf('\uF9AA'), String.valueOf('\u5B81')); // 寧 => 宁
-		variant2Trad.put(String.valueOf('\u8089'), String.valueOf('\u5B8D')); // 肉 => 宍
-		variant2Trad.put(String.valueOf('\u5BF3'), String.valueOf('\u5B9D')); // 寳 => 宝
-		variant2Trad.put(String.valueOf('\u5BC6'), String.valueOf('\u5BBB')); // 密 => 宻
-		variant2Trad.put(String.valueOf('\u8CD4'), String.valueOf('\uFA64')); // 賔 => 賓
-		variant2Trad.put(String.valueOf('\u5EBD'), String.valueOf('\u5BD3')); // 庽 => 寓
-		variant2Trad.put(String.valueOf('\u7F6E'), String.valueOf('\u5BD8')); // 置 => 寘
-		variant2Trad.put(String.valueOf('\u8A67'), String.valueOf('\u5BDF')); // 詧 => 察
-		variant2Trad.put(String.valueOf('\u5C13'), String.valueOf('\u5C12')); // 尓 => 尒
-		variant2Trad.put(String.valueOf('\u5C14'), String.valueOf('\u5C12')); // 尔 => 尒
-		variant2Trad.put(String.valueOf('\u723E'), String.valueOf('\u5C12')); // 爾 => 尒
-		variant2Trad.put(String.valueOf('\u71CE'), String.valueOf('\u5C1E')); // 燎 => 尞
-		variant2Trad.put(String.valueOf('\uF9C0'), String.valueOf('\u5C1E')); // 燎 => 尞
-		variant2Trad.put(String.valueOf('\u5C20'), String.valueOf('\u5C1F')); // 尠 => 尟
-		variant2Trad.put(String.valueOf('\u9BAE'), String.valueOf('\u5C1F')); // 鮮 => 尟
-		variant2Trad.put(String.valueOf('\u9C7B'), String.valueOf('\u5C1F')); // 鱻 => 尟
-		variant2Trad.put(String.valueOf('\u9C9C'), String.valueOf('\u5C1F')); // 鲜 => 尟
-		variant2Trad.put(String.valueOf('\u5C26'), String.valueOf('\u5C25')); // 尦 => 尥
-		variant2Trad.put(String.valueOf('\u7ADC'), String.valueOf('\u5C28')); // 竜 => 尨
-		variant2Trad.put(String.valueOf('\u9F8D'), String.valueOf('\u5C28')); // 龍 => 尨
-		variant2Trad.put(String.valueOf('\u9F99'), String.valueOf('\u5C28')); // 龙 => 尨
-		variant2Trad.put(String.valueOf('\uF9C4'), String.valueOf('\u5C28')); // 龍 => 尨
-		variant2Trad.put(String.valueOf('\u5C2B'), String.valueOf('\u5C2A')); // 尫 => 尪
-		variant2Trad.put(String.valueOf('\u6C3D'), String.valueOf('\u5C3F')); // 氽 => 尿
-		variant2Trad.put(String.valueOf('\u6EBA'), String.valueOf('\u5C3F')); // 溺 => 尿
-		variant2Trad.put(String.valueOf('\u8132'), String.valueOf('\u5C3F')); // 脲 => 尿
-		variant2Trad.put(String.valueOf('\uF9EC'), String.valueOf('\u5C3F')); // 溺 => 尿
-		variant2Trad.put(String.valueOf('\u5C6D'), String.valueOf('\u5C43')); // 屭 => 屃
-		variant2Trad.put(String.valueOf('\u6452'), String.valueOf('\u5C4F')); // 摒 => 屏
-		variant2Trad.put(String.valueOf('\uF94B'), String.valueOf('\u5C61')); // 屢 => 屡
-		variant2Trad.put(String.valueOf('\u8DF7'), String.valueOf('\u5C69')); // 跷 => 屩
-		variant2Trad.put(String.valueOf('\u8E7A'), String.valueOf('\u5C69')); // 蹺 => 屩
-		variant2Trad.put(String.valueOf('\u8E7B'), String.valueOf('\u5C69')); // 蹻 => 屩
-		variant2Trad.put(String.valueOf('\u5C7B'), String.valueOf('\u5C76')); // 屻 => 屶
-		variant2Trad.put(String.valueOf('\uF900'), String.valueOf('\u5C82')); // 豈 => 岂
-		variant2Trad.put(String.valueOf('\u6B67'), String.valueOf('\u5C90')); // 歧 => 岐
-		variant2Trad.put(String.valueOf('\u5CB4'), String.valueOf('\u5C96')); // 岴 => 岖
-		variant2Trad.put(String.valueOf('\u67C3'), String.valueOf('\u5C96')); // 柃 => 岖
-		variant2Trad.put(String.valueOf('\uF921'), String.valueOf('\u5C9A')); // 嵐 => 岚
-		variant2Trad.put(String.valueOf('\u5D8B'), String.valueOf('\u5C9B')); // 嶋 => 岛
-		variant2Trad.put(String.valueOf('\u5D8C'), String.valueOf('\u5C9B')); // 嶌 => 岛
-		variant2Trad.put(String.valueOf('\u5DCC'), String.valueOf('\u5CA9')); // 巌 => 岩
-		variant2Trad.put(String.valueOf('\u5CC0'), String.valueOf('\u5CAB')); // 峀 => 岫
-		variant2Trad.put(String.valueOf('\u5CBA'), String.valueOf('\u5CAD')); // 岺 => 岭
-		variant2Trad.put(String.valueOf('\uF9AB'), String.valueOf('\u5CAD')); // 嶺 => 岭
-		variant2Trad.put(String.valueOf('\u5D20'), String.valueOf('\u5CBD')); // 崠 => 岽
-		variant2Trad.put(String.valueOf('\u5CEF'), String.valueOf('\u5CC4')); // 峯 => 峄
-		variant2Trad.put(String.valueOf('\u5CF0'), String.valueOf('\u5CC4')); // 峰 => 峄
-		variant2Trad.put(String.valueOf('\u5CE9'), String.valueOf('\u5CE8')); // 峩 => 峨
-		variant2Trad.put(String.valueOf('\u786C'), String.valueOf('\u5CFA')); // 硬 => 峺
-		variant2Trad.put(String.valueOf('\u5D08'), String.valueOf('\u5D07')); // 崈 => 崇
-		variant2Trad.put(String.valueOf('\u5D11'), String.valueOf('\u5D10')); // 崑 => 崐
-		variant2Trad.put(String.valueOf('\u5D16'), String.valueOf('\u5D15')); // 崖 => 崕
-		variant2Trad.put(String.valueOf('\u5D5A'), String.valueOf('\u5D1F')); // 嵚 => 崟
-		variant2Trad.put(String.valueOf('\u5D94'), String.valueOf('\u5D1F')); // 嶔 => 崟
-		variant2Trad.put(String.valueOf('\u5D47'), String.valueOf('\u5D46')); // 嵇 => 嵆
-		variant2Trad.put(String.valueOf('\u6E13'), String.valueOf('\u5D60')); // 渓 => 嵠
-		variant2Trad.put(String.valueOf('\u6EAA'), String.valueOf('\u5D60')); // 溪 => 嵠
-		variant2Trad.put(String.valueOf('\u5D73'), String.valueOf('\u5D6F')); // 嵳 => 嵯
-		variant2Trad.put(String.valueOf('\u5DD3'), String.valueOf('\u5DC5')); // 巓 => 巅
-		variant2Trad.put(String.valueOf('\u5EF5'), String.valueOf('\u5DE1')); // 廵 => 巡
-		variant2Trad.put(String.valueOf('\u9245'), String.valueOf('\u5DE8')); // 鉅 => 巨
-		variant2Trad.put(String.valueOf('\u949C'), String.valueOf('\u5DE8')); // 钜 => 巨
-		variant2Trad.put(String.valueOf('\u7B06'), String.valueOf('\u5DF4')); // 笆 => 巴
-		variant2Trad.put(String.valueOf('\u82AD'), String.valueOf('\u5DF4')); // 芭 => 巴
-		variant2Trad.put(String.valueOf('\u5DFD'), String.valueOf('\u5DFA')); // 巽 => 巺
-		variant2Trad.put(String.valueOf('\u5E64'), String.valueOf('\u5E01')); // 幤 => 币
-		variant2Trad.put(String.valueOf('\u7D19'), String.valueOf('\u5E0B')); // 紙 => 帋
-		variant2Trad.put(String.valueOf('\u7EB8'), String.valueOf('\u5E0B')); // 纸 => 帋
-		variant2Trad.put(String.valueOf('\u7A00'), String.valueOf('\u5E0C')); // 稀 => 希
-		variant2Trad.put(String.valueOf('\u8CEC'), String.valueOf('\u5E10')); // 賬 => 帐
-		variant2Trad.put(String.valueOf('\u8D26'), String.valueOf('\u5E10')); // 账 => 帐
-		variant2Trad.put(String.valueOf('\uF9A6'), String.valueOf('\u5E18')); // 簾 => 帘
-		variant2Trad.put(String.valueOf('\u83F7'), String.valueOf('\u5E1A')); // 菷 => 帚
-		variant2Trad.put(String.valueOf('\u8EFF'), String.valueOf('\u5E21')); // 軿 => 帡
-		variant2Trad.put(String.valueOf('\u8F27'), String.valueOf('\u5E21')); // 輧 => 帡
-		variant2Trad.put(String.valueOf('\u88D9'), String.valueOf('\u5E2C')); // 裙 => 帬
-		variant2Trad.put(String.valueOf('\u88E0'), String.valueOf('\u5E2C')); // 裠 => 帬
-		variant2Trad.put(String.valueOf('\u5E47'), String.valueOf('\u5E2E')); // 幇 => 帮
-		variant2Trad.put(String.valueOf('\u5E5A'), String.valueOf('\u5E2E')); // 幚 => 帮
-		variant2Trad.put(String.valueOf('\u7688'), String.valueOf('\u6B78')); // 皈 => 歸
-		variant2Trad.put(String.valueOf('\u6A66'), String.valueOf('\u5E62')); // 橦 => 幢
-		variant2Trad.put(String.valueOf('\u8955'), String.valueOf('\u5E71')); // 襕 => 幱
-		variant2Trad.put(String.valueOf('\u8974'), String.valueOf('\u5E71')); // 襴 => 幱
-		variant2Trad.put(String.valueOf('\u79CA'), String.valueOf('\u5E74')); // 秊 => 年
-		variant2Trad.put(String.valueOf('\uF995'), String.valueOf('\u5E74')); // 秊 => 年
-		variant2Trad.put(String.valueOf('\u8298'), String.valueOf('\u5E87')); // 芘 => 庇
-		variant2Trad.put(String.valueOf('\u83DD'), String.valueOf('\u5E87')); // 菝 => 庇
-		variant2Trad.put(String.valueOf('\u8406'), String.valueOf('\u5E87')); // 萆 => 庇
-		variant2Trad.put(String.valueOf('\u84D6'), String.valueOf('\u5E87')); // 蓖 => 庇
-		variant2Trad.put(String.valueOf('\u853D'), String.valueOf('\u5E87')); // 蔽 => 庇
-		variant2Trad.put(String.valueOf('\uF982'), String.valueOf('\u5E90')); // 廬 => 庐
-		variant2Trad.put(String.valueOf('\u5EBF'), String.valueOf('\u5E99')); // 庿 => 庙
-		variant2Trad.put(String.valueOf('\u5ED3'), String.valueOf('\u5EA6')); // 廓 => 度
-		variant2Trad.put(String.valueOf('\uFA0B'), String.valueOf('\u5EA6')); // 廓 => 度
-		variant2Trad.put(String.valueOf('\u83F4'), String.valueOf('\u5EB5')); // 菴 => 庵
-		variant2Trad.put(String.valueOf('\u5EBB'), String.valueOf('\u5EB6')); // 庻 => 庶
-		variant2Trad.put(String.valueOf('\u7980'), String.valueOf('\u5EE9')); // 禀 => 廩
-		variant2Trad.put(String.valueOf('\u7A1F'), String.valueOf('\u5EE9')); // 稟 => 廩
-		variant2Trad.put(String.valueOf('\u8FA7'), String.valueOf('\u5F01')); // 辧 => 弁
-		variant2Trad.put(String.valueOf('\u8FA8'), String.valueOf('\u5F01')); // 辨 => 弁
-		variant2Trad.put(String.valueOf('\uF962'), String.valueOf('\u5F02')); // 異 => 异
-		variant2Trad.put(String.valueOf('\u5F4A'), String.valueOf('\u5F37')); // 彊 => 強
-		variant2Trad.put(String.valueOf('\u5F51'), String.valueOf('\u5F50')); // 彑 => 彐
-		variant2Trad.put(String.valueOf('\u5F5C'), String.valueOf('\u5F5B')); // 彜 => 彛
-		variant2Trad.put(String.valueOf('\u5F5D'), String.valueOf('\u5F5B')); // 彝 => 彛
-		variant2Trad.put(String.valueOf('\u5F5E'), String.valueOf('\u5F5B')); // 彞 => 彛
-		variant2Trad.put(String.valueOf('\u5F60'), String.valueOf('\u5F5F')); // 彠 => 彟
-		variant2Trad.put(String.valueOf('\u5F72'), String.valueOf('\u5F68')); // 彲 => 彨
-		variant2Trad.put(String.valueOf('\u5F83'), String.valueOf('\u5F80')); // 徃 => 往
-		variant2Trad.put(String.valueOf('\u8FEC'), String.valueOf('\u5F80')); // 迬 => 往
-		variant2Trad.put(String.valueOf('\u8FF3'), String.valueOf('\u5F84')); // 迳 => 径
-		variant2Trad.put(String.valueOf('\u9015'), String.valueOf('\u5F84')); // 逕 => 径
-		variant2Trad.put(String.valueOf('\u965F'), String.valueOf('\u5F8F')); // 陟 => 徏
-		variant2Trad.put(String.valueOf('\u904D'), String.valueOf('\u5FA7')); // 遍 => 徧
-		variant2Trad.put(String.valueOf('\u9051'), String.valueOf('\u5FA8')); // 遑 => 徨
-		variant2Trad.put(String.valueOf('\u7E47'), String.valueOf('\u5FAD')); // 繇 => 徭
-		variant2Trad.put(String.valueOf('\u60EA'), String.valueOf('\u5FB7')); // 惪 => 德
-		variant2Trad.put(String.valueOf('\u5FC4'), String.valueOf('\u5FC3')); // 忄 => 心
-		variant2Trad.put(String.valueOf('\u61F4'), String.valueOf('\u5FCF')); // 懴 => 忏
-		variant2Trad.put(String.valueOf('\u668B'), String.valueOf('\u5FDE')); // 暋 => 忞
-		variant2Trad.put(String.valueOf('\u609F'), String.valueOf('\u5FE2')); // 悟 => 忢
-		variant2Trad.put(String.valueOf('\u60B4'), String.valueOf('\u5FF0')); // 悴 => 忰
-		variant2Trad.put(String.valueOf('\u6091'), String.valueOf('\u6016')); // 悑 => 怖
-		variant2Trad.put(String.valueOf('\uF98F'), String.valueOf('\u601C')); // 憐 => 怜
-		variant2Trad.put(String.valueOf('\u6056'), String.valueOf('\u601D')); // 恖 => 思
-		variant2Trad.put(String.valueOf('\u6060'), String.valueOf('\u602A')); // 恠 => 怪
-		variant2Trad.put(String.valueOf('\u6374'), String.valueOf('\u603B')); // 捴 => 总
-		variant2Trad.put(String.valueOf('\u6403'), String.valueOf('\u603B')); // 搃 => 总
-		variant2Trad.put(String.valueOf('\u7E02'), String.valueOf('\u603B')); // 縂 => 总
-		variant2Trad.put(String.valueOf('\u609B'), String.valueOf('\u6042')); // 悛 => 恂
-		variant2Trad.put(String.valueOf('\uF990'), String.valueOf('\u604B')); // 戀 => 恋
-		variant2Trad.put(String.valueOf('\u6085'), String.valueOf('\u6071')); // 悅 => 恱
-		variant2Trad.put(String.valueOf('\u60A6'), String.valueOf('\u6071')); // 悦 => 恱
-		variant2Trad.put(String.valueOf('\u6185'), String.valueOf('\u6078')); // 憅 => 恸
-		variant2Trad.put(String.valueOf('\u6102'), String.valueOf('\u6096')); // 愂 => 悖
-		variant2Trad.put(String.valueOf('\u610F'), String.valueOf('\u60A5')); // 意 => 悥
-		variant2Trad.put(String.valueOf('\u6133'), String.valueOf('\u60E7')); // 愳 => 惧
-		variant2Trad.put(String.valueOf('\u6159'), String.valueOf('\u60ED')); // 慙 => 惭
-		variant2Trad.put(String.valueOf('\u8822'), String.valueOf('\u60F7')); // 蠢 => 惷
-		variant2Trad.put(String.valueOf('\u6139'), String.valueOf('\u6111')); // 愹 => 愑
-		variant2Trad.put(String.valueOf('\u8A34'), String.valueOf('\u612C')); // 訴 => 愬
-		variant2Trad.put(String.valueOf('\u8BC9'), String.valueOf('\u612C')); // 诉 => 愬
-		variant2Trad.put(String.valueOf('\u614E'), String.valueOf('\u613C')); // 慎 => 愼
-		variant2Trad.put(String.valueOf('\u661A'), String.valueOf('\u613C')); // 昚 => 愼
-		variant2Trad.put(String.valueOf('\u7718'), String.valueOf('\u613C')); // 眘 => 愼
-		variant2Trad.put(String.valueOf('\u6196'), String.valueOf('\u616D')); // 憖 => 慭
-		variant2Trad.put(String.valueOf('\u617D'), String.valueOf('\u617C')); // 慽 => 慼
-		variant2Trad.put(String.valueOf('\u61A9'), String.valueOf('\u6187')); // 憩 => 憇
-		variant2Trad.put(String.valueOf('\u6726'), String.valueOf('\u61DE')); // 朦 => 懞
-		variant2Trad.put(String.valueOf('\u6FDB'), String.valueOf('\u61DE')); // 濛 => 懞
-		variant2Trad.put(String.valueOf('\u77C7'), String.valueOf('\u61DE')); // 矇 => 懞
-		variant2Trad.put(String.valueOf('\u82CE'), String.valueOf('\u61DE')); // 苎 => 懞
-		variant2Trad.put(String.valueOf('\u82E7'), String.valueOf('\u61DE')); // 苧 => 懞
-		variant2Trad.put(String.valueOf('\u85B4'), String.valueOf('\u61DE')); // 薴 => 懞
-		variant2Trad.put(String.valueOf('\u6B53'), String.valueOf('\u61FD')); // 歓 => 懽
-		variant2Trad.put(String.valueOf('\u6B61'), String.valueOf('\u61FD')); // 歡 => 懽
-		variant2Trad.put(String.valueOf('\u8B99'), String.valueOf('\u61FD')); // 讙 => 懽
-		variant2Trad.put(String.valueOf('\u9A69'), String.valueOf('\u61FD')); // 驩 => 懽
-		variant2Trad.put(String.valueOf('\u621E'), String.valueOf('\u621B')); // 戞 => 戛
-		variant2Trad.put(String.valueOf('\u8CCA'), String.valueOf('\u621D')); // 賊 => 戝
-		variant2Trad.put(String.valueOf('\u8D3C'), String.valueOf('\u621D')); // 贼 => 戝
-		variant2Trad.put(String.valueOf('\u78A5'), String.valueOf('\u6241')); // 碥 => 扁
-		variant2Trad.put(String.valueOf('\u717D'), String.valueOf('\u6247')); // 煽 => 扇
-		variant2Trad.put(String.valueOf('\u7D25'), String.valueOf('\u624E')); // 紥 => 扎
-		variant2Trad.put(String.valueOf('\u6738'), String.valueOf('\u6250')); // 朸 => 扐
-		variant2Trad.put(String.valueOf('\u6534'), String.valueOf('\u6251')); // 攴 => 扑
-		variant2Trad.put(String.valueOf('\u6443'), String.valueOf('\u625B')); // 摃 => 扛
-		variant2Trad.put(String.valueOf('\u64C0'), String.valueOf('\u625E')); // 擀 => 扞
-		variant2Trad.put(String.valueOf('\u640B'), String.valueOf('\u6260')); // 搋 => 扠
-		variant2Trad.put(String.valueOf('\u633F'), String.valueOf('\u6271')); // 挿 => 扱
-		variant2Trad.put(String.valueOf('\u63D2'), String.valueOf('\u6271')); // 插 => 扱
-		variant2Trad.put(String.valueOf('\u63F7'), String.valueOf('\u6271')); // 揷 => 扱
-		variant2Trad.put(String.valueOf('\u62B5'), String.valueOf('\u627A')); // 抵 => 扺
-		variant2Trad.put(String.valueOf('\u62DA'), String.valueOf('\u6283')); // 拚 => 抃
-		variant2Trad.put(String.valueOf('\u62B1'), String.valueOf('\u6294')); // 抱 => 抔
-		variant2Trad.put(String.valueOf('\u638A'), String.valueOf('\u6294')); // 掊 => 抔
-		variant2Trad.put(String.valueOf('\u634A'), String.valueOf('\u6299')); // 捊 => 抙
-		variant2Trad.put(String.valueOf('\u62CA'), String.valueOf('\u629A')); // 拊 => 抚
-		variant2Trad.put(String.valueOf('\u630E'), String.valueOf('\u62A0')); // 挎 => 抠
-		variant2Trad.put(String.valueOf('\u67C6'), String.valueOf('\u62C9')); // 柆 => 拉
-		variant2Trad.put(String.valueOf('\u646D'), String.valueOf('\u62D3')); // 摭 => 拓
-		variant2Trad.put(String.valueOf('\u62D6'), String.valueOf('\u62D5')); // 拖 => 拕
-		variant2Trad.put(String.valueOf('\u63CE'), String.valueOf('\u62F4')); // 揎 => 拴
-		variant2Trad.put(String.valueOf('\u6306'), String.valueOf('\u6305')); // 挆 => 挅
-		variant2Trad.put(String.valueOf('\u6332'), String.valueOf('\u6331')); // 挲 => 挱
-		variant2Trad.put(String.valueOf('\u651F'), String.valueOf('\u6343')); // 攟 => 捃
-		variant2Trad.put(String.valueOf('\u820E'), String.valueOf('\u6368')); // 舎 => 捨
-		variant2Trad.put(String.valueOf('\u6485'), String.valueOf('\u6398')); // 撅 => 掘
-		variant2Trad.put(String.valueOf('\uF930'), String.valueOf('\u63B3')); // 擄 => 掳
-		variant2Trad.put(String.valueOf('\u6414'), String.valueOf('\u63BB')); // 搔 => 掻
-		variant2Trad.put(String.valueOf('\u6404'), String.valueOf('\u63EF')); // 搄 => 揯
-		variant2Trad.put(String.valueOf('\u7DBB'), String.valueOf('\u6416')); // 綻 => 搖
-		variant2Trad.put(String.valueOf('\u7EFD'), String.valueOf('\u6416')); // 绽 => 搖
-		variant2Trad.put(String.valueOf('\u64B9'), String.valueOf('\u6405')); // 撹 => 搅
-		variant2Trad.put(String.valueOf('\u642D'), String.valueOf('\u6428')); // 搭 => 搨
-		variant2Trad.put(String.valueOf('\u6528'), String.valueOf('\u6432')); // 攨 => 搲
-		variant2Trad.put(String.valueOf('\u64C6'), String.valueOf('\u64AF')); // 擆 => 撯
-		variant2Trad.put(String.valueOf('\u6512'), String.valueOf('\u6505')); // 攒 => 攅
-		variant2Trad.put(String.valueOf('\u6522'), String.valueOf('\u6505')); // 攢 => 攅
-		variant2Trad.put(String.valueOf('\u655A'), String.valueOf('\u6553')); // 敚 => 敓
-		variant2Trad.put(String.valueOf('\u656A'), String.valueOf('\u6560')); // 敪 => 敠
-		variant2Trad.put(String.valueOf('\u69E3'), String.valueOf('\u6567')); // 槣 => 敧
-		variant2Trad.put(String.valueOf('\u6585'), String.valueOf('\u6569')); // 斅 => 敩
-		variant2Trad.put(String.valueOf('\u6586'), String.valueOf('\u6569')); // 斆 => 敩
-		variant2Trad.put(String.valueOf('\uF969'), String.valueOf('\u6570')); // 數 => 数
-		variant2Trad.put(String.valueOf('\u6573'), String.valueOf('\u6571')); // 敳 => 敱
-		variant2Trad.put(String.valueOf('\u65C9'), String.valueOf('\u6577')); // 旉 => 敷
-		variant2Trad.put(String.valueOf('\u657D'), String.valueOf('\u657A')); // 敽 => 敺
-		variant2Trad.put(String.valueOf('\u657F'), String.valueOf('\u657A')); // 敿 => 敺
-		variant2Trad.put(String.valueOf('\u899A'), String.valueOf('\u658D')); // 覚 => 斍
-		variant2Trad.put(String.valueOf('\u89BA'), String.valueOf('\u658D')); // 覺 => 斍
-		variant2Trad.put(String.valueOf('\u89C9'), String.valueOf('\u658D')); // 觉 => 斍
-		variant2Trad.put(String.valueOf('\u95D8'), String.valueOf('\u6597')); // 闘 => 斗
-		variant2Trad.put(String.valueOf('\u9B26'), String.valueOf('\u6597')); // 鬦 => 斗
-		variant2Trad.put(String.valueOf('\u9B2A'), String.valueOf('\u6597')); // 鬪 => 斗
-		variant2Trad.put(String.valueOf('\u9B2C'), String.valueOf('\u6597')); // 鬬 => 斗
-		variant2Trad.put(String.valueOf('\u7B4B'), String.valueOf('\u65A4')); // 筋 => 斤
-		variant2Trad.put(String.valueOf('\u89D4'), String.valueOf('\u65A4')); // 觔 => 斤
-		variant2Trad.put(String.valueOf('\u65B5'), String.valueOf('\u65B2')); // 斵 => 斲
-		variant2Trad.put(String.valueOf('\u65DB'), String.valueOf('\u65D9')); // 旛 => 旙
-		variant2Trad.put(String.valueOf('\u86CB'), String.valueOf('\u65E6')); // 蛋 => 旦
-		variant2Trad.put(String.valueOf('\u65EE'), String.valueOf('\u65ED')); // 旮 => 旭
-		variant2Trad.put(String.valueOf('\u65EF'), String.valueOf('\u65ED')); // 旯 => 旭
-		variant2Trad.put(String.valueOf('\u663F'), String.valueOf('\u65F7')); // 昿 => 旷
-		variant2Trad.put(String.valueOf('\u6625'), String.valueOf('\u65FE')); // 春 => 旾
-		variant2Trad.put(String.valueOf('\u8405'), String.valueOf('\u65FE')); // 萅 => 旾
-		variant2Trad.put(String.valueOf('\u9633'), String.valueOf('\u661C')); // 阳 => 昜
-		variant2Trad.put(String.valueOf('\u967D'), String.valueOf('\u661C')); // 陽 => 昜
-		variant2Trad.put(String.valueOf('\u6701'), String.valueOf('\u661D')); // 朁 => 昝
-		variant2Trad.put(String.valueOf('\u668E'), String.valueOf('\u6620')); // 暎 => 映
-		variant2Trad.put(String.valueOf('\u6630'), String.valueOf('\u662F')); // 昰 => 是
-		variant2Trad.put(String.valueOf('\u66A2'), String.valueOf('\u6636')); // 暢 => 昶
-		variant2Trad.put(String.valueOf('\u7545'), String.valueOf('\u6636')); // 畅 => 昶
-		variant2Trad.put(String.valueOf('\u9F02'), String.valueOf('\u6641')); // 鼂 => 晁
-		variant2Trad.put(String.valueOf('\u9F0C'), String.valueOf('\u6641')); // 鼌 => 晁
-		variant2Trad.put(String.valueOf('\u6644'), String.valueOf('\u6643')); // 晄 => 晃
-		variant2Trad.put(String.valueOf('\u6685'), String.valueOf('\u6645')); // 暅 => 晅
-		variant2Trad.put(String.valueOf('\u66C5'), String.valueOf('\u6654')); // 曅 => 晔
-		variant2Trad.put(String.valueOf('\uF9C5'), String.valueOf('\u6655')); // 暈 => 晕
-		variant2Trad.put(String.valueOf('\u6670'), String.valueOf('\u6662')); // 晰 => 晢
-		variant2Trad.put(String.valueOf('\u669C'), String.valueOf('\u666E')); // 暜 => 普
-		variant2Trad.put(String.valueOf('\u6697'), String.valueOf('\u667B')); // 暗 => 晻
-		variant2Trad.put(String.valueOf('\u95C7'), String.valueOf('\u667B')); // 闇 => 晻
-		variant2Trad.put(String.valueOf('\u714A'), String.valueOf('\u6684')); // 煊 => 暄
-		variant2Trad.put(String.valueOf('\u66CD'), String.valueOf('\u66A4')); // 曍 => 暤
-		variant2Trad.put(String.valueOf('\u66C1'), String.valueOf('\u66A8')); // 曁 => 暨
-		variant2Trad.put(String.valueOf('\u71FF'), String.valueOf('\u66DC')); // 燿 => 曜
-		variant2Trad.put(String.valueOf('\u8000'), String.valueOf('\u66DC')); // 耀 => 曜
-		variant2Trad.put(String.valueOf('\u66F5'), String.valueOf('\u66F3')); // 曵 => 曳
-		variant2Trad.put(String.valueOf('\u66FA'), String.valueOf('\u66F9')); // 曺 => 曹
-		variant2Trad.put(String.valueOf('\u66FE'), String.valueOf('\u66FD')); // 曾 => 曽
-		variant2Trad.put(String.valueOf('\u9812'), String.valueOf('\u670C')); // 頒 => 朌
-		variant2Trad.put(String.valueOf('\u9881'), String.valueOf('\u670C')); // 颁 => 朌
-		variant2Trad.put(String.valueOf('\u80CA'), String.valueOf('\u6710')); // 胊 => 朐
-		variant2Trad.put(String.valueOf('\u80AD'), String.valueOf('\u6712')); // 肭 => 朒
-		variant2Trad.put(String.valueOf('\u6717'), String.valueOf('\u6716')); // 朗 => 朖
-		variant2Trad.put(String.valueOf('\uF929'), String.valueOf('\u6716')); // 朗 => 朖
-		variant2Trad.put(String.valueOf('\u8127'), String.valueOf('\u6718')); // 脧 => 朘
-		variant2Trad.put(String.valueOf('\u6722'), String.valueOf('\u671B')); // 朢 => 望
-		variant2Trad.put(String.valueOf('\u671F'), String.valueOf('\u671E')); // 期 => 朞
-		variant2Trad.put(String.valueOf('\u7B49'), String.valueOf('\u6729')); // 等 => 朩
-		variant2Trad.put(String.valueOf('\u8853'), String.valueOf('\u672E')); // 術 => 朮
-		variant2Trad.put(String.valueOf('\u6741'), String.valueOf('\u6732')); // 杁 => 朲
-		variant2Trad.put(String.valueOf('\u6A8F'), String.valueOf('\u6734')); // 檏 => 朴
-		variant2Trad.put(String.valueOf('\u6736'), String.valueOf('\u6735')); // 朶 => 朵
-		variant2Trad.put(String.valueOf('\uF970'), String.valueOf('\u6740')); // 殺 => 杀
-		variant2Trad.put(String.valueOf('\u6803'), String.valueOf('\u6764')); // 栃 => 杤
-		variant2Trad.put(String.valueOf('\u686E'), String.valueOf('\u676F')); // 桮 => 杯
-		variant2Trad.put(String.valueOf('\u9341'), String.valueOf('\u6774')); // 鍁 => 杴
-		variant2Trad.put(String.valueOf('\u9528'), String.valueOf('\u6774')); // 锨 => 杴
-		variant2Trad.put(String.valueOf('\u6780'), String.valueOf('\u677E')); // 枀 => 松
-		variant2Trad.put(String.valueOf('\u67A9'), String.valueOf('\u677E')); // 枩 => 松
-		variant2Trad.put(String.valueOf('\u6960'), String.valueOf('\u678F')); // 楠 => 枏
-		variant2Trad.put(String.valueOf('\u680C'), String.valueOf('\u67A6')); // 栌 => 枦
-		variant2Trad.put(String.valueOf('\u6AE8'), String.valueOf('\u67A6')); // 櫨 => 枦
-		variant2Trad.put(String.valueOf('\u6A86'), String.valueOf('\u67AE')); // 檆 => 枮
-		variant2Trad.put(String.valueOf('\u67FF'), String.valueOf('\u67BE')); // 柿 => 枾
-		variant2Trad.put(String.valueOf('\u8235'), String.valueOf('\u67C1')); // 舵 => 柁
-		variant2Trad.put(String.valueOf('\u6822'), String.valueOf('\u67CF')); // 栢 => 柏
-		variant2Trad.put(String.valueOf('\u6F06'), String.valueOf('\u67D2')); // 漆 => 柒
-		variant2Trad.put(String.valueOf('\u6942'), String.valueOf('\u67E5')); // 楂 => 查
-		variant2Trad.put(String.valueOf('\u67FE'), String.valueOf('\u67E9')); // 柾 => 柩
-		variant2Trad.put(String.valueOf('\u6801'), String.valueOf('\u67F3')); // 栁 => 柳
-		variant2Trad.put(String.valueOf('\u687A'), String.valueOf('\u67F3')); // 桺 => 柳
-		variant2Trad.put(String.valueOf('\u8308'), String.valueOf('\u67F4')); // 茈 => 柴
-		variant2Trad.put(String.valueOf('\u6A2B'), String.valueOf('\u67FD')); // 樫 => 柽
-		variant2Trad.put(String.valueOf('\u69DE'), String.valueOf('\u680A')); // 槞 => 栊
-		variant2Trad.put(String.valueOf('\u6AAA'), String.valueOf('\u680E')); // 檪 => 栎
-		variant2Trad.put(String.valueOf('\uF91D'), String.valueOf('\u680F')); // 欄 => 栏
-		variant2Trad.put(String.valueOf('\u6867'), String.valueOf('\u681D')); // 桧 => 栝
-		variant2Trad.put(String.valueOf('\u6A9C'), String.valueOf('\u681D')); // 檜 => 栝
-		variant2Trad.put(String.valueOf('\u69C5'), String.valueOf('\u6838')); // 槅 => 核
-		variant2Trad.put(String.valueOf('\u6EE6'), String.valueOf('\u683E')); // 滦 => 栾
-		variant2Trad.put(String.valueOf('\u7064'), String.valueOf('\u683E')); // 灤 => 栾
-		variant2Trad.put(String.valueOf('\u822A'), String.valueOf('\u6841')); // 航 => 桁
-		variant2Trad.put(String.valueOf('\u68EC'), String.valueOf('\u684A')); // 棬 => 桊
-		variant2Trad.put(String.valueOf('\u68F9'), String.valueOf('\u684C')); // 棹 => 桌
-		variant2Trad.put(String.valueOf('\u6AC2'), String.valueOf('\u684C')); // 櫂 => 桌
-		variant2Trad.put(String.valueOf('\u6852'), String.valueOf('\u6851')); // 桒 => 桑
-		variant2Trad.put(String.valueOf('\u69D4'), String.valueOf('\u6855')); // 槔 => 桕
-		variant2Trad.put(String.valueOf('\u6A70'), String.valueOf('\u6855')); // 橰 => 桕
-		variant2Trad.put(String.valueOf('\u6A33'), String.valueOf('\u686A')); // 樳 => 桪
-		variant2Trad.put(String.valueOf('\u6973'), String.valueOf('\u6885')); // 楳 => 梅
-		variant2Trad.put(String.valueOf('\u69DF'), String.valueOf('\u68B9')); // 槟 => 梹
-		variant2Trad.put(String.valueOf('\u6AB3'), String.valueOf('\u68B9')); // 檳 => 梹
-		variant2Trad.put(String.valueOf('\u9E93'), String.valueOf('\u68BA')); // 麓 => 梺
-		variant2Trad.put(String.valueOf('\u68CB'), String.valueOf('\u68CA')); // 棋 => 棊
-		variant2Trad.put(String.valueOf('\u7881'), String.valueOf('\u68CA')); // 碁 => 棊
-		variant2Trad.put(String.valueOf('\u7BDA'), String.valueOf('\u68D0')); // 篚 => 棐
-		variant2Trad.put(String.valueOf('\u6936'), String.valueOf('\u68D5')); // 椶 => 棕
-		variant2Trad.put(String.valueOf('\u7BA0'), String.valueOf('\u68F0')); // 箠 => 棰
-		variant2Trad.put(String.valueOf('\uF956'), String.valueOf('\u68F1')); // 稜 => 棱
-		variant2Trad.put(String.valueOf('\u76CC'), String.valueOf('\u6900')); // 盌 => 椀
-		variant2Trad.put(String.valueOf('\u832D'), String.valueOf('\u6912')); // 茭 => 椒
-		variant2Trad.put(String.valueOf('\u695A'), String.valueOf('\u6918')); // 楚 => 椘
-		variant2Trad.put(String.valueOf('\u69FC'), String.valueOf('\u691D')); // 槼 => 椝
-		variant2Trad.put(String.valueOf('\u69F6'), String.valueOf('\u6922')); // 槶 => 椢
-		variant2Trad.put(String.valueOf('\u6A3F'), String.valueOf('\u692B')); // 樿 => 椫
-		variant2Trad.put(String.valueOf('\u6955'), String.valueOf('\u692D')); // 楕 => 椭
-		variant2Trad.put(String.valueOf('\u724B'), String.valueOf('\u693E')); // 牋 => 椾
-		variant2Trad.put(String.valueOf('\u7B3A'), String.valueOf('\u693E')); // 笺 => 椾
-		variant2Trad.put(String.valueOf('\u7B8B'), String.valueOf('\u693E')); // 箋 => 椾
-		variant2Trad.put(String.valueOf('\u8302'), String.valueOf('\u6959')); // 茂 => 楙
-		variant2Trad.put(String.valueOf('\u7CCA'), String.valueOf('\u695C')); // 糊 => 楜
-		variant2Trad.put(String.valueOf('\u80E1'), String.valueOf('\u695C')); // 胡 => 楜
-		variant2Trad.put(String.valueOf('\u846B'), String.valueOf('\u695C')); // 葫 => 楜
-		variant2Trad.put(String.valueOf('\u8774'), String.valueOf('\u695C')); // 蝴 => 楜
-		variant2Trad.put(String.valueOf('\u885A'), String.valueOf('\u695C')); // 衚 => 楜
-		variant2Trad.put(String.valueOf('\u9B0D'), String.valueOf('\u695C')); // 鬍 => 楜
-		variant2Trad.put(String.valueOf('\u6986'), String.valueOf('\u6961')); // 榆 => 楡
-		variant2Trad.put(String.valueOf('\uF94C'), String.valueOf('\u697C')); // 樓 => 楼
-		variant2Trad.put(String.valueOf('\u69EA'), String.valueOf('\u6982')); // 槪 => 概
-		variant2Trad.put(String.valueOf('\u6B05'), String.valueOf('\u6989')); // 欅 => 榉
-		variant2Trad.put(String.valueOf('\u77E9'), String.valueOf('\u6998')); // 矩 => 榘
-		variant2Trad.put(String.valueOf('\u6A4A'), String.valueOf('\u69B4')); // 橊 => 榴
-		variant2Trad.put(String.valueOf('\u6A87'), String.valueOf('\u69DC')); // 檇 => 槜
-		variant2Trad.put(String.valueOf('\u898F'), String.valueOf('\u69FB')); // 規 => 槻
-		variant2Trad.put(String.valueOf('\u89C4'), String.valueOf('\u69FB')); // 规 => 槻
-		variant2Trad.put(String.valueOf('\u6A79'), String.valueOf('\u6A10')); // 橹 => 樐
-		variant2Trad.put(String.valueOf('\u6AD3'), String.valueOf('\u6A10')); // 櫓 => 樐
-		variant2Trad.put(String.valueOf('\u822E'), String.valueOf('\u6A10')); // 舮 => 樐
-		variant2Trad.put(String.valueOf('\u823B'), String.valueOf('\u6A10')); // 舻 => 樐
-		variant2Trad.put(String.valueOf('\u8263'), String.valueOf('\u6A10')); // 艣 => 樐
-		variant2Trad.put(String.valueOf('\u826A'), String.valueOf('\u6A10')); // 艪 => 樐
-		variant2Trad.put(String.valueOf('\u826B'), String.valueOf('\u6A10')); // 艫 => 樐
-		variant2Trad.put(String.valueOf('\uF931'), String.valueOf('\u6A10')); // 櫓 => 樐
-		variant2Trad.put(String.valueOf('\u6AC1'), String.valueOf('\u6A12')); // 櫁 => 樒
-		variant2Trad.put(String.valueOf('\u6A45'), String.valueOf('\u6A21')); // 橅 => 模
-		variant2Trad.put(String.valueOf('\u8311'), String.valueOf('\u6A22')); // 茑 => 樢
-		variant2Trad.put(String.valueOf('\u8526'), String.valueOf('\u6A22')); // 蔦 => 樢
-		variant2Trad.put(String.valueOf('\u9792'), String.valueOf('\u6A47')); // 鞒 => 橇
-		variant2Trad.put(String.valueOf('\u97BD'), String.valueOf('\u6A47')); // 鞽 => 橇
-		variant2Trad.put(String.valueOf('\u8022'), String.valueOf('\u6A6F')); // 耢 => 橯
-		variant2Trad.put(String.valueOf('\u802E'), String.valueOf('\u6A6F')); // 耮 => 橯
-		variant2Trad.put(String.valueOf('\u6AC9'), String.valueOf('\u6A71')); // 櫉 => 橱
-		variant2Trad.put(String.valueOf('\u8538'), String.valueOf('\u6A77')); // 蔸 => 橷
-		variant2Trad.put(String.valueOf('\u6A98'), String.valueOf('\u6A97')); // 檘 => 檗
-		variant2Trad.put(String.valueOf('\u6AF1'), String.valueOf('\u6A97')); // 櫱 => 檗
-		variant2Trad.put(String.valueOf('\u8616'), String.valueOf('\u6A97')); // 蘖 => 檗
-		variant2Trad.put(String.valueOf('\u8617'), String.valueOf('\u6A97')); // 蘗 => 檗
-		variant2Trad.put(String.valueOf('\u8223'), String.valueOf('\u6AA5')); // 舣 => 檥
-		variant2Trad.put(String.valueOf('\u8264'), String.valueOf('\u6AA5')); // 艤 => 檥
-		variant2Trad.put(String.valueOf('\u6AFD'), String.valueOf('\u6ABC')); // 櫽 => 檼
-		variant2Trad.put(String.valueOf('\u90C1'), String.valueOf('\u6B1D')); // 郁 => 欝
-		variant2Trad.put(String.valueOf('\u9B30'), String.valueOf('\u6B1D')); // 鬰 => 欝
-		variant2Trad.put(String.valueOf('\u9B31'), String.valueOf('\u6B1D')); // 鬱 => 欝
-		variant2Trad.put(String.valueOf('\u6B49'), String.valueOf('\u7F3A')); // 歉 => 缺
-		variant2Trad.put(String.valueOf('\u6B7A'), String.valueOf('\u6B79')); // 歺 => 歹
-		variant2Trad.put(String.valueOf('\u6BB1'), String.valueOf('\u6B7C')); // 殱 => 歼
-		variant2Trad.put(String.valueOf('\u78D2'), String.valueOf('\u6B92')); // 磒 => 殒
-		variant2Trad.put(String.valueOf('\u9668'), String.valueOf('\u6B92')); // 陨 => 殒
-		variant2Trad.put(String.valueOf('\u9695'), String.valueOf('\u6B92')); // 隕 => 殒
-		variant2Trad.put(String.valueOf('\uF9A5'), String.valueOf('\u6B93')); // 殮 => 殓
-		variant2Trad.put(String.valueOf('\u80B2'), String.valueOf('\u6BD3')); // 育 => 毓
-		variant2Trad.put(String.valueOf('\u6C0A'), String.valueOf('\u6BE1')); // 氊 => 毡
-		variant2Trad.put(String.valueOf('\u729B'), String.valueOf('\u6C02')); // 犛 => 氂
-		variant2Trad.put(String.valueOf('\u9AE6'), String.valueOf('\u6C02')); // 髦 => 氂
-		variant2Trad.put(String.valueOf('\u6CD0'), String.valueOf('\u6C3B')); // 泐 => 氻
-		variant2Trad.put(String.valueOf('\u6C5A'), String.valueOf('\u6C59')); // 汚 => 汙
-		variant2Trad.put(String.valueOf('\u6D64'), String.valueOf('\u6C6F')); // 浤 => 汯
-		variant2Trad.put(String.valueOf('\u6C74'), String.valueOf('\u6C73')); // 汴 => 汳
-		variant2Trad.put(String.valueOf('\u6E16'), String.valueOf('\u6C88')); // 渖 => 沈
-		variant2Trad.put(String.valueOf('\uF9D6'), String.valueOf('\u6CA6')); // 淪 => 沦
-		variant2Trad.put(String.valueOf('\u6CB2'), String.valueOf('\u6CB1')); // 沲 => 沱
-		variant2Trad.put(String.valueOf('\u6E2B'), String.valueOf('\u6CC4')); // 渫 => 泄
-		variant2Trad.put(String.valueOf('\u6CFA'), String.valueOf('\u6CCA')); // 泺 => 泊
-		variant2Trad.put(String.valueOf('\u6FFC'), String.valueOf('\u6CCA')); // 濼 => 泊
-		variant2Trad.put(String.valueOf('\u7C93'), String.valueOf('\u6CD4')); // 粓 => 泔
-		variant2Trad.put(String.valueOf('\u8305'), String.valueOf('\u6CD6')); // 茅 => 泖
-		variant2Trad.put(String.valueOf('\u8306'), String.valueOf('\u6CD6')); // 茆 => 泖
-		variant2Trad.put(String.valueOf('\u6D34'), String.valueOf('\u6CD9')); // 洴 => 泙
-		variant2Trad.put(String.valueOf('\u9061'), String.valueOf('\u6CDD')); // 遡 => 泝
-		variant2Trad.put(String.valueOf('\uF94D'), String.valueOf('\u6CEA')); // 淚 => 泪
-		variant2Trad.put(String.valueOf('\u6E8C'), String.valueOf('\u6CFC')); // 溌 => 泼
-		variant2Trad.put(String.valueOf('\u6D2A'), String.valueOf('\u6D1A')); // 洪 => 洚
-		variant2Trad.put(String.valueOf('\u6D95'), String.valueOf('\u6D1F')); // 涕 => 洟
-		variant2Trad.put(String.valueOf('\u6F62'), String.valueOf('\u6D38')); // 潢 => 洸
-		variant2Trad.put(String.valueOf('\u6EAE'), String.valueOf('\u6D49')); // 溮 => 浉
-		variant2Trad.put(String.valueOf('\u6FF5'), String.valueOf('\u6FF1')); // 濵 => 濱
-		variant2Trad.put(String.valueOf('\u6F94'), String.valueOf('\u6D69')); // 澔 => 浩
-		variant2Trad.put(String.valueOf('\u6E7C'), String.valueOf('\u6D85')); // 湼 => 涅
-		variant2Trad.put(String.valueOf('\u6D9A'), String.valueOf('\u6D97')); // 涚 => 涗
-		variant2Trad.put(String.valueOf('\u6E0E'), String.valueOf('\u6D9C')); // 渎 => 涜
-		variant2Trad.put(String.valueOf('\u7006'), String.valueOf('\u6D9C')); // 瀆 => 涜
-		variant2Trad.put(String.valueOf('\uF992'), String.valueOf('\u6D9F')); // 漣 => 涟
-		variant2Trad.put(String.valueOf('\u6EB3'), String.valueOf('\u6DA2')); // 溳 => 涢
-		variant2Trad.put(String.valueOf('\u6E0B'), String.valueOf('\u6DA9')); // 渋 => 涩
-		variant2Trad.put(String.valueOf('\u6F81'), String.valueOf('\u6DA9')); // 澁 => 涩
-		variant2Trad.put(String.valueOf('\u7012'), String.valueOf('\u6DA9')); // 瀒 => 涩
-		variant2Trad.put(String.valueOf('\u7DBD'), String.valueOf('\u6DD6')); // 綽 => 淖
-		variant2Trad.put(String.valueOf('\u7E5B'), String.valueOf('\u6DD6')); // 繛 => 淖
-		variant2Trad.put(String.valueOf('\u7EF0'), String.valueOf('\u6DD6')); // 绰 => 淖
-		variant2Trad.put(String.valueOf('\u6FDE'), String.valueOf('\u6DE0')); // 濞 => 淠
-		variant2Trad.put(String.valueOf('\u6FB9'), String.valueOf('\u6DE1')); // 澹 => 淡
-		variant2Trad.put(String.valueOf('\u6F09'), String.valueOf('\u6DE5')); // 漉 => 淥
-		variant2Trad.put(String.valueOf('\u6E15'), String.valueOf('\u6DF5')); // 渕 => 淵
-		variant2Trad.put(String.valueOf('\u6E05'), String.valueOf('\u6DF8')); // 清 => 淸
-		variant2Trad.put(String.valueOf('\u9030'), String.valueOf('\u6E38')); // 逰 => 游
-		variant2Trad.put(String.valueOf('\u6EA6'), String.valueOf('\u6E44')); // 溦 => 湄
-		variant2Trad.put(String.valueOf('\u6FDA'), String.valueOf('\u6E81')); // 濚 => 溁
-		variant2Trad.put(String.valueOf('\u6F11'), String.valueOf('\u6E89')); // 漑 => 溉
-		variant2Trad.put(String.valueOf('\u6F91'), String.valueOf('\u6E9C')); // 澑 => 溜
-		variant2Trad.put(String.valueOf('\u78C6'), String.valueOf('\u6ED1')); // 磆 => 滑
-		variant2Trad.put(String.valueOf('\u704E'), String.valueOf('\u6EDF')); // 灎 => 滟
-		variant2Trad.put(String.valueOf('\u7054'), String.valueOf('\u6EDF')); // 灔 => 滟
-		variant2Trad.put(String.valueOf('\uF984'), String.valueOf('\u6EE4')); // 濾 => 滤
-		variant2Trad.put(String.valueOf('\uF922'), String.valueOf('\u6EE5')); // 濫 => 滥
-		variant2Trad.put(String.valueOf('\u6F44'), String.valueOf('\u6F31')); // 潄 => 漱
-		variant2Trad.put(String.valueOf('\u7001'), String.valueOf('\u6F3E')); // 瀁 => 漾
-		variant2Trad.put(String.valueOf('\u6F68'), String.valueOf('\u6F40')); // 潨 => 潀
-		variant2Trad.put(String.valueOf('\u704C'), String.valueOf('\u6F45')); // 灌 => 潅
-		variant2Trad.put(String.valueOf('\u6FB0'), String.valueOf('\u6F4B')); // 澰 => 潋
-		variant2Trad.put(String.valueOf('\u6FF3'), String.valueOf('\u6F5B')); // 濳 => 潛
-		variant2Trad.put(String.valueOf('\u6F99'), String.valueOf('\u6F5F')); // 澙 => 潟
-		variant2Trad.put(String.valueOf('\u7013'), String.valueOf('\u6F82')); // 瀓 => 澂
-		variant2Trad.put(String.valueOf('\u7002'), String.valueOf('\u6F9B')); // 瀂 => 澛
-		variant2Trad.put(String.valueOf('\u9800'), String.valueOf('\u6FE9')); // 頀 => 濩
-		variant2Trad.put(String.valueOf('\u95CA'), String.valueOf('\u6FF6')); // 闊 => 濶
-		variant2Trad.put(String.valueOf('\u9614'), String.valueOf('\u6FF6')); // 阔 => 濶
-		variant2Trad.put(String.valueOf('\uF9B3'), String.valueOf('\u7075')); // 靈 => 灵
-		variant2Trad.put(String.valueOf('\u7AC3'), String.valueOf('\u7076')); // 竃 => 灶
-		variant2Trad.put(String.valueOf('\u70D6'), String.valueOf('\u707D')); // 烖 => 災
-		variant2Trad.put(String.valueOf('\u7094'), String.valueOf('\u7085')); // 炔 => 炅
-		variant2Trad.put(String.valueOf('\u803F'), String.valueOf('\u7085')); // 耿 => 炅
-		variant2Trad.put(String.valueOf('\uF932'), String.valueOf('\u7089')); // 爐 => 炉
-		variant2Trad.put(String.valueOf('\u7167'), String.valueOf('\u70A4')); // 照 => 炤
-		variant2Trad.put(String.valueOf('\u70B0'), String.valueOf('\u70AE')); // 炰 => 炮
-		variant2Trad.put(String.valueOf('\u70F1'), String.valueOf('\u70AF')); // 烱 => 炯
-		variant2Trad.put(String.valueOf('\u70B2'), String.valueOf('\u70B1')); // 炲 => 炱
-		variant2Trad.put(String.valueOf('\uF993'), String.valueOf('\u70BC')); // 煉 => 炼
-		variant2Trad.put(String.valueOf('\uF99B'), String.valueOf('\u70BC')); // 鍊 => 炼
-		variant2Trad.put(String.valueOf('\u71D7'), String.valueOf('\u70C2')); // 燗 => 烂
-		variant2Trad.put(String.valueOf('\uF91E'), String.valueOf('\u70C2')); // 爛 => 烂
-		variant2Trad.put(String.valueOf('\u7115'), String.valueOf('\u70C9')); // 焕 => 烉
-		variant2Trad.put(String.valueOf('\u7165'), String.valueOf('\u70C9')); // 煥 => 烉
-		variant2Trad.put(String.valueOf('\u852B'), String.valueOf('\u70DF')); // 蔫 => 烟
-		variant2Trad.put(String.valueOf('\u7130'), String.valueOf('\u7114')); // 焰 => 焔
-		variant2Trad.put(String.valueOf('\u71FD'), String.valueOf('\u7118')); // 燽 => 焘
-		variant2Trad.put(String.valueOf('\u71CC'), String.valueOf('\u711A')); // 燌 => 焚
-		variant2Trad.put(String.valueOf('\u7133'), String.valueOf('\u7126')); // 焳 => 焦
-		variant2Trad.put(String.valueOf('\u7162'), String.valueOf('\u712D')); // 煢 => 焭
-		variant2Trad.put(String.valueOf('\u8315'), String.valueOf('\u712D')); // 茕 => 焭
-		variant2Trad.put(String.valueOf('\u935B'), String.valueOf('\u7145')); // 鍛 => 煅
-		variant2Trad.put(String.valueOf('\u953B'), String.valueOf('\u7145')); // 锻 => 煅
-		variant2Trad.put(String.valueOf('\u7151'), String.valueOf('\u716E')); // 煑 => 煮
-		variant2Trad.put(String.valueOf('\u7188'), String.valueOf('\u7155')); // 熈 => 煕
-		variant2Trad.put(String.valueOf('\u715B'), String.valueOf('\u715A')); // 煛 => 煚
-		variant2Trad.put(String.valueOf('\u9555'), String.valueOf('\u7194')); // 镕 => 熔
-		variant2Trad.put(String.valueOf('\u71BA'), String.valueOf('\u71B9')); // 熺 => 熹
-		variant2Trad.put(String.valueOf('\u71F7'), String.valueOf('\u71E3')); // 燷 => 燣
-		variant2Trad.put(String.valueOf('\u7282'), String.valueOf('\u7281')); // 犂 => 犁
-		variant2Trad.put(String.valueOf('\u72AD'), String.valueOf('\u72AC')); // 犭 => 犬
-		variant2Trad.put(String.valueOf('\u8C7A'), String.valueOf('\u72B2')); // 豺 => 犲
-		variant2Trad.put(String.valueOf('\uF9FA'), String.valueOf('\u72B6')); // 狀 => 状
-		variant2Trad.put(String.valueOf('\u8C89'), String.valueOf('\u72E2')); // 貉 => 狢
-		variant2Trad.put(String.valueOf('\u733E'), String.valueOf('\u72EF')); // 猾 => 狯
-		variant2Trad.put(String.valueOf('\u8C8E'), String.valueOf('\u730A')); // 貎 => 猊
-		variant2Trad.put(String.valueOf('\u9E91'), String.valueOf('\u730A')); // 麑 => 猊
-		variant2Trad.put(String.valueOf('\uF9A7'), String.valueOf('\u730E')); // 獵 => 猎
-		variant2Trad.put(String.valueOf('\u8C8A'), String.valueOf('\u734F')); // 貊 => 獏
-		variant2Trad.put(String.valueOf('\u8C98'), String.valueOf('\u734F')); // 貘 => 獏
-		variant2Trad.put(String.valueOf('\u73C9'), String.valueOf('\u739F')); // 珉 => 玟
-		variant2Trad.put(String.valueOf('\u7447'), String.valueOf('\u73B3')); // 瑇 => 玳
-		variant2Trad.put(String.valueOf('\u73CE'), String.valueOf('\u73CD')); // 珎 => 珍
-		variant2Trad.put(String.valueOf('\u7434'), String.valueOf('\u73E1')); // 琴 => 珡
-		variant2Trad.put(String.valueOf('\u748E'), String.valueOf('\u73F1')); // 璎 => 珱
-		variant2Trad.put(String.valueOf('\u74D4'), String.valueOf('\u73F1')); // 瓔 => 珱
-		variant2Trad.put(String.valueOf('\u7445'), String.valueOf('\u73F6')); // 瑅 => 珶
-		variant2Trad.put(String.valueOf('\u74A1'), String.valueOf('\u740E')); // 璡 => 琎
-		variant2Trad.put(String.valueOf('\uF994'), String.valueOf('\u740F')); // 璉 => 琏
-		variant2Trad.put(String.valueOf('\u78AF'), String.valueOf('\u7459')); // 碯 => 瑙
-		variant2Trad.put(String.valueOf('\u74A2'), String.valueOf('\u7460')); // 璢 => 瑠
-		variant2Trad.put(String.valueOf('\u7486'), String.valueOf('\u746C')); // 璆 => 瑬
-		variant2Trad.put(String.valueOf('\u74B8'), String.valueOf('\u7478')); // 璸 => 瑸
-		variant2Trad.put(String.valueOf('\u7F3E'), String.valueOf('\u7501')); // 缾 => 甁
-		variant2Trad.put(String.valueOf('\u7506'), String.valueOf('\u74F7')); // 甆 => 瓷
-		variant2Trad.put(String.valueOf('\u7F4C'), String.valueOf('\u7516')); // 罌 => 甖
-		variant2Trad.put(String.valueOf('\u751C'), String.valueOf('\u751B')); // 甜 => 甛
-		variant2Trad.put(String.valueOf('\u9902'), String.valueOf('\u751B')); // 餂 => 甛
-		variant2Trad.put(String.valueOf('\u811A'), String.valueOf('\u752A')); // 脚 => 甪
-		variant2Trad.put(String.valueOf('\u8173'), String.valueOf('\u752A')); // 腳 => 甪
-		variant2Trad.put(String.valueOf('\u89D2'), String.valueOf('\u752A')); // 角 => 甪
-		variant2Trad.put(String.valueOf('\u7559'), String.valueOf('\u7544')); // 留 => 畄
-		variant2Trad.put(String.valueOf('\uF9CD'), String.valueOf('\u7544')); // 留 => 畄
-		variant2Trad.put(String.valueOf('\u7567'), String.valueOf('\u7565')); // 畧 => 略
-		variant2Trad.put(String.valueOf('\u756A'), String.valueOf('\u7568')); // 番 => 畨
-		variant2Trad.put(String.valueOf('\u8E6F'), String.valueOf('\u7568')); // 蹯 => 畨
-		variant2Trad.put(String.valueOf('\u756D'), String.valueOf('\u756C')); // 畭 => 畬
-		variant2Trad.put(String.valueOf('\u758F'), String.valueOf('\u758E')); // 疏 => 疎
-		variant2Trad.put(String.valueOf('\u8E08'), String.valueOf('\u758E')); // 踈 => 疎
-		variant2Trad.put(String.valueOf('\uF9C1'), String.valueOf('\u7597')); // 療 => 疗
-		variant2Trad.put(String.valueOf('\u80AC'), String.valueOf('\u75A3')); // 肬 => 疣
-		variant2Trad.put(String.valueOf('\u7601'), String.valueOf('\u75A9')); // 瘁 => 疩
-		variant2Trad.put(String.valueOf('\u7605'), String.valueOf('\u75B8')); // 瘅 => 疸
-		variant2Trad.put(String.valueOf('\u7649'), String.valueOf('\u75B8')); // 癉 => 疸
-		variant2Trad.put(String.valueOf('\u7626'), String.valueOf('\u75E9')); // 瘦 => 痩
-		variant2Trad.put(String.valueOf('\u75F3'), String.valueOf('\u75F2')); // 痳 => 痲
-		variant2Trad.put(String.valueOf('\u7645'), String.valueOf('\u7624')); // 癅 => 瘤
-		variant2Trad.put(String.valueOf('\u765D'), String.valueOf('\u765B')); // 癝 => 癛
-		variant2Trad.put(String.valueOf('\uF90E'), String.valueOf('\u765E')); // 癩 => 癞
-		variant2Trad.put(String.valueOf('\u970D'), String.valueOf('\u7668')); // 霍 => 癨
-		variant2Trad.put(String.valueOf('\u8C8C'), String.valueOf('\u7683')); // 貌 => 皃
-		variant2Trad.put(String.valueOf('\u7690'), String.valueOf('\u768B')); // 皐 => 皋
-		variant2Trad.put(String.valueOf('\u76A1'), String.valueOf('\u769E')); // 皡 => 皞
-		variant2Trad.put(String.valueOf('\u76B9'), String.valueOf('\u76B2')); // 皹 => 皲
-		variant2Trad.put(String.valueOf('\u76BC'), String.valueOf('\u76B7')); // 皼 => 皷
-		variant2Trad.put(String.valueOf('\u9F13'), String.valueOf('\u76B7')); // 鼓 => 皷
-		variant2Trad.put(String.valueOf('\u9F14'), String.valueOf('\u76B7')); // 鼔 => 皷
-		variant2Trad.put(String.valueOf('\u76CD'), String.valueOf('\u76C7')); // 盍 => 盇
-		variant2Trad.put(String.valueOf('\u8462'), String.valueOf('\u76D6')); // 葢 => 盖
-		variant2Trad.put(String.valueOf('\u862F'), String.valueOf('\u76EA')); // 蘯 => 盪
-		variant2Trad.put(String.valueOf('\u77AA'), String.valueOf('\u7719')); // 瞪 => 眙
-		variant2Trad.put(String.valueOf('\u771F'), String.valueOf('\u771E')); // 真 => 眞
-		variant2Trad.put(String.valueOf('\u7762'), String.valueOf('\u772D')); // 睢 => 眭
-		variant2Trad.put(String.valueOf('\u7740'), String.valueOf('\uFA5F')); // 着 => 著
-		variant2Trad.put(String.valueOf('\u77C1'), String.valueOf('\u7785')); // 矁 => 瞅
-		variant2Trad.put(String.valueOf('\u77CF'), String.valueOf('\u77C8')); // 矏 => 矈
-		variant2Trad.put(String.valueOf('\u7B36'), String.valueOf('\u77E2')); // 笶 => 矢
-		variant2Trad.put(String.valueOf('\u8EB7'), String.valueOf('\u77EE')); // 躷 => 矮
-		variant2Trad.put(String.valueOf('\u78F8'), String.valueOf('\u77F4')); // 磸 => 矴
-		variant2Trad.put(String.valueOf('\u783F'), String.valueOf('\u77FF')); // 砿 => 矿
-		variant2Trad.put(String.valueOf('\u9271'), String.valueOf('\u77FF')); // 鉱 => 矿
-		variant2Trad.put(String.valueOf('\u945B'), String.valueOf('\u77FF')); // 鑛 => 矿
-		variant2Trad.put(String.valueOf('\u7839'), String.valueOf('\u7808')); // 砹 => 砈
-		variant2Trad.put(String.valueOf('\uF985'), String.valueOf('\u783A')); // 礪 => 砺
-		variant2Trad.put(String.valueOf('\u78E0'), String.valueOf('\u7875')); // 磠 => 硵
-		variant2Trad.put(String.valueOf('\u7920'), String.valueOf('\u78C1')); // 礠 => 磁
-		variant2Trad.put(String.valueOf('\u793B'), String.valueOf('\u793A')); // 礻 => 示
-		variant2Trad.put(String.valueOf('\uF9B6'), String.valueOf('\u793C')); // 禮 => 礼
-		variant2Trad.put(String.valueOf('\u7B97'), String.valueOf('\u7958')); // 算 => 祘
-		variant2Trad.put(String.valueOf('\u79A5'), String.valueOf('\u797A')); // 禥 => 祺
-		variant2Trad.put(String.valueOf('\uF9EA'), String.valueOf('\u79BB')); // 離 => 离
-		variant2Trad.put(String.valueOf('\u8017'), String.valueOf('\u79CF')); // 耗 => 秏
-		variant2Trad.put(String.valueOf('\u8018'), String.valueOf('\u79D0')); // 耘 => 秐
-		variant2Trad.put(String.valueOf('\u98EB'), String.valueOf('\u79D7')); // 飫 => 秗
-		variant2Trad.put(String.valueOf('\u996B'), String.valueOf('\u79D7')); // 饫 => 秗
-		variant2Trad.put(String.valueOf('\u8020'), String.valueOf('\u79F4')); // 耠 => 秴
-		variant2Trad.put(String.valueOf('\u84C8'), String.valueOf('\u7A02')); // 蓈 => 稂
-		variant2Trad.put(String.valueOf('\u7A5E'), String.valueOf('\u7A06')); // 穞 => 稆
-		variant2Trad.put(String.valueOf('\u7A49'), String.valueOf('\u7A1A')); // 穉 => 稚
-		variant2Trad.put(String.valueOf('\u7E1D'), String.valueOf('\u7A39')); // 縝 => 稹
-		variant2Trad.put(String.valueOf('\u7F1C'), String.valueOf('\u7A39')); // 缜 => 稹
-		variant2Trad.put(String.valueOf('\u7A3F'), String.valueOf('\u7A3E')); // 稿 => 稾
-		variant2Trad.put(String.valueOf('\u7CE0'), String.valueOf('\u7A45')); // 糠 => 穅
-		variant2Trad.put(String.valueOf('\u9834'), String.valueOf('\u7A4E')); // 頴 => 穎
-		variant2Trad.put(String.valueOf('\u9895'), String.valueOf('\u7A4E')); // 颕 => 穎
-		variant2Trad.put(String.valueOf('\u7A70'), String.valueOf('\u7A63')); // 穰 => 穣
-		variant2Trad.put(String.valueOf('\u7AC6'), String.valueOf('\u7A77')); // 竆 => 穷
-		variant2Trad.put(String.valueOf('\u9631'), String.valueOf('\u7A7D')); // 阱 => 穽
-		variant2Trad.put(String.valueOf('\u7AB0'), String.valueOf('\u7A91')); // 窰 => 窑
-		variant2Trad.put(String.valueOf('\u7A97'), String.valueOf('\u7A93')); // 窗 => 窓
-		variant2Trad.put(String.valueOf('\u7AF8'), String.valueOf('\u7ADE')); // 竸 => 竞
-		variant2Trad.put(String.valueOf('\u7BEA'), String.valueOf('\u7AFE')); // 篪 => 竾
-		variant2Trad.put(String.valueOf('\u7B70'), String.valueOf('\u7B2E')); // 筰 => 笮
-		variant2Trad.put(String.valueOf('\u7B47'), String.valueOf('\u7B3B')); // 筇 => 笻
-		variant2Trad.put(String.valueOf('\u7BED'), String.valueOf('\u7B3C')); // 篭 => 笼
-		variant2Trad.put(String.valueOf('\uF944'), String.valueOf('\u7B3C')); // 籠 => 笼
-		variant2Trad.put(String.valueOf('\u7B7A'), String.valueOf('\u7B50')); // 筺 => 筐
-		variant2Trad.put(String.valueOf('\u8345'), String.valueOf('\u7B54')); // 荅 => 答
-		variant2Trad.put(String.valueOf('\u7B5E'), String.valueOf('\u7B56')); // 筞 => 策
-		variant2Trad.put(String.valueOf('\u7B82'), String.valueOf('\u7B59')); // 箂 => 筙
-		variant2Trad.put(String.valueOf('\u7B7F'), String.valueOf('\u7B71')); // 筿 => 筱
-		variant2Trad.put(String.valueOf('\u7C56'), String.valueOf('\u7B7E')); // 籖 => 签
-		variant2Trad.put(String.valueOf('\u7B9F'), String.valueOf('\u7B86')); // 箟 => 箆
-		variant2Trad.put(String.valueOf('\u7BE6'), String.valueOf('\u7B86')); // 篦 => 箆
-		variant2Trad.put(String.valueOf('\u7C18'), String.valueOf('\u7BAB')); // 簘 => 箫
-		variant2Trad.put(String.valueOf('\u7C08'), String.valueOf('\u7BB3')); // 簈 => 箳
-		variant2Trad.put(String.valueOf('\u8483'), String.valueOf('\u7BC6')); // 蒃 => 篆
-		variant2Trad.put(String.valueOf('\u7C12'), String.valueOf('\u7BE1')); // 簒 => 篡
-		variant2Trad.put(String.valueOf('\u7C5B'), String.valueOf('\u7BEF')); // 籛 => 篯
-		variant2Trad.put(String.valueOf('\u7C14'), String.valueOf('\u7C11')); // 簔 => 簑
-		variant2Trad.put(String.valueOf('\u7C6D'), String.valueOf('\u7C1B')); // 籭 => 簛
-		variant2Trad.put(String.valueOf('\u7C4F'), String.valueOf('\u7C31')); // 籏 => 簱
-		variant2Trad.put(String.valueOf('\u7C58'), String.valueOf('\u7C50')); // 籘 => 籐
-		variant2Trad.put(String.valueOf('\u85AE'), String.valueOf('\u7C54')); // 薮 => 籔
-		variant2Trad.put(String.valueOf('\u85EA'), String.valueOf('\u7C54')); // 藪 => 籔
-		variant2Trad.put(String.valueOf('\uF9D0'), String.valueOf('\u7C7B')); // 類 => 类
-		variant2Trad.put(String.valueOf('\u9E81'), String.valueOf('\u7C97')); // 麁 => 粗
-		variant2Trad.put(String.valueOf('\u9E84'), String.valueOf('\u7C97')); // 麄 => 粗
-		variant2Trad.put(String.valueOf('\u7CCD'), String.valueOf('\u7CA2')); // 糍 => 粢
-		variant2Trad.put(String.valueOf('\u9908'), String.valueOf('\u7CA2')); // 餈 => 粢
-		variant2Trad.put(String.valueOf('\u7CEF'), String.valueOf('\u7CAB')); // 糯 => 粫
-		variant2Trad.put(String.valueOf('\uF97B'), String.valueOf('\u7CAE')); // 糧 => 粮
-		variant2Trad.put(String.valueOf('\u7CC9'), String.valueOf('\u7CBD')); // 糉 => 粽
-		variant2Trad.put(String.valueOf('\u7CED'), String.valueOf('\u7CBD')); // 糭 => 粽
-		variant2Trad.put(String.valueOf('\u9939'), String.valueOf('\u7CD6')); // 餹 => 糖
-		variant2Trad.put(String.valueOf('\u994A'), String.valueOf('\u7CE4')); // 饊 => 糤
-		variant2Trad.put(String.valueOf('\u9993'), String.valueOf('\u7CE4')); // 馓 => 糤
-		variant2Trad.put(String.valueOf('\u7CFE'), String.valueOf('\u7CFA')); // 糾 => 糺
-		variant2Trad.put(String.valueOf('\u7EA0'), String.valueOf('\u7CFA')); // 纠 => 糺
-		variant2Trad.put(String.valueOf('\u7D4F'), String.valueOf('\u7D32')); // 絏 => 紲
-		variant2Trad.put(String.valueOf('\u7D56'), String.valueOf('\u7D4B')); // 絖 => 絋
-		variant2Trad.put(String.valueOf('\u7E8A'), String.valueOf('\u7D4B')); // 纊 => 絋
-		variant2Trad.put(String.valueOf('\u7EA9'), String.valueOf('\u7D4B')); // 纩 => 絋
-		variant2Trad.put(String.valueOf('\u7E1A'), String.valueOf('\u7D5B')); // 縚 => 絛
-		variant2Trad.put(String.valueOf('\u7DAF'), String.valueOf('\u7D5D')); // 綯 => 絝
-		variant2Trad.put(String.valueOf('\u7EF9'), String.valueOf('\u7D5D')); // 绹 => 絝
-		variant2Trad.put(String.valueOf('\u88E4'), String.valueOf('\u7D5D')); // 裤 => 絝
-		variant2Trad.put(String.valueOf('\u8932'), String.valueOf('\u7D5D')); // 褲 => 絝
-		variant2Trad.put(String.valueOf('\u7D82'), String.valueOf('\u7D71')); // 綂 => 統
-		variant2Trad.put(String.valueOf('\u7E62'), String.valueOf('\u7E6A')); // 繢 => 繪
-		variant2Trad.put(String.valueOf('\u7F0B'), String.valueOf('\u7E6A')); // 缋 => 繪
-		variant2Trad.put(String.valueOf('\u7E4D'), String.valueOf('\u7D89')); // 繍 => 綉
-		variant2Trad.put(String.valueOf('\u7F10'), String.valueOf('\u7DAB')); // 缐 => 綫
-		variant2Trad.put(String.valueOf('\u7DD0'), String.valueOf('\u7E41')); // 緐 => 繁
-		variant2Trad.put(String.valueOf('\u7E15'), String.valueOf('\u7DFC')); // 縕 => 緼
-		variant2Trad.put(String.valueOf('\u7E8E'), String.valueOf('\u7E34')); // 纎 => 縴
-		variant2Trad.put(String.valueOf('\u7E66'), String.valueOf('\u7E48')); // 繦 => 繈
-		variant2Trad.put(String.valueOf('\u8941'), String.valueOf('\u7E48')); // 襁 => 繈
-		variant2Trad.put(String.valueOf('\u7FFB'), String.valueOf('\u7E59')); // 翻 => 繙
-		variant2Trad.put(String.valueOf('\u98DC'), String.valueOf('\u7E59')); // 飜 => 繙
-		variant2Trad.put(String.valueOf('\u8949'), String.valueOf('\u7E5D')); // 襉 => 繝
-		variant2Trad.put(String.valueOf('\u7E98'), String.valueOf('\u7E89')); // 纘 => 纉
-		variant2Trad.put(String.valueOf('\u7F35'), String.valueOf('\u7E89')); // 缵 => 纉
-		variant2Trad.put(String.valueOf('\u7E92'), String.valueOf('\u7E8F')); // 纒 => 纏
-		variant2Trad.put(String.valueOf('\u9475'), String.valueOf('\u7F50')); // 鑵 => 罐
-		variant2Trad.put(String.valueOf('\u7F54'), String.valueOf('\u7F53')); // 罔 => 罓
-		variant2Trad.put(String.valueOf('\u7F66'), String.valueOf('\u7F58')); // 罦 => 罘
-		variant2Trad.put(String.valueOf('\u7F78'), String.valueOf('\u7F5A')); // 罸 => 罚
-		variant2Trad.put(String.valueOf('\u7F82'), String.valueOf('\u7F65')); // 羂 => 罥
-		variant2Trad.put(String.valueOf('\u8FA0'), String.valueOf('\u7F6A')); // 辠 => 罪
-		variant2Trad.put(String.valueOf('\u7F80'), String.valueOf('\u7F76')); // 羀 => 罶
-		variant2Trad.put(String.valueOf('\u7F87'), String.valueOf('\u7F81')); // 羇 => 羁
-		variant2Trad.put(String.valueOf('\u8989'), String.valueOf('\u7F81')); // 覉 => 羁
-		variant2Trad.put(String.valueOf('\u898A'), String.valueOf('\u7F81')); // 覊 => 羁
-		variant2Trad.put(String.valueOf('\u7FB9'), String.valueOf('\u7FAE')); // 羹 => 羮
-		variant2Trad.put(String.valueOf('\u7FC5'), String.valueOf('\u7FC4')); // 翅 => 翄
-		variant2Trad.put(String.valueOf('\u7FE0'), String.valueOf('\u7FC6')); // 翠 => 翆
-		variant2Trad.put(String.valueOf('\u7FF6'), String.valueOf('\u7FF1')); // 翶 => 翱
-		variant2Trad.put(String.valueOf('\u8002'), String.valueOf('\u8001')); // 耂 => 老
-		variant2Trad.put(String.valueOf('\u8008'), String.valueOf('\u8007')); // 耈 => 耇
-		variant2Trad.put(String.valueOf('\u8009'), String.valueOf('\u8007')); // 耉 => 耇
-		variant2Trad.put(String.valueOf('\u9200'), String.valueOf('\u8019')); // 鈀 => 耙
-		variant2Trad.put(String.valueOf('\u94AF'), String.valueOf('\u8019')); // 钯 => 耙
-		variant2Trad.put(String.valueOf('\u92E4'), String.valueOf('\u8021')); // 鋤 => 耡
-		variant2Trad.put(String.valueOf('\u9504'), String.valueOf('\u8021')); // 锄 => 耡
-		variant2Trad.put(String.valueOf('\u8037'), String.valueOf('\u8034')); // 耷 => 耴
-		variant2Trad.put(String.valueOf('\u8EAD'), String.valueOf('\u803D')); // 躭 => 耽
-		variant2Trad.put(String.valueOf('\u804C'), String.valueOf('\u8040')); // 职 => 聀
-		variant2Trad.put(String.valueOf('\u8077'), String.valueOf('\u8040')); // 職 => 聀
-		variant2Trad.put(String.valueOf('\u8EC4'), String.valueOf('\u8040')); // 軄 => 聀
-		variant2Trad.put(String.valueOf('\uF945'), String.valueOf('\u804B')); // 聾 => 聋
-		variant2Trad.put(String.valueOf('\u8068'), String.valueOf('\u8054')); // 聨 => 联
-		variant2Trad.put(String.valueOf('\u806B'), String.valueOf('\u8054')); // 聫 => 联
-		variant2Trad.put(String.valueOf('\u806E'), String.valueOf('\u8054')); // 聮 => 联
-		variant2Trad.put(String.valueOf('\uF997'), String.valueOf('\u8054')); // 聯 => 联
-		variant2Trad.put(String.valueOf('\u806A'), String.valueOf('\u8061')); // 聪 => 聡
-		variant2Trad.put(String.valueOf('\u8070'), String.valueOf('\u8061')); // 聰 => 聡
-		variant2Trad.put(String.valueOf('\u8080'), String.valueOf('\u807F')); // 肀 => 聿
-		variant2Trad.put(String.valueOf('\u8088'), String.valueOf('\u8087')); // 肈 => 肇
-		variant2Trad.put(String.valueOf('\u80F3'), String.valueOf('\u8090')); // 胳 => 肐
-		variant2Trad.put(String.valueOf('\u8427'), String.valueOf('\u8096')); // 萧 => 肖
-		variant2Trad.put(String.valueOf('\u856D'), String.valueOf('\u8096')); // 蕭 => 肖
-		variant2Trad.put(String.valueOf('\u8193'), String.valueOf('\u80A0')); // 膓 => 肠
-		variant2Trad.put(String.valueOf('\u8135'), String.valueOf('\u80A1')); // 脵 => 股
-		variant2Trad.put(String.valueOf('\u80BB'), String.valueOf('\u80AF')); // 肻 => 肯
-		variant2Trad.put(String.valueOf('\u8181'), String.valueOf('\u80B7')); // 膁 => 肷
-		variant2Trad.put(String.valueOf('\u8107'), String.valueOf('\u80C1')); // 脇 => 胁
-		variant2Trad.put(String.valueOf('\u90C5'), String.valueOf('\u80DD')); // 郅 => 胝
-		variant2Trad.put(String.valueOf('\u812C'), String.valueOf('\u80DE')); // 脬 => 胞
-		variant2Trad.put(String.valueOf('\u9AD7'), String.valueOf('\u80EA')); // 髗 => 胪
-		variant2Trad.put(String.valueOf('\u80F8'), String.valueOf('\u80F7')); // 胸 => 胷
-		variant2Trad.put(String.valueOf('\u8141'), String.valueOf('\u80FC')); // 腁 => 胼
-		variant2Trad.put(String.valueOf('\u8122'), String.valueOf('\u8104')); // 脢 => 脄
-		variant2Trad.put(String.valueOf('\u81C8'), String.valueOf('\u814A')); // 臈 => 腊
-		variant2Trad.put(String.valueOf('\uF926'), String.valueOf('\u814A')); // 臘 => 腊
-		variant2Trad.put(String.valueOf('\u8195'), String.valueOf('\u8158')); // 膕 => 腘
-		variant2Trad.put(String.valueOf('\u81A3'), String.valueOf('\u815F')); // 膣 => 腟
-		variant2Trad.put(String.valueOf('\u9ACC'), String.valueOf('\u8191')); // 髌 => 膑
-		variant2Trad.put(String.valueOf('\u9AD5'), String.valueOf('\u8191')); // 髕 => 膑
-		variant2Trad.put(String.valueOf('\u81D5'), String.valueOf('\u8198')); // 臕 => 膘
-		variant2Trad.put(String.valueOf('\u9AC4'), String.valueOf('\u81B8')); // 髄 => 膸
-		variant2Trad.put(String.valueOf('\u9AD3'), String.valueOf('\u81B8')); // 髓 => 膸
-		variant2Trad.put(String.valueOf('\u81F0'), String.valueOf('\u81ED')); // 臰 => 臭
-		variant2Trad.put(String.valueOf('\u8204'), String.valueOf('\u8203')); // 舄 => 舃
-		variant2Trad.put(String.valueOf('\u8217'), String.valueOf('\u8216')); // 舗 => 舖
-		variant2Trad.put(String.valueOf('\u9928'), String.valueOf('\u8218')); // 館 => 舘
-		variant2Trad.put(String.valueOf('\u9986'), String.valueOf('\u8218')); // 馆 => 舘
-		variant2Trad.put(String.valueOf('\uFA2C'), String.valueOf('\u8218')); // 館 => 舘
-		variant2Trad.put(String.valueOf('\u8229'), String.valueOf('\u8221')); // 舩 => 舡
-		variant2Trad.put(String.valueOf('\u8239'), String.valueOf('\u8221')); // 船 => 舡
-		variant2Trad.put(String.valueOf('\u824A'), String.valueOf('\u8236')); // 艊 => 舶
-		variant2Trad.put(String.valueOf('\u8276'), String.valueOf('\u8273')); // 艶 => 艳
-		variant2Trad.put(String.valueOf('\u8279'), String.valueOf('\u8278')); // 艹 => 艸
-		variant2Trad.put(String.valueOf('\u97ED'), String.valueOf('\u827D')); // 韭 => 艽
-		variant2Trad.put(String.valueOf('\u97EE'), String.valueOf('\u827D')); // 韮 => 艽
-		variant2Trad.put(String.valueOf('\u831C'), String.valueOf('\u828A')); // 茜 => 芊
-		variant2Trad.put(String.valueOf('\u828C'), String.valueOf('\u828B')); // 芌 => 芋
-		variant2Trad.put(String.valueOf('\uF935'), String.valueOf('\u82A6')); // 蘆 => 芦
-		variant2Trad.put(String.valueOf('\u82B2'), String.valueOf('\u82B1')); // 芲 => 花
-		variant2Trad.put(String.valueOf('\u9EFB'), String.valueOf('\u82BE')); // 黻 => 芾
-		variant2Trad.put(String.valueOf('\u83C0'), String.valueOf('\u82D1')); // 菀 => 苑
-		variant2Trad.put(String.valueOf('\u8393'), String.valueOf('\u82FA')); // 莓 => 苺
-		variant2Trad.put(String.valueOf('\u83C7'), String.valueOf('\u82FD')); // 菇 => 苽
-		variant2Trad.put(String.valueOf('\u83F0'), String.valueOf('\u82FD')); // 菰 => 苽
-		variant2Trad.put(String.valueOf('\u83CB'), String.valueOf('\u82FF')); // 菋 => 苿
-		variant2Trad.put(String.valueOf('\u8354'), String.valueOf('\u8318')); // 荔 => 茘
-		variant2Trad.put(String.valueOf('\u8415'), String.valueOf('\u8360')); // 萕 => 荠
-		variant2Trad.put(String.valueOf('\u840E'), String.valueOf('\u837D')); // 萎 => 荽
-		variant2Trad.put(String.valueOf('\u84B2'), String.valueOf('\u8386')); // 蒲 => 莆
-		variant2Trad.put(String.valueOf('\uF999'), String.valueOf('\u83B2')); // 蓮 => 莲
-		variant2Trad.put(String.valueOf('\u83DF'), String.valueOf('\u83B5')); // 菟 => 莵
-		variant2Trad.put(String.valueOf('\u9D2C'), String.valueOf('\u83BA')); // 鴬 => 莺
-		variant2Trad.put(String.valueOf('\u8420'), String.valueOf('\u840C')); // 萠 => 萌
-		variant2Trad.put(String.valueOf('\uF910'), String.valueOf('\u841D')); // 蘿 => 萝
-		variant2Trad.put(String.valueOf('\u855A'), String.valueOf('\u843C')); // 蕚 => 萼
-		variant2Trad.put(String.valueOf('\u853F'), String.valueOf('\u848D')); // 蔿 => 蒍
-		variant2Trad.put(String.valueOf('\uF923'), String.valueOf('\u84DD')); // 藍 => 蓝
-		variant2Trad.put(String.valueOf('\uF9F0'), String.valueOf('\u853A')); // 藺 => 蔺
-		variant2Trad.put(String.valueOf('\u854B'), String.valueOf('\u854A')); // 蕋 => 蕊
-		variant2Trad.put(String.valueOf('\u8602'), String.valueOf('\u854A')); // 蘂 => 蕊
-		variant2Trad.put(String.valueOf('\u8614'), String.valueOf('\u860F')); // 蘔 => 蘏
-		variant2Trad.put(String.valueOf('\uF936'), String.valueOf('\u864F')); // 虜 => 虏
-		variant2Trad.put(String.valueOf('\u8770'), String.valueOf('\u867A')); // 蝰 => 虺
-		variant2Trad.put(String.valueOf('\u87A1'), String.valueOf('\u868A')); // 螡 => 蚊
-		variant2Trad.put(String.valueOf('\u87C1'), String.valueOf('\u868A')); // 蟁 => 蚊
-		variant2Trad.put(String.valueOf('\u8739'), String.valueOf('\u868B')); // 蜹 => 蚋
-		variant2Trad.put(String.valueOf('\u8745'), String.valueOf('\u8695')); // 蝅 => 蚕
-		variant2Trad.put(String.valueOf('\u9F22'), String.valueOf('\u86A1')); // 鼢 => 蚡
-		variant2Trad.put(String.valueOf('\u9F04'), String.valueOf('\u86DB')); // 鼄 => 蛛
-		variant2Trad.put(String.valueOf('\u9F05'), String.valueOf('\u8718')); // 鼅 => 蜘
-		variant2Trad.put(String.valueOf('\u874B'), String.valueOf('\u8721')); // 蝋 => 蜡
-		variant2Trad.put(String.valueOf('\uF927'), String.valueOf('\u8721')); // 蠟 => 蜡
-		variant2Trad.put(String.valueOf('\u87B5'), String.valueOf('\u8731')); // 螵 => 蜱
-		variant2Trad.put(String.valueOf('\u9713'), String.valueOf('\u873A')); // 霓 => 蜺
-		variant2Trad.put(String.valueOf('\u877F'), String.valueOf('\u8747')); // 蝿 => 蝇
-		variant2Trad.put(String.valueOf('\u87CA'), String.valueOf('\u8765')); // 蟊 => 蝥
-		variant2Trad.put(String.valueOf('\u878E'), String.valueOf('\u878D')); // 螎 => 融
-		variant2Trad.put(String.valueOf('\u87B3'), String.valueOf('\u8797')); // 螳 => 螗
-		variant2Trad.put(String.valueOf('\u87C7'), String.valueOf('\u87C6')); // 蟇 => 蟆
-		variant2Trad.put(String.valueOf('\u880E'), String.valueOf('\u87D2')); // 蠎 => 蟒
-		variant2Trad.put(String.valueOf('\u8821'), String.valueOf('\u87F8')); // 蠡 => 蟸
-		variant2Trad.put(String.valueOf('\u880F'), String.valueOf('\u87F9')); // 蠏 => 蟹
-		variant2Trad.put(String.valueOf('\u9053'), String.valueOf('\u885F')); // 道 => 衟
-		variant2Trad.put(String.valueOf('\u8864'), String.valueOf('\u8863')); // 衤 => 衣
-		variant2Trad.put(String.valueOf('\u88B5'), String.valueOf('\u887D')); // 袵 => 衽
-		variant2Trad.put(String.valueOf('\u890E'), String.valueOf('\u8896')); // 褎 => 袖
-		variant2Trad.put(String.valueOf('\u97C8'), String.valueOf('\u889C')); // 韈 => 袜
-		variant2Trad.put(String.valueOf('\u97E4'), String.valueOf('\u889C')); // 韤 => 袜
-		variant2Trad.put(String.valueOf('\uF9E8'), String.valueOf('\u88CF')); // 裡 => 裏
-		variant2Trad.put(String.valueOf('\u892B'), String.valueOf('\u88ED')); // 褫 => 裭
-		variant2Trad.put(String.valueOf('\u88F5'), String.valueOf('\u88F4')); // 裵 => 裴
-		variant2Trad.put(String.valueOf('\u894C'), String.valueOf('\u891D')); // 襌 => 褝
-		variant2Trad.put(String.valueOf('\u897F'), String.valueOf('\u897E')); // 西 => 襾
-		variant2Trad.put(String.valueOf('\u8980'), String.valueOf('\u897E')); // 覀 => 襾
-		variant2Trad.put(String.valueOf('\u89B3'), String.valueOf('\u898C')); // 観 => 覌
-		variant2Trad.put(String.valueOf('\u89C0'), String.valueOf('\u898C')); // 觀 => 覌
-		variant2Trad.put(String.valueOf('\u89C2'), String.valueOf('\u898C')); // 观 => 覌
-		variant2Trad.put(String.valueOf('\u89BC'), String.valueOf('\u8999')); // 覼 => 覙
-		variant2Trad.put(String.valueOf('\u89B8'), String.valueOf('\u89B5')); // 覸 => 覵
-		variant2Trad.put(String.valueOf('\u89BB'), String.valueOf('\u89B7')); // 覻 => 覷
-		variant2Trad.put(String.valueOf('\u89E7'), String.valueOf('\u89E3')); // 觧 => 解
-		variant2Trad.put(String.valueOf('\u89F5'), String.valueOf('\u89E5')); // 觵 => 觥
-		variant2Trad.put(String.valueOf('\u8A01'), String.valueOf('\u8A00')); // 訁 => 言
-		variant2Trad.put(String.valueOf('\u8BA0'), String.valueOf('\u8A00')); // 讠 => 言
-		variant2Trad.put(String.valueOf('\u8B4C'), String.valueOf('\u8A1B')); // 譌 => 訛
-		variant2Trad.put(String.valueOf('\u8A7E'), String.valueOf('\u8A29')); // 詾 => 訩
-		variant2Trad.put(String.valueOf('\u9167'), String.valueOf('\u8A76')); // 酧 => 詶
-		variant2Trad.put(String.valueOf('\u916C'), String.valueOf('\u8A76')); // 酬 => 詶
-		variant2Trad.put(String.valueOf('\u91BB'), String.valueOf('\u8A76')); // 醻 => 詶
-		variant2Trad.put(String.valueOf('\uF95A'), String.valueOf('\u8B80')); // 讀 => 讀
-		variant2Trad.put(String.valueOf('\u8AEB'), String.valueOf('\u8ACC')); // 諫 => 諌
-		variant2Trad.put(String.valueOf('\u8C0F'), String.valueOf('\u8ACC')); // 谏 => 諌
-		variant2Trad.put(String.valueOf('\u8B8D'), String.valueOf('\u8AE4')); // 讍 => 諤
-		variant2Trad.put(String.valueOf('\u8B5C'), String.valueOf('\u8AE9')); // 譜 => 諩
-		variant2Trad.put(String.valueOf('\u8C31'), String.valueOf('\u8AE9')); // 谱 => 諩
-		variant2Trad.put(String.valueOf('\u8B5B'), String.valueOf('\u8B56')); // 譛 => 譖
-		variant2Trad.put(String.valueOf('\u8B9A'), String.valueOf('\u8B83')); // 讚 => 讃
-		variant2Trad.put(String.valueOf('\u8B8F'), String.valueOf('\u8B86')); // 讏 => 讆
-		variant2Trad.put(String.valueOf('\u8E97'), String.valueOf('\u8B86')); // 躗 => 讆
-		variant2Trad.put(String.valueOf('\u8E9B'), String.valueOf('\u8B86')); // 躛 => 讆
-		variant2Trad.put(String.valueOf('\u8C63'), String.valueOf('\u8C5C')); // 豣 => 豜
-		variant2Trad.put(String.valueOf('\u8C94'), String.valueOf('\u8C7C')); // 貔 => 豼
-		variant2Trad.put(String.valueOf('\u8CEA'), String.valueOf('\u8CAD')); // 質 => 貭
-		variant2Trad.put(String.valueOf('\u8D28'), String.valueOf('\u8CAD')); // 质 => 貭
-		variant2Trad.put(String.valueOf('\u8CE4'), String.valueOf('\u8CCE')); // 賤 => 賎
-		variant2Trad.put(String.valueOf('\u8D31'), String.valueOf('\u8CCE')); // 贱 => 賎
-		variant2Trad.put(String.valueOf('\u8D71'), String.valueOf('\u8D70')); // 赱 => 走
-		variant2Trad.put(String.valueOf('\u8D82'), String.valueOf('\u8D81')); // 趂 => 趁
-		variant2Trad.put(String.valueOf('\u8DA6'), String.valueOf('\u8D91')); // 趦 => 趑
-		variant2Trad.put(String.valueOf('\u8DD6'), String.valueOf('\u8DB5')); // 跖 => 趵
-		variant2Trad.put(String.valueOf('\u8DFA'), String.valueOf('\u8DE5')); // 跺 => 跥
-		variant2Trad.put(String.valueOf('\u8E6E'), String.valueOf('\u8DF9')); // 蹮 => 跹
-		variant2Trad.put(String.valueOf('\u8E2A'), String.valueOf('\u8E28')); // 踪 => 踨
-		variant2Trad.put(String.valueOf('\u8E64'), String.valueOf('\u8E28')); // 蹤 => 踨
-		variant2Trad.put(String.valueOf('\u8EB2'), String.valueOf('\u8EB1')); // 躲 => 躱
-		variant2Trad.put(String.valueOf('\u8F5F'), String.valueOf('\u8EE3')); // 轟 => 軣
-		variant2Trad.put(String.valueOf('\u8F70'), String.valueOf('\u8EE3')); // 轰 => 軣
-		variant2Trad.put(String.valueOf('\u8F29'), String.valueOf('\u8EF0')); // 輩 => 軰
-		variant2Trad.put(String.valueOf('\u8F88'), String.valueOf('\u8EF0')); // 辈 => 軰
-		variant2Trad.put(String.valueOf('\u8F1B'), String.valueOf('\u8F0C')); // 輛 => 輌
-		variant2Trad.put(String.valueOf('\u8F86'), String.valueOf('\u8F0C')); // 辆 => 輌
-		variant2Trad.put(String.valueOf('\u8F19'), String.valueOf('\u8F12')); // 輙 => 輒
-		variant2Trad.put(String.valueOf('\u8F3A'), String.valueOf('\u8F1C')); // 輺 => 輜
-		variant2Trad.put(String.valueOf('\u8F40'), String.valueOf('\u8F3C')); // 轀 => 輼
-		variant2Trad.put(String.valueOf('\u97DC'), String.valueOf('\u8F41')); // 韜 => 轁
-		variant2Trad.put(String.valueOf('\u97EC'), String.valueOf('\u8F41')); // 韬 => 轁
-		variant2Trad.put(String.valueOf('\u907F'), String.valueOf('\u8F9F')); // 避 => 辟
-		variant2Trad.put(String.valueOf('\u8FA3'), String.valueOf('\u8FA2')); // 辣 => 辢
-		variant2Trad.put(String.valueOf('\u8FB6'), String.valueOf('\u8FB5')); // 辶 => 辵
-		variant2Trad.put(String.valueOf('\u9089'), String.valueOf('\u8FB9')); // 邉 => 边
-		variant2Trad.put(String.valueOf('\uF9C3'), String.valueOf('\u8FBD')); // 遼 => 辽
-		variant2Trad.put(String.valueOf('\u9039'), String.valueOf('\u8FBE')); // 逹 => 达
-		variant2Trad.put(String.valueOf('\u9047'), String.valueOf('\u8FC2')); // 遇 => 迂
-		variant2Trad.put(String.valueOf('\u903A'), String.valueOf('\u8FDC')); // 逺 => 远
-		variant2Trad.put(String.valueOf('\uF99A'), String.valueOf('\u8FDE')); // 連 => 连
-		variant2Trad.put(String.valueOf('\u905F'), String.valueOf('\u8FDF')); // 遟 => 迟
-		variant2Trad.put(String.valueOf('\u9008'), String.valueOf('\u8FE5')); // 逈 => 迥
-		variant2Trad.put(String.valueOf('\u902E'), String.valueOf('\u8FE8')); // 逮 => 迨
-		variant2Trad.put(String.valueOf('\u9003'), String.valueOf('\u8FEF')); // 逃 => 迯
-		variant2Trad.put(String.valueOf('\u902C'), String.valueOf('\u8FF8')); // 逬 => 迸
-		variant2Trad.put(String.valueOf('\u9052'), String.valueOf('\u900E')); // 遒 => 逎
-		variant2Trad.put(String.valueOf('\uF913'), String.valueOf('\u903B')); // 邏 => 逻
-		variant2Trad.put(String.valueOf('\u961C'), String.valueOf('\u9091')); // 阜 => 邑
-		variant2Trad.put(String.valueOf('\u961D'), String.valueOf('\u9091')); // 阝 => 邑
-		variant2Trad.put(String.valueOf('\u90C9'), String.valueOf('\u90A2')); // 郉 => 邢
-		variant2Trad.put(String.valueOf('\u90AB'), String.valueOf('\u90A6')); // 邫 => 邦
-		variant2Trad.put(String.valueOf('\u9643'), String.valueOf('\u90B4')); // 陃 => 邴
-		variant2Trad.put(String.valueOf('\u96A3'), String.valueOf('\u90BB')); // 隣 => 邻
-		variant2Trad.put(String.valueOf('\uF9F1'), String.valueOf('\u90BB')); // 隣 => 邻
-		variant2Trad.put(String.valueOf('\u9699'), String.valueOf('\u90C4')); // 隙 => 郄
-		variant2Trad.put(String.valueOf('\u9146'), String.valueOf('\u9137')); // 酆 => 鄷
-		variant2Trad.put(String.valueOf('\u9142'), String.valueOf('\u913C')); // 酂 => 鄼
-		variant2Trad.put(String.valueOf('\u9147'), String.valueOf('\u913C')); // 酇 => 鄼
-		variant2Trad.put(String.valueOf('\u9161'), String.valueOf('\u914F')); // 酡 => 酏
-		variant2Trad.put(String.valueOf('\u918B'), String.valueOf('\u9162')); // 醋 => 酢
-		variant2Trad.put(String.valueOf('\u9197'), String.valueOf('\u9166')); // 醗 => 酦
-		variant2Trad.put(String.valueOf('\u91A4'), String.valueOf('\u9171')); // 醤 => 酱
-		variant2Trad.put(String.valueOf('\u91BF'), String.valueOf('\u91BE')); // 醿 => 醾
-		variant2Trad.put(String.valueOf('\u91D2'), String.valueOf('\u91D1')); // 釒 => 金
-		variant2Trad.put(String.valueOf('\u9485'), String.valueOf('\u91D1')); // 钅 => 金
-		variant2Trad.put(String.valueOf('\u91E1'), String.valueOf('\u91DC')); // 釡 => 釜
-		variant2Trad.put(String.valueOf('\u921F'), String.valueOf('\u91E3')); // 鈟 => 釣
-		variant2Trad.put(String.valueOf('\u929E'), String.valueOf('\u921E')); // 銞 => 鈞
-		variant2Trad.put(String.valueOf('\u937E'), String.valueOf('\u9221')); // 鍾 => 鈡
-		variant2Trad.put(String.valueOf('\u9418'), String.valueOf('\u9221')); // 鐘 => 鈡
-		variant2Trad.put(String.valueOf('\u949F'), String.valueOf('\u9221')); // 钟 => 鈡
-		variant2Trad.put(String.valueOf('\u953A'), String.valueOf('\u9221')); // 锺 => 鈡
-		variant2Trad.put(String.valueOf('\u9438'), String.valueOf('\u922C')); // 鐸 => 鈬
-		variant2Trad.put(String.valueOf('\u94CE'), String.valueOf('\u922C')); // 铎 => 鈬
-		variant2Trad.put(String.valueOf('\u9295'), String.valueOf('\u9435')); // 銕 => 鐵
-		variant2Trad.put(String.valueOf('\u9421'), String.valueOf('\u9435')); // 鐡 => 鐵
-		variant2Trad.put(String.valueOf('\u9366'), String.valueOf('\u9247')); // 鍦 => 鉇
-		variant2Trad.put(String.valueOf('\u9373'), String.valueOf('\u9274')); // 鍳 => 鉴
-		variant2Trad.put(String.valueOf('\u946C'), String.valueOf('\u9274')); // 鑬 => 鉴
-		variant2Trad.put(String.valueOf('\u933D'), String.valueOf('\u92C4')); // 錽 => 鋄
-		variant2Trad.put(String.valueOf('\u9444'), String.valueOf('\u92F3')); // 鑄 => 鋳
-		variant2Trad.put(String.valueOf('\u94F8'), String.valueOf('\u92F3')); // 铸 => 鋳
-		variant2Trad.put(String.valueOf('\u93F0'), String.valueOf('\u930B')); // 鏰 => 錋
-		variant2Trad.put(String.valueOf('\u955A'), String.valueOf('\u930B')); // 镚 => 錋
-		variant2Trad.put(String.valueOf('\u941A'), String.valueOf('\u930F')); // 鐚 => 錏
-		variant2Trad.put(String.valueOf('\u93BF'), String.valueOf('\u933C')); // 鎿 => 錼
-		variant2Trad.put(String.valueOf('\u954E'), String.valueOf('\u933C')); // 镎 => 錼
-		variant2Trad.put(String.valueOf('\u93D3'), String.valueOf('\u9343')); // 鏓 => 鍃
-		variant2Trad.put(String.valueOf('\u9440'), String.valueOf('\u9384')); // 鑀 => 鎄
-		variant2Trad.put(String.valueOf('\u93C1'), String.valueOf('\u9396')); // 鏁 => 鎖
-		variant2Trad.put(String.valueOf('\u9547'), String.valueOf('\u93AD')); // 镇 => 鎭
-		variant2Trad.put(String.valueOf('\u9482'), String.valueOf('\u93B2')); // 钂 => 鎲
-		variant2Trad.put(String.valueOf('\u9481'), String.valueOf('\u941D')); // 钁 => 鐝
-		variant2Trad.put(String.valueOf('\u943E'), String.valueOf('\u9434')); // 鐾 => 鐴
-		variant2Trad.put(String.valueOf('\u9578'), String.valueOf('\u9577')); // 镸 => 長
-		variant2Trad.put(String.valueOf('\u95BB'), String.valueOf('\u9586')); // 閻 => 閆
-		variant2Trad.put(String.valueOf('\u960E'), String.valueOf('\u9586')); // 阎 => 閆
-		variant2Trad.put(String.valueOf('\u9589'), String.valueOf('\u9587')); // 閉 => 閇
-		variant2Trad.put(String.valueOf('\u95ED'), String.valueOf('\u9587')); // 闭 => 閇
-		variant2Trad.put(String.valueOf('\u95F9'), String.valueOf('\u9599')); // 闹 => 閙
-		variant2Trad.put(String.valueOf('\u9B27'), String.valueOf('\u9599')); // 鬧 => 閙
-		variant2Trad.put(String.valueOf('\u9698'), String.valueOf('\u9638')); // 隘 => 阸
-		variant2Trad.put(String.valueOf('\uF9D3'), String.valueOf('\u9646')); // 陸 => 陆
-		variant2Trad.put(String.valueOf('\u968B'), String.valueOf('\u964F')); // 隋 => 陏
-		variant2Trad.put(String.valueOf('\u96B7'), String.valueOf('\u96B6')); // 隷 => 隶
-		variant2Trad.put(String.valueOf('\uF9B8'), String.valueOf('\u96B6')); // 隸 => 隶
-		variant2Trad.put(String.valueOf('\u9CEB'), String.valueOf('\u96C1')); // 鳫 => 雁
-		variant2Trad.put(String.valueOf('\u9CEE'), String.valueOf('\u96DE')); // 鳮 => 雞
-		variant2Trad.put(String.valueOf('\u9717'), String.valueOf('\u96F6')); // 霗 => 零
-		variant2Trad.put(String.valueOf('\u971A'), String.valueOf('\u96FE')); // 霚 => 雾
-		variant2Trad.put(String.valueOf('\u9752'), String.valueOf('\u9751')); // 青 => 靑
-		variant2Trad.put(String.valueOf('\u9759'), String.valueOf('\u9753')); // 静 => 靓
-		variant2Trad.put(String.valueOf('\u975C'), String.valueOf('\u9753')); // 靜 => 靓
-		variant2Trad.put(String.valueOf('\u975D'), String.valueOf('\u9754')); // 靝 => 靔
-		variant2Trad.put(String.valueOf('\u9EAA'), String.valueOf('\u9762')); // 麪 => 面
-		variant2Trad.put(String.valueOf('\u9EBA'), String.valueOf('\u9762')); // 麺 => 面
-		variant2Trad.put(String.valueOf('\u9771'), String.valueOf('\u976D')); // 靱 => 靭
-		variant2Trad.put(String.valueOf('\u97CC'), String.valueOf('\u976D')); // 韌 => 靭
-		variant2Trad.put(String.valueOf('\u97E7'), String.valueOf('\u976D')); // 韧 => 靭
-		variant2Trad.put(String.valueOf('\u978D'), String.valueOf('\u978C')); // 鞍 => 鞌
-		variant2Trad.put(String.valueOf('\u9F4F'), String.valueOf('\u97F2')); // 齏 => 韲
-		variant2Trad.put(String.valueOf('\u9F51'), String.valueOf('\u97F2')); // 齑 => 韲
-		variant2Trad.put(String.valueOf('\u9824'), String.valueOf('\u9809')); // 頤 => 頉
-		variant2Trad.put(String.valueOf('\u9890'), String.valueOf('\u9809')); // 颐 => 頉
-		variant2Trad.put(String.valueOf('\u9867'), String.valueOf('\u980B')); // 顧 => 頋
-		variant2Trad.put(String.valueOf('\u987E'), String.valueOf('\u980B')); // 顾 => 頋
-		variant2Trad.put(String.valueOf('\u9838'), String.valueOf('\u981A')); // 頸 => 頚
-		variant2Trad.put(String.valueOf('\u9888'), String.valueOf('\u981A')); // 颈 => 頚
-		variant2Trad.put(String.valueOf('\u9830'), String.valueOf('\u982C')); // 頰 => 頬
-		variant2Trad.put(String.valueOf('\u988A'), String.valueOf('\u982C')); // 颊 => 頬
-		variant2Trad.put(String.valueOf('\u985B'), String.valueOf('\u985A')); // 顛 => 顚
-		variant2Trad.put(String.valueOf('\u98A0'), String.valueOf('\u985A')); // 颠 => 顚
-		variant2Trad.put(String.valueOf('\u98C4'), String.valueOf('\u98C3')); // 飄 => 飃
-		variant2Trad.put(String.valueOf('\u98D8'), String.valueOf('\u98C3')); // 飘 => 飃
-		variant2Trad.put(String.valueOf('\u98C7'), String.valueOf('\u98C6')); // 飇 => 飆
-		variant2Trad.put(String.valueOf('\u98C8'), String.valueOf('\u98C6')); // 飈 => 飆
-		variant2Trad.put(String.valueOf('\u98DA'), String.valueOf('\u98C6')); // 飚 => 飆
-		variant2Trad.put(String.valueOf('\u98E0'), String.valueOf('\u98DF')); // 飠 => 食
-		variant2Trad.put(String.valueOf('\u9963'), String.valueOf('\u98DF')); // 饣 => 食
-		variant2Trad.put(String.valueOf('\u9901'), String.valueOf('\u98EA')); // 餁 => 飪
-		variant2Trad.put(String.valueOf('\u996E'), String.valueOf('\u98EE')); // 饮 => 飮
-		variant2Trad.put(String.valueOf('\u98F0'), String.valueOf('\u98EF')); // 飰 => 飯
-		variant2Trad.put(String.valueOf('\u991D'), String.valueOf('\u98FE')); // 餝 => 飾
-		variant2Trad.put(String.valueOf('\u9920'), String.valueOf('\u9905')); // 餠 => 餅
-		variant2Trad.put(String.valueOf('\u99C4'), String.valueOf('\u99B1')); // 駄 => 馱
-		variant2Trad.put(String.valueOf('\u99EE'), String.valueOf('\u99C1')); // 駮 => 駁
-		variant2Trad.put(String.valueOf('\u99DE'), String.valueOf('\u99DD')); // 駞 => 駝
-		variant2Trad.put(String.valueOf('\u9A08'), String.valueOf('\u99E2')); // 騈 => 駢
-		variant2Trad.put(String.valueOf('\u9A23'), String.valueOf('\u9A0C')); // 騣 => 騌
-		variant2Trad.put(String.valueOf('\u9B03'), String.valueOf('\u9A0C')); // 鬃 => 騌
-		variant2Trad.put(String.valueOf('\u9A47'), String.valueOf('\u9A3A')); // 驇 => 騺
-		variant2Trad.put(String.valueOf('\u9AAB'), String.valueOf('\u9AAA')); // 骫 => 骪
-		variant2Trad.put(String.valueOf('\u9BC1'), String.valueOf('\u9ABE')); // 鯁 => 骾
-		variant2Trad.put(String.valueOf('\u9AE1'), String.valueOf('\u9AE0')); // 髡 => 髠
-		variant2Trad.put(String.valueOf('\u9AEF'), String.valueOf('\u9AE5')); // 髯 => 髥
-		variant2Trad.put(String.valueOf('\u9EF0'), String.valueOf('\u9B12')); // 黰 => 鬒
-		variant2Trad.put(String.valueOf('\u9B39'), String.valueOf('\u9B36')); // 鬹 => 鬶
-		variant2Trad.put(String.valueOf('\u9C6E'), String.valueOf('\u9B63')); // 鱮 => 魣
-		variant2Trad.put(String.valueOf('\u9C4D'), String.valueOf('\u9B81')); // 鱍 => 鮁
-		variant2Trad.put(String.valueOf('\u9BDB'), String.valueOf('\u9B89')); // 鯛 => 鮉
-		variant2Trad.put(String.valueOf('\u9CB7'), String.valueOf('\u9B89')); // 鲷 => 鮉
-		variant2Trad.put(String.valueOf('\u9BF0'), String.valueOf('\u9B8E')); // 鯰 => 鮎
-		variant2Trad.put(String.valueOf('\u9CB6'), String.valueOf('\u9B8E')); // 鲶 => 鮎
-		variant2Trad.put(String.valueOf('\u9BF9'), String.valueOf('\u9B8F')); // 鯹 => 鮏
-		variant2Trad.put(String.valueOf('\u9BD7'), String.valueOf('\u9B9D')); // 鯗 => 鮝
-		variant2Trad.put(String.valueOf('\u9C76'), String.valueOf('\u9B9D')); // 鱶 => 鮝
-		variant2Trad.put(String.valueOf('\u9C00'), String.valueOf('\u9BC7')); // 鰀 => 鯇
-		variant2Trad.put(String.valueOf('\u9BCB'), String.valueOf('\u9BCA')); // 鯋 => 鯊
-		variant2Trad.put(String.valueOf('\u9C11'), String.valueOf('\u9BE3')); // 鰑 => 鯣
-		variant2Trad.put(String.valueOf('\u9C3A'), String.valueOf('\u9BF5')); // 鰺 => 鯵
-		variant2Trad.put(String.valueOf('\u9C62'), String.valueOf('\u9BF5')); // 鱢 => 鯵
-		variant2Trad.put(String.valueOf('\u9CB9'), String.valueOf('\u9BF5')); // 鲹 => 鯵
-		variant2Trad.put(String.valueOf('\u9C51'), String.valueOf('\u9C09')); // 鱑 => 鰉
-		variant2Trad.put(String.valueOf('\u9C0D'), String.valueOf('\u9C0C')); // 鰍 => 鰌
-		variant2Trad.put(String.valueOf('\u9CC5'), String.valueOf('\u9C0C')); // 鳅 => 鰌
-		variant2Trad.put(String.valueOf('\u9C2E'), String.valueOf('\u9C1B')); // 鰮 => 鰛
-		variant2Trad.put(String.valueOf('\u9F9E'), String.valueOf('\u9C49')); // 龞 => 鱉
-		variant2Trad.put(String.valueOf('\u9C54'), String.valueOf('\u9C53')); // 鱔 => 鱓
-		variant2Trad.put(String.valueOf('\u9CDD'), String.valueOf('\u9C53')); // 鳝 => 鱓
-		variant2Trad.put(String.valueOf('\u9D76'), String.valueOf('\u9D09')); // 鵶 => 鴉
-		variant2Trad.put(String.valueOf('\u9DE5'), String.valueOf('\u9D0E')); // 鷥 => 鴎
-		variant2Trad.put(String.valueOf('\u9E36'), String.valueOf('\u9D0E')); // 鸶 => 鴎
-		variant2Trad.put(String.valueOf('\u9D44'), String.valueOf('\u9D1F')); // 鵄 => 鴟
-		variant2Trad.put(String.valueOf('\u9D46'), String.valueOf('\u9D34')); // 鵆 => 鴴
-		variant2Trad.put(String.valueOf('\u9E1E'), String.valueOf('\u9D49')); // 鸞 => 鵉
-		variant2Trad.put(String.valueOf('\u9E3E'), String.valueOf('\u9D49')); // 鸾 => 鵉
-		variant2Trad.put(String.valueOf('\uF920'), String.valueOf('\u9D49')); // 鸞 => 鵉
-		variant2Trad.put(String.valueOf('\u9DE1'), String.valueOf('\u9D50')); // 鷡 => 鵐
-		variant2Trad.put(String.valueOf('\u9D5E'), String.valueOf('\u9D5D')); // 鵞 => 鵝
-		variant2Trad.put(String.valueOf('\u9DAB'), String.valueOf('\u9D87')); // 鶫 => 鶇
-		variant2Trad.put(String.valueOf('\u9E16'), String.valueOf('\u9DB4')); // 鸖 => 鶴
-		variant2Trad.put(String.valueOf('\u9DC0'), String.valueOf('\u9DBF')); // 鷀 => 鶿
-		variant2Trad.put(String.valueOf('\u9DCF'), String.valueOf('\u9DC6')); // 鷏 => 鷆
-		variant2Trad.put(String.valueOf('\u9DF4'), String.valueOf('\u9DF3')); // 鷴 => 鷳
-		variant2Trad.put(String.valueOf('\u9F11'), String.valueOf('\u9F0E')); // 鼑 => 鼎
-		variant2Trad.put(String.valueOf('\u9F21'), String.valueOf('\u9F20')); // 鼡 => 鼠
-		variant2Trad.put(String.valueOf('\u9F47'), String.valueOf('\u9F44')); // 齇 => 齄
+		static final FoldingTable TABLE = FoldingTable.load(CJKFoldingFilter.class, "stanford_cjk_transliterations");
 	}
 }
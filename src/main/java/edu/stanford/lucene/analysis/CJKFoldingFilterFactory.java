@@ -2,21 +2,81 @@
  * All rights reserved.  See {file:LICENSE} for details. **/
 package edu.stanford.lucene.analysis;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 import org.apache.lucene.analysis.TokenStream;
 import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.util.ResourceLoader;
+import org.apache.lucene.util.ResourceLoaderAware;
 
 /**
  * Factory for CJKFoldingFilter
+ * <p>
+ * Supports the following attributes:
+ * <ul>
+ *   <li>mapping (optional): comma separated rule files to fold with instead
+ *       of the bundled stanford_cjk_transliterations.txt, in the same
+ *       {@code a > b;} syntax, one code point on each side.  Where files map
+ *       the same code point, the first mapping wins.
+ *   <li>preserveOriginal (optional): if true, a token that folding changes is
+ *       kept, and the folded token is stacked on it at position increment 0.
+ *       Default is false.
+ *   <li>warmup (optional): Number of times to run a bundled sample of CJK
+ *       text through the filter once it is ready; see {@link FactoryWarmup}.
+ *       Default is 0.
+ *   <li>backgroundWarmup (optional): If true, warmup runs on a background
+ *       thread instead of delaying init. Default is false.
+ * </ul>
  * @author Naomi Dushay
  *
  */
-public class CJKFoldingFilterFactory extends TokenFilterFactory
+public class CJKFoldingFilterFactory extends TokenFilterFactory implements ResourceLoaderAware
 {
+	private final String mapping;
+	private final boolean preserveOriginal;
+	private final int warmup;
+	private final boolean backgroundWarmup;
+	private FoldingTable table;
+	private volatile FactoryWarmup warmedUp = FactoryWarmup.NONE;
+
 	public CJKFoldingFilterFactory(Map<String, String> map)
 	{
 		super(map);
+		mapping = get(map, "mapping");
+		preserveOriginal = getBoolean(map, "preserveOriginal", false);
+		warmup = getInt(map, "warmup", 0);
+		backgroundWarmup = getBoolean(map, "backgroundWarmup", false);
+		if (!map.isEmpty())
+			throw new IllegalArgumentException("Unknown parameters: " + map);
+	}
+
+	@Override
+	public void inform(ResourceLoader loader) throws IOException
+	{
+		if (mapping != null)
+		{
+			FoldingTable.Builder builder = new FoldingTable.Builder();
+			for (String file : splitFileNames(mapping))
+			{
+				try (InputStream stream = loader.openResource(file.trim()))
+				{
+					builder.addRules(new InputStreamReader(stream, StandardCharsets.UTF_8));
+				}
+			}
+			table = builder.build();
+		}
+		warmedUp = FactoryWarmup.run(getClass().getSimpleName(), warmup, backgroundWarmup,
+				sample -> FactoryWarmup.filter(this, sample));
+	}
+
+	/** @return the warmup started by {@link #inform}, to wait for it */
+	FactoryWarmup warmedUp()
+	{
+		return warmedUp;
 	}
 
 	/**
@@ -25,6 +85,8 @@ public class CJKFoldingFilterFactory extends TokenFilterFactory
 	@Override
 	public TokenStream create(TokenStream input)
 	{
-		return new CJKFoldingFilter(input);
+		return table == null
+				? new CJKFoldingFilter(input, preserveOriginal)
+				: new CJKFoldingFilter(input, table, preserveOriginal);
 	}
 }
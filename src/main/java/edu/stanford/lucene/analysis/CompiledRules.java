@@ -0,0 +1,202 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.ibm.icu.text.Transliterator;
+import com.ibm.icu.text.UnicodeSet;
+import com.ibm.icu.util.VersionInfo;
+
+/**
+ * Custom transliteration rules, compiled either into a {@link FoldingTable},
+ * if they only map single code points to single code points, or by ICU.
+ * <p>
+ * Compiled rules are cached for the whole process, keyed by a hash of the
+ * rules and the direction, so every core with the same schema shares them.
+ * The cache holds them weakly, so rules no factory uses any more can be
+ * collected, and keeps at most {@link #MAX_CACHED} of them, dropping the
+ * least recently used.
+ * <p>
+ * Rules compiled into a table can also be kept in a cache directory, to be
+ * read back after a restart instead of compiled again.  Files there are
+ * named by the hash of the rules and the ICU version, so changed rules or a
+ * new ICU never read a stale table.  ICU cannot serialize what it compiles,
+ * so rules compiled by ICU are compiled on every start.
+ */
+final class CompiledRules {
+    static final int MAX_CACHED = 64;
+
+    private static final Map<String, WeakReference<CompiledRules>> CACHE =
+            new LinkedHashMap<String, WeakReference<CompiledRules>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, WeakReference<CompiledRules>> eldest) {
+                    return size() > MAX_CACHED;
+                }
+            };
+
+    // exactly one of table and transliterators is set
+    private final FoldingTable table;
+    private final PerThreadTransliterator transliterators;
+    private final UnicodeSet sourceSet;
+
+    private CompiledRules(FoldingTable table, PerThreadTransliterator transliterators) {
+        this.table = table;
+        this.transliterators = transliterators;
+        this.sourceSet = transliterators == null ? null : ICUTransformCharFilter.sourceSet(transliterators.prototype());
+    }
+
+    /**
+     * @param id the ID for ICU, if the rules are compiled by ICU; rules with
+     *   the same text share one compiled form, and with it the first ID
+     * @return the cached compiled form of {@code rules}, or a new one
+     */
+    static CompiledRules compile(String id, String rules, int dir) {
+        return compile(id, rules, dir, null);
+    }
+
+    /**
+     * As {@link #compile(String, String, int)}, reading and writing compiled
+     * tables in {@code cacheDir} if it is not null
+     */
+    static CompiledRules compile(String id, String rules, int dir, Path cacheDir) {
+        final String key = hash(rules) + (dir == Transliterator.FORWARD ? ":f" : ":r");
+        synchronized (CACHE) {
+            final CompiledRules cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        // compiling can take seconds, so other rules are not held up meanwhile
+        CompiledRules compiled = compileUncached(id, rules, dir, cacheDir);
+        synchronized (CACHE) {
+            final CompiledRules cached = get(key);
+            if (cached != null) {
+                return cached;
+            }
+            CACHE.put(key, new WeakReference<>(compiled));
+            return compiled;
+        }
+    }
+
+    /** compiles {@code rules}, or reads their table from {@code cacheDir}, without the in-memory cache */
+    static CompiledRules compileUncached(String id, String rules, int dir, Path cacheDir) {
+        if (dir == Transliterator.FORWARD) {
+            final Path cached = cacheDir == null ? null
+                    : cacheDir.resolve(hash(rules) + "-icu" + VersionInfo.ICU_VERSION + ".bin");
+            if (cached != null && Files.isRegularFile(cached)) {
+                try (InputStream in = Files.newInputStream(cached)) {
+                    return new CompiledRules(FoldingTable.read(in), null);
+                } catch (IOException | RuntimeException e) {
+                    // unreadable or truncated; compile again, and replace it
+                }
+            }
+            final FoldingTable table;
+            try {
+                table = FoldingTable.parseRules(new StringReader(rules));
+            } catch (IllegalArgumentException e) {
+                // real rules, for ICU
+                return new CompiledRules(null, PerThreadTransliterator.fromRules(id, rules, dir));
+            } catch (IOException e) {
+                throw new AssertionError(e);
+            }
+            if (cached != null) {
+                write(table, cached);
+            }
+            return new CompiledRules(table, null);
+        }
+        return new CompiledRules(null, PerThreadTransliterator.fromRules(id, rules, dir));
+    }
+
+    /**
+     * Writes {@code table} to a temporary file moved into place, so a
+     * concurrent start never reads half a table.  The cache only saves time,
+     * so a directory that cannot be written is not an error.
+     */
+    private static void write(FoldingTable table, Path file) {
+        try {
+            Files.createDirectories(file.getParent());
+            final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try {
+                try (OutputStream out = Files.newOutputStream(temp)) {
+                    table.write(out);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            // compiled again on the next start
+        }
+    }
+
+    /** @return the cached rules for {@code key}; drops any that were collected */
+    private static CompiledRules get(String key) {
+        for (Iterator<WeakReference<CompiledRules>> it = CACHE.values().iterator(); it.hasNext(); ) {
+            if (it.next().get() == null) {
+                it.remove();
+            }
+        }
+        final WeakReference<CompiledRules> ref = CACHE.get(key);
+        return ref == null ? null : ref.get();
+    }
+
+    /** @return the SHA-256 of {@code rules}, in hex */
+    private static String hash(String rules) {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(rules.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("SHA-256 is required of every JVM", e);
+        }
+        StringBuilder hex = new StringBuilder(2 * hash.length);
+        for (byte b : hash) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    /** @return the number of rule sets in the cache, including any not yet found collected */
+    static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    /** @return a system transliterator, as loaded by ICU; not cached here, see {@link TransliteratorRegistry} */
+    static CompiledRules of(Transliterator transliterator) {
+        return new CompiledRules(null, PerThreadTransliterator.of(transliterator));
+    }
+
+    /** @return the transliterators, or null if the rules are mapped with a {@link FoldingTable} */
+    PerThreadTransliterator transliterators() {
+        return transliterators;
+    }
+
+    /** true if the rules are mapped with a {@link FoldingTable} */
+    boolean isTable() {
+        return table != null;
+    }
+
+    /** @return a char filter applying the rules to {@code input} */
+    Reader create(Reader input, int bufferSize, boolean correctOffsets) {
+        if (table != null) {
+            return new FoldingTableCharFilter(input, table, bufferSize, correctOffsets);
+        }
+        return new ICUTransformCharFilter(input, transliterators.get(), bufferSize, correctOffsets, sourceSet);
+    }
+}
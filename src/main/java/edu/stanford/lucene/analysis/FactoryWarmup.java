@@ -0,0 +1,116 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.lucene.analysis.TokenFilterFactory;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+
+/**
+ * Runs a bundled sample of catalog text in Chinese, Japanese, Korean and
+ * romanized Latin through a factory's component, so the JIT has compiled its
+ * hot paths before the first live queries.  Used by the factories'
+ * {@code warmup} and {@code backgroundWarmup} attributes.
+ * <p>
+ * Each factory keeps the warmup it started, so a background warmup can be
+ * waited for, and its progress checked.
+ */
+final class FactoryWarmup {
+    static final String SAMPLE = loadSample();
+    /** the warmup of a factory that does not warm up */
+    static final FactoryWarmup NONE = new FactoryWarmup();
+
+    // the background thread, or null
+    private Thread thread;
+    private volatile int runs;
+
+    /** analyzes the sample once */
+    interface Step {
+        void run(String sample) throws IOException;
+    }
+
+    private FactoryWarmup() {}
+
+    private static String loadSample() {
+        try (InputStream stream = FactoryWarmup.class.getResourceAsStream("warmup_sample.txt")) {
+            return IOUtils.toString(stream, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Runs {@code step} on the sample {@code iterations} times, on this
+     * thread, or on a new low priority daemon thread if {@code background}.
+     * @return the warmup, finished unless it runs in the background
+     */
+    static FactoryWarmup run(String name, int iterations, boolean background, Step step) {
+        if (iterations <= 0) {
+            return NONE;
+        }
+        final FactoryWarmup warmup = new FactoryWarmup();
+        if (!background) {
+            warmup.run(iterations, step);
+            return warmup;
+        }
+        warmup.thread = new Thread(() -> warmup.run(iterations, step), name + "-warmup");
+        warmup.thread.setDaemon(true);
+        warmup.thread.setPriority(Thread.MIN_PRIORITY);
+        warmup.thread.start();
+        return warmup;
+    }
+
+    private void run(int iterations, Step step) {
+        try {
+            for (int i = 0; i < iterations; i++) {
+                step.run(SAMPLE);
+                runs++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /** waits for a background warmup to finish; returns at once otherwise */
+    void join() throws InterruptedException {
+        if (thread != null) {
+            thread.join();
+        }
+    }
+
+    /** @return the number of times the sample has been run so far */
+    int runs() {
+        return runs;
+    }
+
+    /** reads {@code reader} to the end, and closes it */
+    static void read(Reader reader) throws IOException {
+        char[] cbuf = new char[1024];
+        try (Reader r = reader) {
+            while (r.read(cbuf) != -1) {
+                // discard
+            }
+        }
+    }
+
+    /** runs {@code sample}, split at whitespace, through {@code factory}'s filter */
+    static void filter(TokenFilterFactory factory, String sample) throws IOException {
+        WhitespaceTokenizer tokenizer = new WhitespaceTokenizer();
+        tokenizer.setReader(new StringReader(sample));
+        try (TokenStream stream = factory.create(tokenizer)) {
+            stream.reset();
+            while (stream.incrementToken()) {
+                // discard
+            }
+            stream.end();
+        }
+    }
+}
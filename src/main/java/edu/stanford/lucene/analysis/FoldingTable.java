@@ -0,0 +1,359 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.BufferedReader;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import com.ibm.icu.lang.UCharacter;
+import com.ibm.icu.lang.UProperty;
+import com.ibm.icu.util.CodePointMap;
+import com.ibm.icu.util.CodePointTrie;
+import com.ibm.icu.util.MutableCodePointTrie;
+
+/**
+ * Immutable mapping of code points to the code points they fold to, backed
+ * by an ICU {@link CodePointTrie}.  BMP lookups are two array reads; code
+ * points in the supplementary planes (CJK Extension B and beyond, the
+ * Compatibility Ideographs Supplement) go through one more index level.
+ * <p>
+ * Tables are compiled from transliteration rule files that contain nothing
+ * but single code point rules such as {@code 両 > 兩;}, see
+ * {@link #parseRules(Reader)}.  {@link FoldingTableCompiler} stores the
+ * compiled form at build time so it can be loaded without parsing.
+ */
+final class FoldingTable
+{
+	/** "CJKF", followed by the format version and the serialized trie */
+	private static final int MAGIC = 0x434A4B46;
+	private static final int VERSION = 1;
+
+	/** mapped code point for each code point; 0 means not mapped */
+	private final CodePointTrie.Fast32 trie;
+	/** one bit per BMP code point, set if it is mapped; each long covers a block of 64 */
+	private final long[] bmpMapped = new long[(Character.MAX_VALUE + 1) >>> 6];
+	/** no char below this starts a mapped code point */
+	private final int threshold;
+	/** true if every code point maps to one with the same UTF-16 length */
+	private final boolean lengthPreserving;
+
+	private FoldingTable(CodePointTrie.Fast32 trie)
+	{
+		this.trie = trie;
+
+		int minMapped = Character.MAX_VALUE + 1;
+		boolean supplementary = false;
+		boolean sameLength = true;
+		final CodePointMap.Range range = new CodePointMap.Range();
+		for (int start = 0; trie.getRange(start, null, range); start = range.getEnd() + 1)
+		{
+			if (range.getValue() == 0)
+				continue;
+			minMapped = Math.min(minMapped, range.getStart());
+			for (int c = range.getStart(); c <= Math.min(range.getEnd(), Character.MAX_VALUE); c++)
+				bmpMapped[c >>> 6] |= 1L << c;
+			if (range.getEnd() > Character.MAX_VALUE)
+				supplementary = true;
+			final int mappedCount = Character.charCount(range.getValue());
+			if (Character.charCount(range.getStart()) != mappedCount || Character.charCount(range.getEnd()) != mappedCount)
+				sameLength = false;
+		}
+		threshold = supplementary ? Math.min(minMapped, Character.MIN_HIGH_SURROGATE) : minMapped;
+		lengthPreserving = sameLength;
+	}
+
+	/**
+	 * @return true if folding never changes the UTF-16 length of text, so it
+	 * can be done in place
+	 */
+	boolean isLengthPreserving()
+	{
+		return lengthPreserving;
+	}
+
+	/**
+	 * @return the smallest char value that can start a mapped code point;
+	 * anything below it can be copied without a lookup
+	 */
+	int threshold()
+	{
+		return threshold;
+	}
+
+	/**
+	 * Fast reject test for a whole token.
+	 * @return true if any code point in {@code text[start, end)} is mapped
+	 */
+	boolean hasMapping(char[] text, int start, int end)
+	{
+		int i = start;
+		while (i < end)
+		{
+			// SWAR-style skip: (a | b | c | d) < threshold implies each of a, b,
+			// c and d is below threshold, so four chars are rejected at once
+			if (i + 4 <= end && (text[i] | text[i + 1] | text[i + 2] | text[i + 3]) < threshold)
+			{
+				i += 4;
+				continue;
+			}
+			final char c = text[i++];
+			if (c < threshold)
+				continue;
+			if (Character.isHighSurrogate(c) && i < end && Character.isLowSurrogate(text[i]))
+			{
+				if (trie.suppGet(Character.toCodePoint(c, text[i++])) != 0)
+					return true;
+			}
+			else if ((bmpMapped[c >>> 6] & (1L << c)) != 0)
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * @param c a code point
+	 * @return the code point c folds to, or c itself if it is not mapped
+	 */
+	int get(int c)
+	{
+		final int mapped = trie.get(c);
+		return mapped == 0 ? c : mapped;
+	}
+
+	/**
+	 * Same as {@link #get(int)}, for a BMP code point that is not a surrogate.
+	 */
+	int bmpGet(char c)
+	{
+		final int mapped = trie.bmpGet(c);
+		return mapped == 0 ? c : mapped;
+	}
+
+	/**
+	 * Writes the compiled table, to be read back by {@link #read(InputStream)}.
+	 */
+	void write(OutputStream out) throws IOException
+	{
+		DataOutputStream data = new DataOutputStream(out);
+		data.writeInt(MAGIC);
+		data.writeInt(VERSION);
+		trie.toBinary(data);
+		data.flush();
+	}
+
+	/**
+	 * Reads a table written by {@link #write(OutputStream)}.
+	 */
+	static FoldingTable read(InputStream in) throws IOException
+	{
+		DataInputStream data = new DataInputStream(in);
+		if (data.readInt() != MAGIC)
+			throw new IOException("Not a compiled folding table");
+		final int version = data.readInt();
+		if (version != VERSION)
+			throw new IOException("Unsupported folding table version " + version);
+		return new FoldingTable(CodePointTrie.Fast32.fromBinary(ByteBuffer.wrap(data.readAllBytes())));
+	}
+
+	/**
+	 * Loads the table for a rule file bundled next to {@code clazz}: the
+	 * compiled {@code baseName.bin} written at build time, or, when running
+	 * from a tree that was not built with Maven, {@code baseName.txt} itself.
+	 */
+	static FoldingTable load(Class<?> clazz, String baseName)
+	{
+		try
+		{
+			try (InputStream compiled = clazz.getResourceAsStream(baseName + ".bin"))
+			{
+				if (compiled != null)
+					return read(compiled);
+			}
+			try (InputStream rules = clazz.getResourceAsStream(baseName + ".txt"))
+			{
+				if (rules == null)
+					throw new IOException("No folding rules found for " + baseName);
+				return parseRules(new InputStreamReader(rules, StandardCharsets.UTF_8));
+			}
+		}
+		catch (IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Compiles transliteration rules of the form {@code a > b;} where a and b
+	 * are each a single code point, written literally or as an ICU backslash-u,
+	 * backslash-U or {@code \x{...}} escape.  Blank lines and {@code #}
+	 * comments are skipped.  As with ICU, the first rule for a code point wins.
+	 * @throws IllegalArgumentException if a line holds anything else
+	 */
+	static FoldingTable parseRules(Reader rules) throws IOException
+	{
+		return new Builder().addRules(rules).build();
+	}
+
+	/** Cursor over one line of rules; sets ok to false on anything unexpected */
+	private static final class RuleParser
+	{
+		private final String line;
+		private int pos;
+		boolean ok = true;
+
+		RuleParser(String line)
+		{
+			this.line = line;
+		}
+
+		/** @return true if another rule starts here, false at end of line or comment */
+		boolean nextRule()
+		{
+			skipWhiteSpace();
+			return ok && pos < line.length() && line.charAt(pos) != '#';
+		}
+
+		void expect(char c)
+		{
+			skipWhiteSpace();
+			if (pos < line.length() && line.charAt(pos) == c)
+				pos++;
+			else
+				ok = false;
+		}
+
+		/** @return the next code point, or -1 if there is none */
+		int codePoint()
+		{
+			skipWhiteSpace();
+			if (!ok || pos >= line.length())
+				return fail();
+			final int c = line.codePointAt(pos);
+			if (c != '\\')
+			{
+				// anything ASCII other than a letter or digit is rule syntax
+				if (c < 0x80 && !Character.isLetterOrDigit(c))
+					return fail();
+				pos += Character.charCount(c);
+				return c;
+			}
+			if (line.startsWith("\\u", pos))
+				return hex(pos + 2, 4);
+			if (line.startsWith("\\U", pos))
+				return hex(pos + 2, 8);
+			if (line.startsWith("\\x{", pos))
+			{
+				final int close = line.indexOf('}', pos);
+				if (close < 0)
+					return fail();
+				final int c2 = hex(pos + 3, close - pos - 3);
+				pos++;
+				return c2;
+			}
+			return fail();
+		}
+
+		private int hex(int start, int digits)
+		{
+			if (digits < 1 || digits > 8 || start + digits > line.length())
+				return fail();
+			try
+			{
+				final int c = Integer.parseInt(line.substring(start, start + digits), 16);
+				if (c < 1 || c > Character.MAX_CODE_POINT)
+					return fail();
+				pos = start + digits;
+				return c;
+			}
+			catch (NumberFormatException e)
+			{
+				return fail();
+			}
+		}
+
+		private void skipWhiteSpace()
+		{
+			while (pos < line.length() && UCharacter.hasBinaryProperty(line.codePointAt(pos), UProperty.PATTERN_WHITE_SPACE))
+				pos += Character.charCount(line.codePointAt(pos));
+		}
+
+		private int fail()
+		{
+			ok = false;
+			return -1;
+		}
+	}
+
+	/**
+	 * Collects mappings and compiles them into a {@link FoldingTable}.
+	 */
+	static final class Builder
+	{
+		private final MutableCodePointTrie mappings = new MutableCodePointTrie(0, 0);
+
+		/**
+		 * @param variant code point to fold
+		 * @param folded  code point it folds to
+		 */
+		Builder put(int variant, int folded)
+		{
+			mappings.set(variant, folded);
+			return this;
+		}
+
+		/**
+		 * Like {@link #put(int, int)}, but keeps an existing mapping for variant.
+		 */
+		Builder putIfAbsent(int variant, int folded)
+		{
+			if (mappings.get(variant) == 0)
+				mappings.set(variant, folded);
+			return this;
+		}
+
+		/**
+		 * Adds the mappings from a rule file; see {@link FoldingTable#parseRules(Reader)}.
+		 * Code points that are already mapped keep their mapping.
+		 * @throws IllegalArgumentException if a line holds anything but mappings
+		 */
+		Builder addRules(Reader rules) throws IOException
+		{
+			BufferedReader reader = new BufferedReader(rules);
+			String line;
+			int lineNumber = 0;
+			while ((line = reader.readLine()) != null)
+			{
+				lineNumber++;
+				RuleParser parser = new RuleParser(line);
+				while (parser.nextRule())
+				{
+					final int variant = parser.codePoint();
+					parser.expect('>');
+					final int folded = parser.codePoint();
+					parser.expect(';');
+					if (variant < 0 || folded < 0 || !parser.ok)
+						throw new IllegalArgumentException("Not a single code point mapping at line " + lineNumber + ": " + line);
+					putIfAbsent(variant, folded);
+				}
+				if (!parser.ok)
+					throw new IllegalArgumentException("Not a single code point mapping at line " + lineNumber + ": " + line);
+			}
+			return this;
+		}
+
+		FoldingTable build()
+		{
+			return new FoldingTable((CodePointTrie.Fast32) mappings.buildImmutable(
+					CodePointTrie.Type.FAST, CodePointTrie.ValueWidth.BITS_32));
+		}
+	}
+}
@@ -0,0 +1,122 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.lucene.analysis.CharFilter;
+
+/**
+ * Maps the text of a Reader code point by code point with a
+ * {@link FoldingTable}: the same output ICU gives for the table's rules,
+ * without running the rule engine on every char.
+ */
+final class FoldingTableCharFilter extends CharFilter
+{
+	private final FoldingTable table;
+	// input read in one step; a trailing high surrogate waits for the next one
+	private final char[] buffer;
+	private int carry = -1;
+	// mapped text, if the table changes lengths; otherwise it is mapped in buffer
+	private char[] output;
+	private char[] mapped;
+	private int mappedPos;
+	private int mappedEnd;
+	private boolean finished;
+	// null if offsets are passed through, or the table keeps lengths
+	private final SegmentOffsetMap offsets;
+
+	FoldingTableCharFilter(Reader in, FoldingTable table, int bufferSize, boolean correctOffsets)
+	{
+		super(in);
+		if (bufferSize < 2)
+			throw new IllegalArgumentException("bufferSize must be >= 2, got " + bufferSize);
+		this.table = table;
+		this.buffer = new char[bufferSize];
+		this.offsets = correctOffsets && !table.isLengthPreserving() ? new SegmentOffsetMap() : null;
+	}
+
+	@Override
+	public int read(char[] cbuf, int off, int len) throws IOException
+	{
+		while (mappedPos == mappedEnd)
+		{
+			if (finished)
+				return -1;
+			readAndMap();
+		}
+		len = Math.min(len, mappedEnd - mappedPos);
+		System.arraycopy(mapped, mappedPos, cbuf, off, len);
+		mappedPos += len;
+		return len;
+	}
+
+	private void readAndMap() throws IOException
+	{
+		int length = 0;
+		if (carry != -1)
+		{
+			buffer[length++] = (char) carry;
+			carry = -1;
+		}
+		final int read = input.read(buffer, length, buffer.length - length);
+		if (read == -1)
+			finished = true;
+		else
+		{
+			length += read;
+			// map a surrogate pair split between reads as one code point
+			if (length > 0 && Character.isHighSurrogate(buffer[length - 1]))
+				carry = buffer[--length];
+		}
+
+		if (table.isLengthPreserving())
+		{
+			CJKFoldingFilter.mapUnicode(table, buffer, 0, buffer, 0, length);
+			mapped = buffer;
+			mappedEnd = length;
+		}
+		else
+		{
+			if (output == null)
+				output = new char[2 * buffer.length];
+			mapped = output;
+			mappedEnd = CJKFoldingFilter.mapUnicode(table, buffer, 0, output, 0, length);
+			if (offsets != null)
+				addOffsets(length);
+		}
+		mappedPos = 0;
+	}
+
+	/**
+	 * records each code point the table maps to a different length as a
+	 * segment of its own, so offsets around it stay exact
+	 */
+	private void addOffsets(int length)
+	{
+		int sameLength = 0;
+		for (int pos = 0; pos < length; )
+		{
+			final int c = Character.codePointAt(buffer, pos, length);
+			final int inputLength = Character.charCount(c);
+			final int outputLength = Character.charCount(table.get(c));
+			if (inputLength == outputLength)
+				sameLength += inputLength;
+			else
+			{
+				offsets.add(sameLength, sameLength);
+				offsets.add(inputLength, outputLength);
+				sameLength = 0;
+			}
+			pos += inputLength;
+		}
+		offsets.add(sameLength, sameLength);
+	}
+
+	@Override
+	protected int correct(int currentOff)
+	{
+		return offsets == null ? currentOff : offsets.correct(currentOff);
+	}
+}
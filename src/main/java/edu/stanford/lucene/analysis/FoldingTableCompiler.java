@@ -0,0 +1,43 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build-time tool: compiles a single code point mapping rule file (such as
+ * stanford_cjk_transliterations.txt) into the binary table loaded by
+ * {@link CJKFoldingFilter}.  Run by the Maven build as
+ * {@code FoldingTableCompiler <rules.txt> <table.bin>}.
+ */
+public final class FoldingTableCompiler
+{
+	private FoldingTableCompiler()
+	{
+	}
+
+	public static void main(String[] args) throws IOException
+	{
+		if (args.length != 2)
+			throw new IllegalArgumentException("Usage: FoldingTableCompiler <rules.txt> <table.bin>");
+		final Path rules = Paths.get(args[0]);
+		final Path table = Paths.get(args[1]);
+
+		final FoldingTable compiled;
+		try (Reader reader = Files.newBufferedReader(rules, StandardCharsets.UTF_8))
+		{
+			compiled = FoldingTable.parseRules(reader);
+		}
+		Files.createDirectories(table.toAbsolutePath().getParent());
+		try (OutputStream out = Files.newOutputStream(table))
+		{
+			compiled.write(out);
+		}
+	}
+}
@@ -8,14 +8,57 @@ import org.apache.lucene.util.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Factory for an {@link ICUTransformCharFilter} with custom rules.
+ * <p>
+ * Supports the following attributes:
+ * <ul>
+ *   <li>id (mandatory): The resource with the rules
+ *   <li>direction (optional): Either 'forward' or 'reverse'. Default is forward.
+ *   <li>bufferSize (optional): As for ICUTransformCharFilterFactory.
+ *   <li>offsets (optional): As for ICUTransformCharFilterFactory.
+ *   <li>cacheDir (optional): A local directory to keep compiled tables in,
+ *       so they are read back on later starts instead of compiled again.
+ *   <li>async (optional): If true, {@link #inform} only reads the rules and
+ *       compiles them on a background thread, so core loading goes on
+ *       meanwhile.  The first {@link #create} waits for the compile, and
+ *       throws any error from it.  Default is false.
+ *   <li>warmup (optional): Number of times to run a bundled sample of CJK
+ *       text through the char filter once the rules are compiled; see
+ *       {@link FactoryWarmup}. Default is 0.
+ *   <li>backgroundWarmup (optional): If true, warmup runs on a background
+ *       thread instead of delaying init. Default is false.
+ * </ul>
+ * Forward rules that only map single code points to single code points, such
+ * as stanford_cjk_transliterations.txt, are compiled into a
+ * {@link FoldingTable} and applied without the ICU rule engine.  Compiled
+ * rules are shared by all factories with the same rules and direction.
+ */
 public class ICUCustomTransformCharFilterFactory extends CharFilterFactory implements ResourceLoaderAware {
-    private Transliterator transliterator;
+    private volatile CompiledRules compiled;
+    // set by inform if async; compiled is taken from it by the first create
+    private volatile CompletableFuture<CompiledRules> compiling;
     private final String id;
     private final int dir;
+    private final int bufferSize;
+    private final boolean correctOffsets;
+    private final Path cacheDir;
+    private final boolean async;
+    private final int warmup;
+    private final boolean backgroundWarmup;
+    private volatile FactoryWarmup warmedUp = FactoryWarmup.NONE;
 
     /** Creates a new ICUCustomTransformCharFilterFactory */
     public ICUCustomTransformCharFilterFactory(Map<String,String> args) {
@@ -23,6 +66,16 @@ public class ICUCustomTransformCharFilterFactory extends CharFilterFactory imple
         id = require(args, "id");
         String direction = get(args, "direction", Arrays.asList("forward", "reverse"), "forward", false);
         dir = "forward".equals(direction) ? Transliterator.FORWARD : Transliterator.REVERSE;
+        bufferSize = getInt(args, "bufferSize", ICUTransformCharFilter.DEFAULT_BUFFER_SIZE);
+        if (bufferSize < 2) {
+            throw new IllegalArgumentException("bufferSize must be >= 2, got " + bufferSize);
+        }
+        correctOffsets = "correct".equals(get(args, "offsets", Arrays.asList("correct", "none"), "correct", false));
+        String cacheDir = get(args, "cacheDir");
+        this.cacheDir = cacheDir == null ? null : Paths.get(cacheDir);
+        async = getBoolean(args, "async", false);
+        warmup = getInt(args, "warmup", 0);
+        backgroundWarmup = getBoolean(args, "backgroundWarmup", false);
         if (!args.isEmpty()) {
             throw new IllegalArgumentException("Unknown parameters: " + args);
         }
@@ -30,15 +83,76 @@ public class ICUCustomTransformCharFilterFactory extends CharFilterFactory imple
 
     @Override
     public Reader create(Reader input) {
-        return transliterator == null ? input : new ICUTransformCharFilter(input, transliterator);
+        CompiledRules compiled = this.compiled;
+        if (compiled == null) {
+            compiled = awaitCompiled();
+        }
+        return compiled.create(input, bufferSize, correctOffsets);
+    }
+
+    private void warmup(String sample) throws IOException {
+        FactoryWarmup.read(create(new StringReader(sample)));
+    }
+
+    /** @return the warmup started by {@link #inform}, to wait for it */
+    FactoryWarmup warmedUp() {
+        return warmedUp;
+    }
+
+    private CompiledRules awaitCompiled() {
+        final CompletableFuture<CompiledRules> compiling = this.compiling;
+        if (compiling == null) {
+            throw new IllegalStateException("inform() was not called for " + id);
+        }
+        try {
+            compiled = compiling.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+        return compiled;
     }
 
     @Override
     public void inform(ResourceLoader loader) throws IOException {
         if(id != null) {
-            InputStream stream = loader.openResource(id.trim());
-            String rules = IOUtils.toString(stream, StandardCharsets.UTF_8);
-            transliterator = Transliterator.createFromRules(id, rules, dir);
+            final String rules;
+            try (InputStream stream = loader.openResource(id.trim())) {
+                rules = IOUtils.toString(stream, StandardCharsets.UTF_8);
+            }
+            if (async) {
+                compiling = CompletableFuture.supplyAsync(() -> CompiledRules.compile(id, rules, dir, cacheDir),
+                        Compiler.EXECUTOR);
+                // waits for the compile; in the background, so async stays async
+                warmedUp = FactoryWarmup.run(getClass().getSimpleName(), warmup, true, this::warmup);
+            } else {
+                compiled = CompiledRules.compile(id, rules, dir, cacheDir);
+                warmedUp = FactoryWarmup.run(getClass().getSimpleName(), warmup, backgroundWarmup, this::warmup);
+            }
+        }
+    }
+
+    /**
+     * compiles rules for async factories, one thread per CPU; the threads
+     * stop when idle, once cores are loaded
+     */
+    private static final class Compiler {
+        static final ThreadPoolExecutor EXECUTOR;
+
+        static {
+            final int threads = Runtime.getRuntime().availableProcessors();
+            EXECUTOR = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "ICUCustomTransformCharFilterFactory-compile");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            EXECUTOR.allowCoreThreadTimeOut(true);
         }
     }
 }
@@ -19,29 +19,181 @@ package edu.stanford.lucene.analysis;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
 
-import com.ibm.icu.text.ReplaceableString;
 import com.ibm.icu.text.Transliterator;
-import org.apache.lucene.analysis.CharacterUtils;
-import org.apache.lucene.analysis.charfilter.BaseCharFilter;
+import com.ibm.icu.text.UnicodeSet;
+import com.ibm.icu.text.UnicodeSet.SpanCondition;
+import org.apache.lucene.analysis.CharFilter;
+import org.apache.lucene.util.ArrayUtil;
+
+/**
+ * Applies an ICU {@link Transliterator} to the text of a Reader.
+ * <p>
+ * The input is streamed: it is read {@code bufferSize} chars at a time and
+ * transliterated in ICU's incremental mode, which leaves unconverted the text
+ * a rule could still match differently once more input arrives, such as the
+ * start of a key that spans whitespace.  That text, and the context the
+ * transliterator needs, are kept between steps, so memory use does not grow
+ * with the size of the document.
+ * <p>
+ * In incremental mode, an element of a compound transform would see text the
+ * elements before it have not transliterated yet, and commit output the whole
+ * document would not give.  So a compound transform without a global filter,
+ * such as Han-Latin, is streamed as a chain of filters, one per element; one
+ * with a global filter, whose elements cannot run apart, rolls back
+ * incremental steps as ICU does for typed input.  Either way the output is the
+ * same as transliterating the whole document at once, except for Any-Latin,
+ * which picks a transliterator per script and may differ on mixed scripts.
+ */
+public final class ICUTransformCharFilter extends CharFilter {
+  /** Default maximum number of input chars transliterated in one step */
+  public static final int DEFAULT_BUFFER_SIZE = 1024;
+  // Least context kept on either side of the text being transliterated:
+  // transliterators that delegate to others (such as Any-Latin) report a
+  // maximum context length of 0
+  private static final int MIN_CONTEXT_LENGTH = 16;
+  // A rule key with nothing between its braces
+  private static final Pattern EMPTY_KEY = Pattern.compile("\\{\\s*\\}");
 
-public final class ICUTransformCharFilter extends BaseCharFilter {
   // Transliterator to transform the text
   private final Transliterator transform;
+  // Number of chars kept as context before and after the text being transliterated
+  private final int maxContextLength;
+  // Number of input chars read in one step
+  private final int bufferSize;
   // Reusable position object
   private final Transliterator.Position position = new Transliterator.Position();
 
-  private final StringBuilder inputBuffer = new StringBuilder();
-  private final StringBuilder resultBuffer = new StringBuilder();
-  private final CharacterUtils.CharacterBuffer tmpBuffer;
+  // Text transliterated in place: ante-context that has already been output,
+  // then [outputStart, position.start) transliterated but not yet output, then
+  // [position.start, text.length()) read from input but not yet transliterated
+  private final ReplaceableCharBuffer text;
+  private int outputStart;
 
-  private boolean inputFinished;
-  private int charCount;
+  private boolean transliterationFinished;
+  // One offset correction per transliterated segment, or null if offsets are passed through
+  private final SegmentOffsetMap offsets;
+  // Input of the span being transliterated, to find what the transliterator left alone
+  private char[] saved = new char[16];
+  // Chars the transliterator may change, or null to pass all text to it
+  private final UnicodeSet sourceSet;
 
   public ICUTransformCharFilter(Reader in, Transliterator transform) {
-    super(in);
-    this.transform = transform;
-    this.tmpBuffer = CharacterUtils.newCharacterBuffer(128);
+    this(in, transform, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param bufferSize maximum number of input chars read and transliterated
+   *                   in one step; must be at least 2
+   */
+  public ICUTransformCharFilter(Reader in, Transliterator transform, int bufferSize) {
+    this(in, transform, bufferSize, true);
+  }
+
+  /**
+   * @param bufferSize maximum number of input chars read and transliterated
+   *                   in one step; must be at least 2
+   * @param correctOffsets whether to map offsets in the output back to the
+   *                       input; if false, offsets are passed through unchanged,
+   *                       saving the bookkeeping for fields that are never
+   *                       highlighted
+   */
+  public ICUTransformCharFilter(Reader in, Transliterator transform, int bufferSize, boolean correctOffsets) {
+    this(in, transform, bufferSize, correctOffsets, null);
+  }
+
+  /**
+   * @param bufferSize maximum number of input chars read and transliterated
+   *                   in one step; must be at least 2
+   * @param correctOffsets whether to map offsets in the output back to the
+   *                       input; if false, offsets are passed through unchanged
+   * @param sourceSet the frozen {@link #sourceSet(Transliterator) source set}
+   *                  of {@code transform}: runs of text without any of its
+   *                  chars are passed through without calling ICU.  May be
+   *                  null, to pass all text to the transliterator.
+   */
+  public ICUTransformCharFilter(Reader in, Transliterator transform, int bufferSize, boolean correctOffsets,
+                                UnicodeSet sourceSet) {
+    this(in, stages(transform), bufferSize, correctOffsets, sourceSet);
+  }
+
+  /**
+   * the last of {@code stages} is applied here, to the output of a chain of
+   * filters for the others; the source set of the whole transform is a
+   * superset of each element's, so every stage can skip the same text
+   */
+  private ICUTransformCharFilter(Reader in, List<Transliterator> stages, int bufferSize, boolean correctOffsets,
+                                 UnicodeSet sourceSet) {
+    super(chain(in, stages, bufferSize, correctOffsets, sourceSet));
+    if (bufferSize < 2) {
+      throw new IllegalArgumentException("bufferSize must be >= 2, got " + bufferSize);
+    }
+    this.transform = stages.get(stages.size() - 1);
+    this.maxContextLength = Math.max(MIN_CONTEXT_LENGTH, transform.getMaximumContextLength());
+    this.bufferSize = bufferSize;
+    this.text = new ReplaceableCharBuffer(2 * bufferSize);
+    this.offsets = correctOffsets ? new SegmentOffsetMap() : null;
+    this.sourceSet = sourceSet;
+  }
+
+  /** @return the transliterators to stream one after the other, for the elements of unfiltered compounds */
+  private static List<Transliterator> stages(Transliterator transform) {
+    List<Transliterator> stages = new ArrayList<>();
+    addStages(transform, stages);
+    return stages;
+  }
+
+  private static void addStages(Transliterator transform, List<Transliterator> stages) {
+    Transliterator[] elements = transform.getElements();
+    if (transform.getFilter() != null || (elements.length == 1 && elements[0] == transform)) {
+      stages.add(transform);
+      return;
+    }
+    for (Transliterator element : elements) {
+      addStages(element, stages);
+    }
+  }
+
+  private static Reader chain(Reader in, List<Transliterator> stages, int bufferSize, boolean correctOffsets,
+                              UnicodeSet sourceSet) {
+    for (Transliterator stage : stages.subList(0, stages.size() - 1)) {
+      List<Transliterator> single = new ArrayList<>(1);
+      single.add(stage);
+      in = new ICUTransformCharFilter(in, single, bufferSize, correctOffsets, sourceSet);
+    }
+    return in;
+  }
+
+  /**
+   * Computes the set of chars {@code transform} may change, to share between
+   * the filters created for it; this can take a large fraction of a second.
+   * @return the frozen source set, or null if it covers every code point, or
+   *         if {@code transform} has rules with an empty key (such as Han-Latin's
+   *         {@code [:Letter:]{}[:Ideographic:] > ' '}): those insert text between
+   *         chars that need not be in the source set at all
+   */
+  public static UnicodeSet sourceSet(Transliterator transform) {
+    if (hasEmptyKeyRules(transform)) {
+      return null;
+    }
+    UnicodeSet sourceSet = transform.getSourceSet();
+    return sourceSet.contains(UnicodeSet.MIN_VALUE, UnicodeSet.MAX_VALUE) ? null : sourceSet.freeze();
+  }
+
+  private static boolean hasEmptyKeyRules(Transliterator transform) {
+    Transliterator[] elements = transform.getElements();
+    if (elements.length == 1 && elements[0] == transform) {
+      return EMPTY_KEY.matcher(transform.toRules(false)).find();
+    }
+    for (Transliterator element : elements) {
+      if (hasEmptyKeyRules(element)) {
+        return true;
+      }
+    }
+    return false;
   }
 
   /**
@@ -62,96 +214,126 @@ public final class ICUTransformCharFilter extends BaseCharFilter {
     if (off >= cbuf.length) throw new IllegalArgumentException("off >= cbuf.length");
     if (len <= 0) throw new IllegalArgumentException("len <= 0");
 
-    while (!inputFinished || inputBuffer.length() > 0 || resultBuffer.length() > 0) {
-      int retLen;
-
-      if (resultBuffer.length() > 0) {
-        retLen = outputFromResultBuffer(cbuf, off, len);
-        if (retLen > 0) {
-          return retLen;
-        }
-      }
-
-      int resLen = readFromIoNormalizeUptoBoundary();
-      if (resLen > 0) {
-        retLen = outputFromResultBuffer(cbuf, off, len);
-        if (retLen > 0) {
-          return retLen;
-        }
+    while (outputStart == position.start) {
+      if (transliterationFinished) {
+        return -1;
       }
-
-      readInputToBuffer();
+      readAndTransliterate();
     }
-
-    return -1;
+    len = Math.min(len, position.start - outputStart);
+    text.getChars(outputStart, outputStart + len, cbuf, off);
+    outputStart += len;
+    return len;
   }
 
-  private int readFromIoNormalizeUptoBoundary() {
-    // if there's no buffer to normalize, return 0
-    if (inputBuffer.length() <= 0) {
-      return 0;
+  /**
+   * Reads the next chunk of input and transliterates as much of the pending
+   * text as the transliterator can commit to; at the end of the input,
+   * finishes transliterating whatever is left.
+   */
+  private void readAndTransliterate() throws IOException {
+    // drop the output that has been read and is not needed as context, but
+    // only once it is at least as long as the text kept, so that each char is
+    // moved at most once on average however the output is read
+    final int drop = Math.min(outputStart, position.start - maxContextLength);
+    if (drop > 0 && drop >= text.length() - drop) {
+      text.removeHead(drop);
+      position.start -= drop;
+      outputStart -= drop;
     }
+    final boolean moreInput = text.append(input, bufferSize);
 
-    final int length = inputBuffer.length();
-    final int destOrigLen = resultBuffer.length();
-    CharSequence s = inputBuffer.subSequence(0, length);
-    StringBuffer sb = new StringBuffer(s);
-    ReplaceableString replaceableString = new ReplaceableString(sb);
-
-    position.start = 0;
-    position.limit = length;
     position.contextStart = 0;
-    position.contextLimit = length;
-
-    transform.filteredTransliterate(replaceableString, position, false);
-
-//    transform.transliterate(replaceableString);
-
-    resultBuffer.append(sb);
-    inputBuffer.delete(0, length);
-    final int resultLength = resultBuffer.length() - destOrigLen;
-    recordOffsetDiff(length, resultLength);
-    return resultLength;
+    transliterate(text.length(), moreInput);
+    transliterationFinished = !moreInput;
   }
 
-  private void recordOffsetDiff(int inputLength, int outputLength) {
-    if (inputLength == outputLength) {
-      charCount += outputLength;
+  /**
+   * transliterates text up to {@code limit}; with a source set, only spans
+   * that contain chars from it are passed to the transliterator, and only the
+   * one reaching {@code limit} in incremental mode
+   */
+  private void transliterate(int limit, boolean incremental) {
+    if (sourceSet == null) {
+      transliterateSpan(limit, incremental);
       return;
     }
-    final int diff = inputLength - outputLength;
-    final int cumuDiff = getLastCumulativeDiff();
-    if (diff < 0) {
-      for (int i = 1;  i <= -diff; ++i) {
-        addOffCorrectMap(charCount + i, cumuDiff - i);
+    final int postContextLength = text.length() - limit;
+    while (position.start < (limit = text.length() - postContextLength)) {
+      final int spanStart = Math.min(limit, sourceSet.span(text, position.start, SpanCondition.NOT_CONTAINED));
+      if (spanStart > position.start) {
+        recordOffsets(spanStart - position.start, spanStart - position.start);
+        position.start = spanStart;
+      }
+      // the span ends where at least maxContextLength untouched chars follow,
+      // so none of the text after it can affect how it is transliterated
+      int spanLimit = spanStart;
+      while (spanLimit < limit) {
+        final int runLimit = Math.min(limit, sourceSet.span(text, spanLimit, SpanCondition.CONTAINED));
+        final int gapLimit = Math.min(limit, sourceSet.span(text, runLimit, SpanCondition.NOT_CONTAINED));
+        if (gapLimit == limit && incremental) {
+          // text read later may still be context for the run
+          spanLimit = limit;
+          break;
+        }
+        if (gapLimit == limit || gapLimit - runLimit >= maxContextLength) {
+          spanLimit = runLimit;
+          break;
+        }
+        spanLimit = gapLimit;
+      }
+      if (spanLimit > spanStart) {
+        if (spanLimit == limit && incremental) {
+          // may leave text unconverted, to wait for more input
+          transliterateSpan(limit, true);
+          return;
+        }
+        transliterateSpan(spanLimit, false);
       }
-    } else {
-      addOffCorrectMap(charCount + outputLength, cumuDiff + diff);
     }
-    charCount += outputLength;
   }
 
-  private void readInputToBuffer() throws IOException {
-    while (true) {
-      // CharacterUtils.fill is supplementary char aware
-      final boolean hasRemainingChars = CharacterUtils.fill(tmpBuffer, input);
-
-      assert tmpBuffer.getOffset() == 0;
-      inputBuffer.append(tmpBuffer.getBuffer(), 0, tmpBuffer.getLength());
-
-      if (hasRemainingChars == false) {
-        inputFinished = true;
-        break;
+  /**
+   * transliterates text up to {@code limit} and records the offset
+   * corrections, found by comparing the text before and after
+   */
+  private void transliterateSpan(int limit, boolean incremental) {
+    final int start = position.start;
+    final int pending = text.length() - start;
+    if (offsets != null) {
+      if (saved.length < limit - start) {
+        saved = ArrayUtil.grow(saved, limit - start);
       }
+      text.getChars(start, limit, saved, 0);
+    }
+    position.contextLimit = text.length();
+    position.limit = limit;
+    transliterateStep(incremental);
+    if (offsets != null) {
+      // in incremental mode, text left unconverted is still input
+      final int consumed = pending - (text.length() - position.start);
+      offsets.add(saved, 0, consumed, text.array(), start, position.start - start);
     }
   }
 
-  private int outputFromResultBuffer(char[] cbuf, int begin, int len) {
-    len = Math.min(resultBuffer.length(), len);
-    resultBuffer.getChars(0, len, cbuf, begin);
-    if (len > 0) {
-      resultBuffer.delete(0, len);
+  private void transliterateStep(boolean incremental) {
+    if (incremental && transform.getFilter() != null) {
+      // ICU's mode for typed input, which only commits text once the whole
+      // compound has converted it
+      transform.transliterate(text, position);
+    } else {
+      transform.filteredTransliterate(text, position, incremental);
     }
-    return len;
+  }
+
+  private void recordOffsets(int inputLength, int outputLength) {
+    if (offsets != null) {
+      offsets.add(inputLength, outputLength);
+    }
+  }
+
+  @Override
+  protected int correct(int currentOff) {
+    return offsets == null ? currentOff : offsets.correct(currentOff);
   }
 }
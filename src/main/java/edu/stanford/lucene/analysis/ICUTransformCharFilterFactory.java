@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Map;
 
 import java.io.Reader;
+import java.io.StringReader;
 import org.apache.lucene.analysis.CharFilterFactory;
 
 import com.ibm.icu.text.Transliterator;
@@ -32,28 +33,72 @@ import com.ibm.icu.text.Transliterator;
  * <ul>
  *   <li>id (mandatory): A Transliterator ID, one from {@link Transliterator#getAvailableIDs()}
  *   <li>direction (optional): Either 'forward' or 'reverse'. Default is forward.
+ *   <li>bufferSize (optional): Maximum number of input chars transliterated in
+ *       one step. Default is {@value ICUTransformCharFilter#DEFAULT_BUFFER_SIZE}.
+ *   <li>offsets (optional): Either 'correct', to map token offsets back to the
+ *       input, or 'none' to pass them through unchanged for fields that are
+ *       never highlighted. Default is correct.
+ *   <li>warmup (optional): Number of times to run a bundled sample of CJK
+ *       text through the char filter once it is ready; see {@link FactoryWarmup}.
+ *       Default is 0.
+ *   <li>backgroundWarmup (optional): If true, warmup runs on a background
+ *       thread instead of delaying init. Default is false.
  * </ul>
+ * The transliterator is loaded by the first {@link #create}, so field types
+ * that are never used cost no time or heap, unless they warm up; an unknown
+ * id is reported there.
+ * Factories with the same id and direction share one transliterator through
+ * {@link TransliteratorRegistry}.
  * @see Transliterator
  * @since 3.1.0
  */
 public class ICUTransformCharFilterFactory extends CharFilterFactory {
-    private final Transliterator transliterator;
+    private final String id;
+    private final int dir;
+    private final int bufferSize;
+    private final boolean correctOffsets;
+    // null until the first create
+    private volatile CompiledRules transliterator;
+    private final FactoryWarmup warmedUp;
 
     // TODO: add support for custom rules
     /** Creates a new ICUTransformFilterFactory */
     public ICUTransformCharFilterFactory(Map<String,String> args) {
         super(args);
-        String id = require(args, "id");
+        id = require(args, "id");
         String direction = get(args, "direction", Arrays.asList("forward", "reverse"), "forward", false);
-        int dir = "forward".equals(direction) ? Transliterator.FORWARD : Transliterator.REVERSE;
-        transliterator = Transliterator.getInstance(id, dir);
+        dir = "forward".equals(direction) ? Transliterator.FORWARD : Transliterator.REVERSE;
+        bufferSize = getInt(args, "bufferSize", ICUTransformCharFilter.DEFAULT_BUFFER_SIZE);
+        if (bufferSize < 2) {
+            // checked here: the transliterator is only loaded by the first create()
+            throw new IllegalArgumentException("bufferSize must be >= 2, got " + bufferSize);
+        }
+        correctOffsets = "correct".equals(get(args, "offsets", Arrays.asList("correct", "none"), "correct", false));
+        int warmup = getInt(args, "warmup", 0);
+        boolean backgroundWarmup = getBoolean(args, "backgroundWarmup", false);
         if (!args.isEmpty()) {
             throw new IllegalArgumentException("Unknown parameters: " + args);
         }
+        warmedUp = FactoryWarmup.run(getClass().getSimpleName(), warmup, backgroundWarmup,
+                sample -> FactoryWarmup.read(create(new StringReader(sample))));
+    }
+
+    /** @return the warmup started by the constructor, to wait for it */
+    FactoryWarmup warmedUp() {
+        return warmedUp;
     }
 
     @Override
     public Reader create(Reader input) {
-        return new ICUTransformCharFilter(input, transliterator);
+        CompiledRules transliterator = this.transliterator;
+        if (transliterator == null) {
+            synchronized (this) {
+                transliterator = this.transliterator;
+                if (transliterator == null) {
+                    this.transliterator = transliterator = TransliteratorRegistry.get(id, dir);
+                }
+            }
+        }
+        return transliterator.create(input, bufferSize, correctOffsets);
     }
 }
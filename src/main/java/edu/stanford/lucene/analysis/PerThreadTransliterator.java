@@ -0,0 +1,107 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.lucene.util.Accountable;
+import org.apache.lucene.util.CloseableThreadLocal;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Hands each thread its own copy of a {@link Transliterator}.  ICU's rule
+ * based transliterators synchronize on their compiled rules, and every
+ * instance of a system transliterator shares the same compiled rules, so
+ * threads sharing them take turns.  The first thread gets the original;
+ * the others get copies compiled from its rules.
+ */
+final class PerThreadTransliterator implements Accountable {
+    /**
+     * rough heap used by a compiled transliterator per char of its rules;
+     * 15 to 33 for Traditional-Simplified, Han-Latin, Katakana-Hiragana and
+     * Cyrillic-Latin
+     */
+    private static final int BYTES_PER_RULES_CHAR = 32;
+
+    private final Transliterator prototype;
+    // compiles a copy of the prototype
+    private final Supplier<Transliterator> copier;
+    private final long bytesPerInstance;
+    private final AtomicBoolean prototypeTaken = new AtomicBoolean();
+    // the prototype and its copies
+    private final AtomicInteger instances = new AtomicInteger(1);
+    private final CloseableThreadLocal<Transliterator> perThread = new CloseableThreadLocal<>();
+
+    private PerThreadTransliterator(Transliterator prototype, String rules, Supplier<Transliterator> copier) {
+        this.prototype = prototype;
+        this.copier = copier;
+        this.bytesPerInstance = (long) BYTES_PER_RULES_CHAR * rules.length();
+    }
+
+    /** copies are compiled from {@code rules} */
+    static PerThreadTransliterator fromRules(String id, String rules, int dir) {
+        return new PerThreadTransliterator(Transliterator.createFromRules(id, rules, dir), rules,
+                () -> Transliterator.createFromRules(id, rules, dir));
+    }
+
+    /**
+     * copies are compiled from {@link Transliterator#toRules(boolean)}; if
+     * that does not give back the same transliterator, as for those with a
+     * global filter or rules ICU cannot parse again, threads share
+     * {@code prototype}
+     */
+    static PerThreadTransliterator of(Transliterator prototype) {
+        final String rules = prototype.toRules(false);
+        return new PerThreadTransliterator(prototype, rules, () -> copyOf(prototype, rules));
+    }
+
+    private static Transliterator copyOf(Transliterator prototype, String rules) {
+        final Transliterator copy;
+        try {
+            copy = Transliterator.createFromRules(prototype.getID(), rules, Transliterator.FORWARD);
+        } catch (IllegalArgumentException e) {
+            return prototype;
+        }
+        if (!String.valueOf(prototype.getFilter()).equals(String.valueOf(copy.getFilter()))
+                || prototype.getElements().length != copy.getElements().length
+                || !rules.equals(copy.toRules(false))) {
+            return prototype;
+        }
+        return copy;
+    }
+
+    /** the original, which may be shared between threads */
+    Transliterator prototype() {
+        return prototype;
+    }
+
+    /** @return the calling thread's transliterator */
+    Transliterator get() {
+        Transliterator transliterator = perThread.get();
+        if (transliterator == null) {
+            transliterator = prototypeTaken.compareAndSet(false, true) ? prototype : copier.get();
+            if (transliterator != prototype) {
+                instances.incrementAndGet();
+            }
+            perThread.set(transliterator);
+        }
+        return transliterator;
+    }
+
+    /** @return the number of compiled instances: the prototype and each copy made for a thread */
+    int instances() {
+        return instances.get();
+    }
+
+    /**
+     * @return a rough estimate of the heap used by the prototype and the
+     * copies made for threads, from the length of their rules
+     */
+    @Override
+    public long ramBytesUsed() {
+        return bytesPerInstance * instances.get();
+    }
+}
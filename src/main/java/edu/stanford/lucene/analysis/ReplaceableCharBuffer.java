@@ -0,0 +1,138 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+
+import org.apache.lucene.util.ArrayUtil;
+
+import com.ibm.icu.text.Replaceable;
+import com.ibm.icu.text.UTF16;
+
+/**
+ * A {@link Replaceable} over a growable {@code char[]}, so a
+ * {@link com.ibm.icu.text.Transliterator} can work in place on text read
+ * straight into the array, with no {@code StringBuffer} in between.  As a
+ * {@link CharSequence} it can also be scanned with a
+ * {@link com.ibm.icu.text.UnicodeSet}.
+ * Not thread safe.
+ */
+final class ReplaceableCharBuffer implements Replaceable, CharSequence {
+  private char[] chars;
+  private int length;
+
+  ReplaceableCharBuffer(int initialCapacity) {
+    chars = new char[initialCapacity];
+  }
+
+  /** the backing array; only the first {@link #length()} chars are valid */
+  char[] array() {
+    return chars;
+  }
+
+  /**
+   * Appends up to {@code count} chars read from {@code in}, reading until
+   * {@code count} chars are read or the input ends; a trailing high surrogate
+   * is completed with one more char so a code point is never split.
+   * @return false if the end of the input was reached
+   */
+  boolean append(Reader in, int count) throws IOException {
+    ensureCapacity(length + count + 1);
+    final int limit = length + count;
+    while (length < limit) {
+      final int read = in.read(chars, length, limit - length);
+      if (read == -1) {
+        return false;
+      }
+      length += read;
+    }
+    if (Character.isHighSurrogate(chars[length - 1])) {
+      final int c = in.read();
+      if (c == -1) {
+        return false;
+      }
+      chars[length++] = (char) c;
+    }
+    return true;
+  }
+
+  /** removes the first {@code count} chars */
+  void removeHead(int count) {
+    System.arraycopy(chars, count, chars, 0, length - count);
+    length -= count;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity > chars.length) {
+      chars = ArrayUtil.grow(chars, capacity);
+    }
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int offset) {
+    return chars[offset];
+  }
+
+  @Override
+  public int char32At(int offset) {
+    return UTF16.charAt(chars, 0, length, offset);
+  }
+
+  @Override
+  public void getChars(int srcStart, int srcLimit, char[] dst, int dstStart) {
+    System.arraycopy(chars, srcStart, dst, dstStart, srcLimit - srcStart);
+  }
+
+  @Override
+  public void replace(int start, int limit, String text) {
+    final int textLength = text.length();
+    makeRoom(start, limit, textLength);
+    text.getChars(0, textLength, chars, start);
+  }
+
+  @Override
+  public void replace(int start, int limit, char[] text, int textStart, int textLength) {
+    makeRoom(start, limit, textLength);
+    System.arraycopy(text, textStart, chars, start, textLength);
+  }
+
+  @Override
+  public void copy(int start, int limit, int dest) {
+    final int count = limit - start;
+    if (count == 0) {
+      return;
+    }
+    final char[] text = new char[count];
+    System.arraycopy(chars, start, text, 0, count);
+    replace(dest, dest, text, 0, count);
+  }
+
+  @Override
+  public boolean hasMetaData() {
+    return false;
+  }
+
+  /** shifts the chars after {@code limit} so [start, limit) becomes {@code count} chars long */
+  private void makeRoom(int start, int limit, int count) {
+    final int newLength = length - (limit - start) + count;
+    ensureCapacity(newLength);
+    System.arraycopy(chars, limit, chars, start + count, length - limit);
+    length = newLength;
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    return new String(chars, start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return new String(chars, 0, length);
+  }
+}
@@ -0,0 +1,230 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.util.Arrays;
+
+import org.apache.lucene.util.ArrayUtil;
+
+/**
+ * Maps output offsets of a char filter back to input offsets with one entry
+ * per transformed segment, rather than one per char added or removed.
+ * Offsets inside a segment whose length changed are interpolated in
+ * proportion to the segment's input and output lengths, to the nearest input
+ * offset; consecutive segments that kept their length share one entry.
+ * {@link #add(char[], int, int, char[], int, int)} splits a transformed step
+ * into such segments by comparing its input with its output.
+ */
+final class SegmentOffsetMap {
+	// segment k maps output [outStarts[k], outStarts[k + 1]) to input
+	// [inStarts[k], inStarts[k + 1]); the last one ends at outputLength, inputLength
+	private int[] outStarts = new int[8];
+	private int[] inStarts = new int[8];
+	private int size;
+	private int outputLength;
+	private int inputLength;
+	// whether the last segment kept its length; the text before the first
+	// segment maps to itself
+	private boolean lastSameLength = true;
+	// scratch for add(char[], ...): output words found so far, their hashes,
+	// and for each word the next one with the same hash
+	private int[] wordStarts = new int[16];
+	private int[] wordHashes = new int[16];
+	private int[] nextSameHash = new int[16];
+	private int[] firstWithHash = new int[64];
+
+	/** adds the next segment, {@code inputLength} chars of input transformed to {@code outputLength} chars */
+	void add(int inputLength, int outputLength)
+	{
+		if (inputLength == 0 && outputLength == 0)
+			return;
+		final boolean sameLength = inputLength == outputLength;
+		if (!sameLength || !lastSameLength)
+		{
+			if (size == outStarts.length)
+			{
+				outStarts = ArrayUtil.grow(outStarts, size + 1);
+				inStarts = ArrayUtil.growExact(inStarts, outStarts.length);
+			}
+			outStarts[size] = this.outputLength;
+			inStarts[size] = this.inputLength;
+			size++;
+		}
+		lastSameLength = sameLength;
+		this.outputLength += outputLength;
+		this.inputLength += inputLength;
+	}
+
+	/**
+	 * adds the next segment, {@code input[inputStart, inputStart + inputLength)}
+	 * transformed to {@code output[outputStart, outputStart + outputLength)},
+	 * as finer segments: words found unchanged in both, in order, map exactly;
+	 * the text between them is trimmed of the prefix and suffix it shares, and
+	 * only the rest is interpolated.  A word is a run of text up to and
+	 * including a whitespace char.
+	 */
+	void add(char[] input, int inputStart, int inputLength, char[] output, int outputStart, int outputLength)
+	{
+		final int inputEnd = inputStart + inputLength;
+		final int outputEnd = outputStart + outputLength;
+		final int words = indexWords(output, outputStart, outputEnd);
+		int in = inputStart;
+		int out = outputStart;
+		// the output word at out
+		int outWord = 0;
+		while (in < inputEnd && out < outputEnd)
+		{
+			// the first input word, from in, also found in the output from out
+			int syncIn = in;
+			int syncWord = -1;
+			while (syncIn < inputEnd)
+			{
+				final int syncInEnd = wordEnd(input, syncIn, inputEnd);
+				syncWord = findWord(input, syncIn, syncInEnd, output, outWord, words, outputEnd);
+				if (syncWord >= 0)
+					break;
+				syncIn = syncInEnd;
+			}
+			final int syncOut = syncWord >= 0 ? wordStarts[syncWord] : outputEnd;
+			if (syncIn > in || syncOut > out)
+				addTrimmed(input, in, syncIn - in, output, out, syncOut - out);
+			if (syncWord < 0)
+				return;
+			final int length = wordEnd(input, syncIn, inputEnd) - syncIn;
+			add(length, length);
+			in = syncIn + length;
+			out = syncOut + length;
+			outWord = syncWord + 1;
+		}
+		add(inputEnd - in, outputEnd - out);
+	}
+
+	/** adds a segment, with the prefix and suffix the transformation left alone as exact segments of their own */
+	private void addTrimmed(char[] input, int inputStart, int inputLength, char[] output, int outputStart, int outputLength)
+	{
+		final int maxSame = Math.min(inputLength, outputLength);
+		int prefix = 0;
+		while (prefix < maxSame && input[inputStart + prefix] == output[outputStart + prefix])
+			prefix++;
+		int suffix = 0;
+		while (prefix + suffix < maxSame
+				&& input[inputStart + inputLength - 1 - suffix] == output[outputStart + outputLength - 1 - suffix])
+			suffix++;
+		add(prefix, prefix);
+		add(inputLength - prefix - suffix, outputLength - prefix - suffix);
+		add(suffix, suffix);
+	}
+
+	/**
+	 * fills wordStarts and wordHashes with the words of {@code text[start, end)},
+	 * chaining the words with the same hash, in order
+	 * @return the number of words
+	 */
+	private int indexWords(char[] text, int start, int end)
+	{
+		int words = 0;
+		for (int pos = start; pos < end; words++)
+		{
+			if (words == wordStarts.length)
+			{
+				wordStarts = ArrayUtil.grow(wordStarts, words + 1);
+				wordHashes = ArrayUtil.growExact(wordHashes, wordStarts.length);
+				nextSameHash = ArrayUtil.growExact(nextSameHash, wordStarts.length);
+			}
+			final int wordEnd = wordEnd(text, pos, end);
+			wordStarts[words] = pos;
+			wordHashes[words] = hash(text, pos, wordEnd);
+			pos = wordEnd;
+		}
+		if (firstWithHash.length < 2 * words)
+			firstWithHash = new int[Integer.highestOneBit(2 * words) << 1];
+		Arrays.fill(firstWithHash, -1);
+		final int mask = firstWithHash.length - 1;
+		for (int word = words - 1; word >= 0; word--)
+		{
+			nextSameHash[word] = firstWithHash[wordHashes[word] & mask];
+			firstWithHash[wordHashes[word] & mask] = word;
+		}
+		return words;
+	}
+
+	/**
+	 * @return the first output word at or after {@code fromWord} equal to
+	 * {@code input[start, end)}, or -1
+	 */
+	private int findWord(char[] input, int start, int end, char[] output, int fromWord, int words, int outputEnd)
+	{
+		final int hash = hash(input, start, end);
+		final int bucket = hash & (firstWithHash.length - 1);
+		// words before fromWord are never looked for again
+		int word = firstWithHash[bucket];
+		while (word >= 0 && word < fromWord)
+			word = nextSameHash[word];
+		firstWithHash[bucket] = word;
+		for (; word >= 0; word = nextSameHash[word])
+		{
+			if (wordHashes[word] != hash)
+				continue;
+			final int wordStart = wordStarts[word];
+			final int wordEnd = word + 1 < words ? wordStarts[word + 1] : outputEnd;
+			if (wordEnd - wordStart == end - start
+					&& Arrays.equals(input, start, end, output, wordStart, wordEnd))
+				return word;
+		}
+		return -1;
+	}
+
+	/** @return the end of the word starting at {@code start}: after the next whitespace char, or {@code end} */
+	private static int wordEnd(char[] text, int start, int end)
+	{
+		for (int i = start; i < end; i++)
+		{
+			if (Character.isWhitespace(text[i]))
+				return i + 1;
+		}
+		return end;
+	}
+
+	private static int hash(char[] text, int start, int end)
+	{
+		int hash = 0;
+		for (int i = start; i < end; i++)
+			hash = 31 * hash + text[i];
+		return hash;
+	}
+
+	/** @return the input offset for output offset {@code off} */
+	int correct(int off)
+	{
+		if (off >= outputLength)
+			return inputLength + off - outputLength;
+		int lo = 0;
+		int hi = size - 1;
+		while (lo <= hi)
+		{
+			final int mid = (lo + hi) >>> 1;
+			if (outStarts[mid] <= off)
+				lo = mid + 1;
+			else
+				hi = mid - 1;
+		}
+		// hi is now the last segment starting at or before off
+		if (hi < 0)
+			return off;
+		final int outStart = outStarts[hi];
+		final int inStart = inStarts[hi];
+		final int outLength = (hi + 1 < size ? outStarts[hi + 1] : outputLength) - outStart;
+		final int inLength = (hi + 1 < size ? inStarts[hi + 1] : inputLength) - inStart;
+		if (outLength == inLength)
+			return inStart + off - outStart;
+		// rounded to the nearest input offset, so a short token inside a long
+		// expansion does not end where it starts
+		return inStart + (int) ((2L * (off - outStart) * inLength + outLength) / (2L * outLength));
+	}
+
+	/** @return the number of entries stored */
+	int size()
+	{
+		return size;
+	}
+}
@@ -0,0 +1,87 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * The ICU transliterators loaded by {@link ICUTransformCharFilterFactory},
+ * one per id and direction for the whole process, so every core and field
+ * type using a transform shares it and its per-thread copies.  They are held
+ * weakly, so a transform no factory uses any more can be collected.
+ */
+public final class TransliteratorRegistry {
+    private static final Map<String, WeakReference<CompiledRules>> LOADED = new HashMap<>();
+
+    private TransliteratorRegistry() {}
+
+    /**
+     * @return the loaded transliterator for {@code id} and {@code dir}, or a new one
+     * @throws IllegalArgumentException if ICU has no such transliterator
+     */
+    static CompiledRules get(String id, int dir) {
+        final String key = id + (dir == Transliterator.FORWARD ? ":f" : ":r");
+        synchronized (LOADED) {
+            final CompiledRules loaded = live(key);
+            if (loaded != null) {
+                return loaded;
+            }
+        }
+        // loading can take seconds, so other transforms are not held up meanwhile
+        CompiledRules compiled = CompiledRules.of(Transliterator.getInstance(id, dir));
+        synchronized (LOADED) {
+            final CompiledRules loaded = live(key);
+            if (loaded != null) {
+                return loaded;
+            }
+            LOADED.put(key, new WeakReference<>(compiled));
+            return compiled;
+        }
+    }
+
+    /** @return the loaded transliterator for {@code key}; drops any that were collected */
+    private static CompiledRules live(String key) {
+        for (Iterator<WeakReference<CompiledRules>> it = LOADED.values().iterator(); it.hasNext(); ) {
+            if (it.next().get() == null) {
+                it.remove();
+            }
+        }
+        final WeakReference<CompiledRules> ref = LOADED.get(key);
+        return ref == null ? null : ref.get();
+    }
+
+    /** @return the number of distinct transliterators loaded, by id and direction */
+    public static int size() {
+        synchronized (LOADED) {
+            int size = 0;
+            for (WeakReference<CompiledRules> ref : LOADED.values()) {
+                if (ref.get() != null) {
+                    size++;
+                }
+            }
+            return size;
+        }
+    }
+
+    /**
+     * @return a rough estimate of the heap used by the loaded transliterators
+     * and their per-thread copies, in bytes
+     */
+    public static long ramBytesUsed() {
+        synchronized (LOADED) {
+            long bytes = 0;
+            for (WeakReference<CompiledRules> ref : LOADED.values()) {
+                final CompiledRules compiled = ref.get();
+                if (compiled != null) {
+                    bytes += compiled.transliterators().ramBytesUsed();
+                }
+            }
+            return bytes;
+        }
+    }
+}
@@ -3,12 +3,17 @@
 package edu.stanford.lucene.analysis;
 
 import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
 
 import org.apache.lucene.analysis.*;
 import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
 import org.apache.lucene.tests.analysis.MockTokenizer;
 import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
 import org.apache.lucene.analysis.core.KeywordTokenizer;
+import org.apache.lucene.analysis.core.WhitespaceTokenizer;
+import org.apache.lucene.util.NamedThreadFactory;
 import org.junit.Test;
 
 /**
@@ -370,6 +375,70 @@ public class TestCJKFoldingFilter extends BaseTokenStreamTestCase
 		checkOneTerm(analyzer, "黒亜", "黑亞");
 	}
 
+	/**
+	 * surrogate pairs are folded as one code point, to and from the BMP
+	 */
+@Test
+	public void testSupplementaryCodePoints() throws Exception
+	{
+		final FoldingTable table = new FoldingTable.Builder()
+				.put(0x2F800, 0x4E3D) // 丽 CJK compatibility supplement => 丽
+				.put(0x5C6E, 0x21D2D) // 屮 => 𡴭 (Extension B)
+				.put(0x20021, 0x2A6D6) // 𠀡 => 𪛖 (Extension B to B)
+				.build();
+		Analyzer a = new Analyzer()
+		{
+			@Override
+			protected TokenStreamComponents createComponents(String fieldName) {
+				Tokenizer tokenizer = new KeywordTokenizer();
+				return new TokenStreamComponents(tokenizer, new CJKFoldingFilter(tokenizer, table));
+			}
+		};
+		checkOneTerm(a, "\uD87E\uDC00", "\u4E3D");
+		checkOneTerm(a, "\u5C6E", "\uD847\uDD2D");
+		checkOneTerm(a, "\uD840\uDC21", "\uD869\uDED6");
+		checkOneTerm(a, "a\uD87E\uDC00\u5C6E\uD840\uDC21b", "a\u4E3D\uD847\uDD2D\uD869\uDED6b");
+		// unpaired surrogates are left alone
+		checkOneTerm(a, "\uD87E\u5C6E\uDC00", "\uD87E\uD847\uDD2D\uDC00");
+		checkRandomData(random(), a, 200*RANDOM_MULTIPLIER);
+	}
+
+	/**
+	 * with preserveOriginal, the folded token is stacked on the original
+	 * only when folding changes it
+	 */
+@Test
+	public void testPreserveOriginal() throws Exception
+	{
+		Reader reader = new StringReader("亜黒 多学 mahler 亜");
+		TokenStream stream = whitespaceMockTokenizer(reader);
+		CJKFoldingFilter filter = new CJKFoldingFilter(stream, true);
+		assertTokenStreamContents(filter,
+				new String[] { "亜黒", "亞黑", "多学", "mahler", "亜", "亞" },
+				new int[] { 0, 0, 3, 6, 13, 13 },
+				new int[] { 2, 2, 5, 12, 14, 14 },
+				new int[] { 1, 0, 1, 1, 1, 0 });
+
+		final FoldingTable table = new FoldingTable.Builder()
+				.put(0x4E21, 0x4E21) // 両 => 両, a mapping that changes nothing
+				.put(0x5C6E, 0x21D2D) // 屮 => 𡴭, lengthens the token
+				.build();
+		filter = new CJKFoldingFilter(whitespaceMockTokenizer(new StringReader("両 屮a")), table, true);
+		assertTokenStreamContents(filter,
+				new String[] { "両", "屮a", "\uD847\uDD2Da" },
+				new int[] { 1, 1, 0 });
+
+		Analyzer a = new Analyzer()
+		{
+			@Override
+			protected TokenStreamComponents createComponents(String fieldName) {
+				Tokenizer tokenizer = new MockTokenizer(MockTokenizer.WHITESPACE, false);
+				return new TokenStreamComponents(tokenizer, new CJKFoldingFilter(tokenizer, true));
+			}
+		};
+		checkRandomData(random(), a, 200*RANDOM_MULTIPLIER);
+	}
+
 	/** blast some random strings through the analyzer */
 @Test
 	public void testRandomStrings() throws Exception
@@ -391,6 +460,45 @@ public class TestCJKFoldingFilter extends BaseTokenStreamTestCase
 		checkOneTerm(a, "", "");
 	}
 
+	/**
+	 * many threads creating filters at once must all see the complete,
+	 * unchanging fold table
+	 */
+@Test
+	public void testConcurrentFilterCreation() throws Exception
+	{
+		final int numThreads = 8;
+		final int iterations = 1000 * RANDOM_MULTIPLIER;
+		final CountDownLatch startingGun = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(numThreads, new NamedThreadFactory("cjkfolding"));
+		try
+		{
+			List<Future<Void>> results = new ArrayList<>();
+			for (int t = 0; t < numThreads; t++)
+			{
+				results.add(executor.submit(() -> {
+					startingGun.await();
+					for (int i = 0; i < iterations; i++)
+					{
+						Tokenizer tokenizer = new WhitespaceTokenizer();
+						tokenizer.setReader(new StringReader("両亜黒 観觀观 嶽囯 mahler"));
+						assertTokenStreamContents(new CJKFoldingFilter(tokenizer),
+								new String[] { "兩亞黑", "覌覌覌", "岳國", "mahler" });
+					}
+					return null;
+				}));
+			}
+			startingGun.countDown();
+			for (Future<Void> result : results)
+				result.get();
+		}
+		finally
+		{
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+		}
+	}
+
 	private Analyzer analyzer = new Analyzer() {
 	    @Override
 	    protected TokenStreamComponents createComponents(String field) {
@@ -5,11 +5,14 @@ package edu.stanford.lucene.analysis;
 import java.io.Reader;
 import java.io.StringReader;
 import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.lucene.analysis.TokenStream;
 
 import org.apache.lucene.analysis.standard.StandardTokenizer;
 import org.apache.lucene.tests.analysis.BaseTokenStreamFactoryTestCase;
+import org.apache.lucene.tests.util.StringMockResourceLoader;
+import org.apache.lucene.util.ClasspathResourceLoader;
 
 /**
  * Simple tests to ensure the CJKFoldingFilter factory is working.
@@ -46,4 +49,70 @@ public class TestCJKFoldingFilterFactory extends BaseTokenStreamFactoryTestCase
 		stream = factory.create(stream);
 		assertTokenStreamContents(stream, new String[] { "亞", "亞", "噁", "噁", "噁", "噁", "噁", "應", "應", "foo" });
 	}
+
+	public void testWarmup() throws Exception
+	{
+		Map<String,String> args = new HashMap<String,String>();
+		args.put("warmup", "3");
+		CJKFoldingFilterFactory factory = new CJKFoldingFilterFactory(args);
+		factory.inform(new ClasspathResourceLoader(getClass()));
+		assertEquals(3, factory.warmedUp().runs());
+		TokenStream stream = factory.create(whitespaceMockTokenizer(new StringReader("亜 foo")));
+		assertTokenStreamContents(stream, new String[] { "亞", "foo" });
+	}
+
+	public void testMappingFile() throws Exception
+	{
+		Reader reader = new StringReader("亜両黒 a");
+		TokenStream stream = whitespaceMockTokenizer(reader);
+		Map<String,String> args = new HashMap<String,String>();
+		args.put("mapping", "mine.txt");
+		CJKFoldingFilterFactory factory = new CJKFoldingFilterFactory(args);
+		factory.inform(new StringMockResourceLoader("# only these\n\\u4E9C > \\u4E9E; # 亜 => 亞\n黒 > 黑;\na > \\U0002F800;\n"));
+		stream = factory.create(stream);
+		// 両 is only folded by the bundled mappings
+		assertTokenStreamContents(stream, new String[] { "亞両黑", "\uD87E\uDC00" });
+	}
+
+	public void testBundledMappingFile() throws Exception
+	{
+		Reader reader = new StringReader("亜亞恶悪惡惡噁応應foo");
+		TokenStream stream = tokenizerFactory("standard").create();
+		((StandardTokenizer)stream).setReader(reader);
+		Map<String,String> args = new HashMap<String,String>();
+		args.put("mapping", "stanford_cjk_transliterations.txt");
+		CJKFoldingFilterFactory factory = new CJKFoldingFilterFactory(args);
+		factory.inform(new ClasspathResourceLoader(getClass()));
+		stream = factory.create(stream);
+		assertTokenStreamContents(stream, new String[] { "亞", "亞", "噁", "噁", "噁", "噁", "噁", "應", "應", "foo" });
+	}
+
+	public void testBadMappingFile() throws Exception
+	{
+		Map<String,String> args = new HashMap<String,String>();
+		args.put("mapping", "rules.txt");
+		CJKFoldingFilterFactory factory = new CJKFoldingFilterFactory(args);
+		expectThrows(IllegalArgumentException.class, () ->
+			factory.inform(new StringMockResourceLoader("$x = a;\n$x > b;\n")));
+	}
+
+	public void testPreserveOriginal() throws Exception
+	{
+		Reader reader = new StringReader("亜亞 foo");
+		TokenStream stream = whitespaceMockTokenizer(reader);
+		Map<String,String> args = new HashMap<String,String>();
+		args.put("preserveOriginal", "true");
+		CJKFoldingFilterFactory factory = new CJKFoldingFilterFactory(args);
+		stream = factory.create(stream);
+		assertTokenStreamContents(stream, new String[] { "亜亞", "亞亞", "foo" }, new int[] { 1, 0, 1 });
+	}
+
+	public void testBogusArguments() throws Exception
+	{
+		Map<String,String> args = new HashMap<String,String>();
+		args.put("bogusArg", "bogusValue");
+		IllegalArgumentException expected = expectThrows(IllegalArgumentException.class, () ->
+			new CJKFoldingFilterFactory(args));
+		assertTrue(expected.getMessage().contains("Unknown parameters"));
+	}
 }
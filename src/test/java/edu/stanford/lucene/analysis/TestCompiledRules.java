@@ -0,0 +1,101 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.lucene.tests.util.LuceneTestCase;
+
+import com.ibm.icu.text.Transliterator;
+import com.ibm.icu.util.VersionInfo;
+
+/**
+ * Tests for the cache of {@link CompiledRules}
+ */
+public class TestCompiledRules extends LuceneTestCase
+{
+	public void testShared() throws Exception
+	{
+		CompiledRules table = CompiledRules.compile("a", "a > b; c > d;", Transliterator.FORWARD);
+		assertTrue(table.isTable());
+		assertSame(table, CompiledRules.compile("b", "a > b; c > d;", Transliterator.FORWARD));
+
+		CompiledRules reverse = CompiledRules.compile("a", "a > b; c > d;", Transliterator.REVERSE);
+		assertFalse(reverse.isTable());
+		assertNotSame(table, reverse);
+		assertSame(reverse, CompiledRules.compile("a", "a > b; c > d;", Transliterator.REVERSE));
+
+		CompiledRules icu = CompiledRules.compile("a", "x { a > b;", Transliterator.FORWARD);
+		assertFalse(icu.isTable());
+		assertSame(icu, CompiledRules.compile("a", "x { a > b;", Transliterator.FORWARD));
+		assertNotSame(icu, CompiledRules.compile("a", "x { a > c;", Transliterator.FORWARD));
+	}
+
+	public void testBounded() throws Exception
+	{
+		List<CompiledRules> held = new ArrayList<>();
+		for (int i = 0; i < CompiledRules.MAX_CACHED + 10; i++)
+			held.add(CompiledRules.compile("test", rules(i), Transliterator.FORWARD));
+		assertTrue(CompiledRules.cacheSize() <= CompiledRules.MAX_CACHED);
+		// the most recent are still cached, the first was dropped
+		int last = held.size() - 1;
+		assertSame(held.get(last), CompiledRules.compile("test", rules(last), Transliterator.FORWARD));
+		assertNotSame(held.get(0), CompiledRules.compile("test", rules(0), Transliterator.FORWARD));
+	}
+
+	public void testCacheDir() throws Exception
+	{
+		Path cacheDir = createTempDir().resolve("rules");
+		String rules = "\\u4E21 > \\u5169;";
+		CompiledRules compiled = CompiledRules.compileUncached("test", rules, Transliterator.FORWARD, cacheDir);
+		assertEquals("兩", read(compiled, "両"));
+		Path[] files = files(cacheDir);
+		assertEquals(1, files.length);
+		assertTrue(files[0].getFileName().toString().endsWith("-icu" + VersionInfo.ICU_VERSION + ".bin"));
+
+		// read back
+		long modified = Files.getLastModifiedTime(files[0]).toMillis();
+		assertEquals("兩", read(CompiledRules.compileUncached("test", rules, Transliterator.FORWARD, cacheDir), "両"));
+		assertEquals(modified, Files.getLastModifiedTime(files[0]).toMillis());
+
+		// a damaged file is compiled again and replaced
+		Files.write(files[0], new byte[] { 1, 2, 3 });
+		assertEquals("兩", read(CompiledRules.compileUncached("test", rules, Transliterator.FORWARD, cacheDir), "両"));
+		assertTrue(Files.size(files[0]) > 3);
+
+		// ICU cannot store its rules
+		assertFalse(CompiledRules.compileUncached("test", "x { a > b;", Transliterator.FORWARD, cacheDir).isTable());
+		assertEquals(1, files(cacheDir).length);
+	}
+
+	/** @return the compiled tables in {@code dir} */
+	private static Path[] files(Path dir) throws IOException
+	{
+		// the test file system may add extra files of its own
+		try (Stream<Path> files = Files.list(dir))
+		{
+			return files.filter(file -> file.getFileName().toString().endsWith(".bin")).toArray(Path[]::new);
+		}
+	}
+
+	private static String read(CompiledRules compiled, String text) throws IOException
+	{
+		try (Reader reader = compiled.create(new StringReader(text), 16, true))
+		{
+			return IOUtils.toString(reader);
+		}
+	}
+
+	private static String rules(int i)
+	{
+		return "a > " + (char) ('一' + i) + ";";
+	}
+}
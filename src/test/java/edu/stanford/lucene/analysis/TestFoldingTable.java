@@ -0,0 +1,108 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+
+/**
+ * Tests for compiling, writing and reading {@link FoldingTable}s
+ */
+public class TestFoldingTable extends LuceneTestCase
+{
+	public void testParseRules() throws Exception
+	{
+		FoldingTable table = FoldingTable.parseRules(new StringReader(
+				"# comment\n"
+				+ "\n"
+				+ "\\u4E21 > \\u5169; # modern 両 => trad 兩\n"
+				+ "亜>亞;黒 > 黑 ;\n"
+				+ "\\U0002F800 > \\x{4E3D};\n"
+				+ "\\u4E21 > \\u4E21; # first rule wins, as in ICU\n"));
+		assertEquals(0x5169, table.get(0x4E21));
+		assertEquals(0x4E9E, table.get(0x4E9C));
+		assertEquals(0x9ED1, table.get(0x9ED2));
+		assertEquals(0x4E3D, table.get(0x2F800));
+		assertEquals(0x4E00, table.get(0x4E00));
+		assertEquals('a', table.bmpGet('a'));
+	}
+
+	public void testRejectsRealRules() throws Exception
+	{
+		for (String rules : new String[] {
+				"ab > c;",
+				"a > bc;",
+				"a > ;",
+				"x { a > b;",
+				"a <> b;",
+				"$var = a;",
+				":: Traditional-Simplified ;",
+				"[ab] > c;",
+				"a > b",
+				"\\u4E2 > b;" })
+		{
+			expectThrows(IllegalArgumentException.class, () -> FoldingTable.parseRules(new StringReader(rules)));
+		}
+	}
+
+	public void testHasMapping() throws Exception
+	{
+		FoldingTable table = new FoldingTable.Builder()
+				.put(0x4E21, 0x5169)
+				.put(0x2F800, 0x4E3D)
+				.build();
+		assertFalse(table.hasMapping(new char[0], 0, 0));
+		assertFalse(hasMapping(table, "mahler is the bomb"));
+		assertFalse(hasMapping(table, "多の学生が試に落ちた"));
+		assertTrue(hasMapping(table, "両"));
+		// in every position of a four char group, and in the tail after the groups
+		for (int i = 0; i < 9; i++)
+		{
+			StringBuilder text = new StringBuilder("abcdefgh");
+			assertTrue(hasMapping(table, text.insert(i, '両').toString()));
+		}
+		assertTrue(hasMapping(table, "abc\uD87E\uDC00"));
+		assertFalse(hasMapping(table, "abc\uD87E\uDC01"));
+		// unpaired surrogates
+		assertFalse(hasMapping(table, "abc\uD87E"));
+		assertFalse(hasMapping(table, "\uDC00abc\uD87E"));
+		// only looks at the given range
+		assertFalse(table.hasMapping("a両bc".toCharArray(), 2, 4));
+
+		FoldingTable cjk = FoldingTable.load(CJKFoldingFilter.class, "stanford_cjk_transliterations");
+		char[] c = new char[1];
+		for (c[0] = 0; c[0] < Character.MAX_VALUE; c[0]++)
+		{
+			if (!Character.isSurrogate(c[0]))
+				assertEquals(cjk.bmpGet(c[0]) != c[0], cjk.hasMapping(c, 0, 1));
+		}
+	}
+
+	private static boolean hasMapping(FoldingTable table, String text)
+	{
+		return table.hasMapping(text.toCharArray(), 0, text.length());
+	}
+
+	public void testLengthPreserving() throws Exception
+	{
+		assertTrue(FoldingTable.load(CJKFoldingFilter.class, "stanford_cjk_transliterations").isLengthPreserving());
+		assertTrue(new FoldingTable.Builder().build().isLengthPreserving());
+		assertTrue(new FoldingTable.Builder().put(0x4E21, 0x5169).put(0x20021, 0x2A6D6).build().isLengthPreserving());
+		assertFalse(new FoldingTable.Builder().put(0x4E21, 0x5169).put(0x5C6E, 0x21D2D).build().isLengthPreserving());
+		assertFalse(new FoldingTable.Builder().put(0x2F800, 0x4E3D).build().isLengthPreserving());
+	}
+
+	public void testWriteRead() throws Exception
+	{
+		FoldingTable table = FoldingTable.load(CJKFoldingFilter.class, "stanford_cjk_transliterations");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		table.write(out);
+		FoldingTable read = FoldingTable.read(new ByteArrayInputStream(out.toByteArray()));
+		for (int c = 0; c <= Character.MAX_CODE_POINT; c++)
+			assertEquals(table.get(c), read.get(c));
+		assertEquals(0x5169, read.get(0x4E21));
+	}
+}
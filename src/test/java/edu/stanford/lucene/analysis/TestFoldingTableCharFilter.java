@@ -0,0 +1,113 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.CharFilter;
+import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
+import org.apache.lucene.tests.analysis.MockTokenizer;
+import org.apache.lucene.tests.util.TestUtil;
+
+import com.ibm.icu.text.Transliterator;
+import com.ibm.icu.text.UnicodeSet;
+
+/**
+ * Tests that {@link FoldingTableCharFilter} gives the same text as ICU for
+ * the same rules
+ */
+public class TestFoldingTableCharFilter extends BaseTokenStreamTestCase
+{
+	public void testMatchesICU() throws Exception
+	{
+		String rules;
+		try (InputStream stream = getClass().getResourceAsStream("stanford_cjk_transliterations.txt"))
+		{
+			rules = IOUtils.toString(stream, StandardCharsets.UTF_8);
+		}
+		Transliterator transform = Transliterator.createFromRules("test", rules, Transliterator.FORWARD);
+		FoldingTable table = FoldingTable.parseRules(new StringReader(rules));
+		UnicodeSet sourceSet = transform.getSourceSet();
+
+		assertEquals(transform.transliterate("両 亜 黒 mahler"), map(table, "両 亜 黒 mahler", 2));
+		for (int i = 0; i < 50 * RANDOM_MULTIPLIER; i++)
+		{
+			// random text, with plenty of chars the rules map
+			StringBuilder text = new StringBuilder();
+			for (int j = random().nextInt(20); j > 0; j--)
+			{
+				text.append(TestUtil.randomRealisticUnicodeString(random(), 10));
+				text.appendCodePoint(sourceSet.charAt(random().nextInt(sourceSet.size())));
+			}
+			String input = text.toString();
+			assertEquals(transform.transliterate(input), map(table, input, TestUtil.nextInt(random(), 2, 64)));
+		}
+	}
+
+	/** a surrogate pair split between reads, mapped to and from the BMP */
+	public void testSurrogates() throws Exception
+	{
+		String rules = "\\U0002F800 > \\u4E3D; \\u4E21 > \\U00020000;";
+		Transliterator transform = Transliterator.createFromRules("test", rules, Transliterator.FORWARD);
+		FoldingTable table = FoldingTable.parseRules(new StringReader(rules));
+		String input = "a丽b両c丽丽両";
+		for (int bufferSize = 2; bufferSize < 12; bufferSize++)
+			assertEquals("bufferSize " + bufferSize, transform.transliterate(input), map(table, input, bufferSize));
+	}
+
+	/** offsets are corrected when the table changes lengths */
+	public void testOffsets() throws Exception
+	{
+		final FoldingTable table = FoldingTable.parseRules(new StringReader("\\u4E21 > \\U00020000;"));
+		Analyzer a = analyzer(table, 3);
+		assertAnalyzesTo(a, "ab 両 cd",
+				new String[] { "ab", "𠀀", "cd" },
+				new int[] { 0, 3, 5 },
+				new int[] { 2, 4, 7 });
+		checkRandomData(random(), a, 200 * RANDOM_MULTIPLIER);
+		a.close();
+
+		// text around the mapped chars keeps exact offsets, however much is read in one step
+		a = analyzer(table, 1024);
+		assertAnalyzesTo(a, "Liang 両大戦間 no 両 keizai",
+				new String[] { "Liang", "𠀀大戦間", "no", "𠀀", "keizai" },
+				new int[] { 0, 6, 11, 14, 16 },
+				new int[] { 5, 10, 13, 15, 22 });
+		a.close();
+	}
+
+	private static Analyzer analyzer(final FoldingTable table, final int bufferSize)
+	{
+		return new Analyzer()
+		{
+			@Override
+			protected TokenStreamComponents createComponents(String fieldName)
+			{
+				return new TokenStreamComponents(new MockTokenizer(MockTokenizer.WHITESPACE, false));
+			}
+
+			@Override
+			protected Reader initReader(String fieldName, Reader reader)
+			{
+				return new FoldingTableCharFilter(reader, table, bufferSize, true);
+			}
+		};
+	}
+
+	private static String map(FoldingTable table, String input, int bufferSize) throws IOException
+	{
+		CharFilter reader = new FoldingTableCharFilter(new StringReader(input), table, bufferSize, true);
+		char[] cbuf = new char[10];
+		StringBuilder output = new StringBuilder();
+		int length;
+		while ((length = reader.read(cbuf)) != -1)
+			output.append(cbuf, 0, length);
+		return output.toString();
+	}
+}
@@ -1,7 +1,12 @@
 package edu.stanford.lucene.analysis;
 
+import com.carrotsearch.randomizedtesting.ThreadFilter;
+import com.carrotsearch.randomizedtesting.annotations.ThreadLeakFilters;
 import org.apache.lucene.tests.analysis.BaseTokenStreamFactoryTestCase;
+import org.apache.lucene.tests.util.QuickPatchThreadsFilter;
+import org.apache.lucene.tests.util.StringMockResourceLoader;
 import org.apache.lucene.util.ClasspathResourceLoader;
+import org.apache.lucene.util.ResourceLoader;
 import org.apache.lucene.analysis.TokenStream;
 
 import java.io.Reader;
@@ -9,7 +14,17 @@ import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Map;
 
+@ThreadLeakFilters(defaultFilters = true, filters = { QuickPatchThreadsFilter.class,
+        TestICUCustomTransformCharFilterFactory.CompilerThreads.class })
 public class TestICUCustomTransformCharFilterFactory extends BaseTokenStreamFactoryTestCase {
+    /** the pool that compiles async rules keeps each thread until it has been idle for a second */
+    public static final class CompilerThreads implements ThreadFilter {
+        @Override
+        public boolean reject(Thread t) {
+            return t.getName().equals("ICUCustomTransformCharFilterFactory-compile");
+        }
+    }
+
     /** ensure the transform is working */
     public void testCJKStuff() throws Exception {
         String text = "両";
@@ -22,4 +37,67 @@ public class TestICUCustomTransformCharFilterFactory extends BaseTokenStreamFact
 
         assertTokenStreamContents(ts, new String[] { "兩" });
     }
+
+    /** 1:1 rules are mapped with a table; anything else, or reverse, goes to ICU */
+    public void testEngine() throws Exception {
+        assertTrue(create("stanford_cjk_transliterations.txt", "forward", new ClasspathResourceLoader(getClass()))
+                instanceof FoldingTableCharFilter);
+        assertTrue(create("stanford_cjk_transliterations.txt", "reverse", new ClasspathResourceLoader(getClass()))
+                instanceof ICUTransformCharFilter);
+        Reader cs = create("rules.txt", "forward", new StringMockResourceLoader("a > b; x { c > d;"));
+        assertTrue(cs instanceof ICUTransformCharFilter);
+        assertTokenStreamContents(whitespaceMockTokenizer(cs), new String[] { "bc", "xd" });
+    }
+
+    /** create() waits for a background compile, and never passes text through untransformed */
+    public void testAsync() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", "stanford_cjk_transliterations.txt");
+        args.put("async", "true");
+        ICUCustomTransformCharFilterFactory factory = new ICUCustomTransformCharFilterFactory(args);
+        expectThrows(IllegalStateException.class, () -> factory.create(new StringReader("両")));
+        factory.inform(new ClasspathResourceLoader(getClass()));
+        assertTokenStreamContents(whitespaceMockTokenizer(factory.create(new StringReader("両"))), new String[] { "兩" });
+        assertTokenStreamContents(whitespaceMockTokenizer(factory.create(new StringReader("両"))), new String[] { "兩" });
+    }
+
+    public void testWarmup() throws Exception {
+        for (String async : new String[] { "false", "true" }) {
+            Map<String,String> args = new HashMap<>();
+            args.put("id", "stanford_cjk_transliterations.txt");
+            args.put("async", async);
+            args.put("warmup", "3");
+            ICUCustomTransformCharFilterFactory factory = new ICUCustomTransformCharFilterFactory(args);
+            factory.inform(new ClasspathResourceLoader(getClass()));
+            assertTokenStreamContents(whitespaceMockTokenizer(factory.create(new StringReader("両"))), new String[] { "兩" });
+            factory.warmedUp().join();
+            assertEquals(async, 3, factory.warmedUp().runs());
+        }
+    }
+
+    public void testBogusBufferSize() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", "stanford_cjk_transliterations.txt");
+        args.put("bufferSize", "1");
+        expectThrows(IllegalArgumentException.class, () -> new ICUCustomTransformCharFilterFactory(args));
+    }
+
+    public void testAsyncError() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", "rules.txt");
+        args.put("async", "true");
+        ICUCustomTransformCharFilterFactory factory = new ICUCustomTransformCharFilterFactory(args);
+        factory.inform(new StringMockResourceLoader("a > ;; { x"));
+        expectThrows(IllegalArgumentException.class, () -> factory.create(new StringReader("a")));
+    }
+
+    private static Reader create(String id, String direction, ResourceLoader loader) throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", id);
+        args.put("direction", direction);
+        ICUCustomTransformCharFilterFactory factory = new ICUCustomTransformCharFilterFactory(args);
+        factory.inform(loader);
+        String text = direction.equals("forward") ? "ac xc" : "兩";
+        return factory.create(new StringReader(text));
+    }
 }
@@ -23,10 +23,12 @@ import java.io.StringReader;
 
 import com.ibm.icu.text.Normalizer2;
 import com.ibm.icu.text.Transliterator;
+import com.ibm.icu.text.UnicodeSet;
 import org.apache.lucene.analysis.Analyzer;
 import org.apache.lucene.tests.analysis.BaseTokenStreamTestCase;
 import org.apache.lucene.analysis.CharFilter;
 import org.apache.lucene.tests.analysis.MockTokenizer;
+import org.apache.lucene.tests.util.TestUtil;
 
 public class TestICUTransformCharFilter extends BaseTokenStreamTestCase {
 
@@ -45,9 +47,238 @@ public class TestICUTransformCharFilter extends BaseTokenStreamTestCase {
             "中国", "zhōng guó");
   }
 
+  /** offsets inside an expanded segment are interpolated */
+  public void testOffsets() throws Exception {
+    final Transliterator transform = Transliterator.getInstance("Han-Latin");
+    Analyzer a = new Analyzer() {
+      @Override
+      protected TokenStreamComponents createComponents(String fieldName) {
+        return new TokenStreamComponents(new MockTokenizer(MockTokenizer.WHITESPACE, false));
+      }
+
+      @Override
+      protected Reader initReader(String fieldName, Reader reader) {
+        return new ICUTransformCharFilter(reader, transform, 3);
+      }
+    };
+    assertAnalyzesTo(a, "ab 中国 cd",
+        new String[] { "ab", "zhōng", "guó", "cd" },
+        new int[] { 0, 3, 4, 6 },
+        new int[] { 2, 4, 5, 8 });
+    a.close();
+  }
+
+  /** text the transliterator leaves alone keeps its exact offsets, on both sides of a changed run */
+  public void testOffsetsAroundChangedText() throws Exception {
+    final Transliterator transform = Transliterator.getInstance("Han-Latin");
+    Analyzer a = new Analyzer() {
+      @Override
+      protected TokenStreamComponents createComponents(String fieldName) {
+        return new TokenStreamComponents(new MockTokenizer(MockTokenizer.WHITESPACE, false));
+      }
+
+      @Override
+      protected Reader initReader(String fieldName, Reader reader) {
+        return new ICUTransformCharFilter(reader, transform);
+      }
+    };
+    assertAnalyzesTo(a, "Hong lou meng yan jiu 红楼梦研究 Yu Pingbo zhu 1985 edition",
+        new String[] { "Hong", "lou", "meng", "yan", "jiu", "hóng", "lóu", "mèng", "yán", "jiū",
+            "Yu", "Pingbo", "zhu", "1985", "edition" },
+        new int[] { 0, 5, 9, 14, 18, 22, 23, 24, 25, 26, 28, 31, 38, 42, 47 },
+        new int[] { 4, 8, 13, 17, 21, 23, 24, 25, 26, 27, 30, 37, 41, 46, 54 });
+    // several changed runs in one step
+    assertAnalyzesTo(a, "红楼梦 Hong lou 研究 Yu 俞平伯 zhu",
+        new String[] { "hóng", "lóu", "mèng", "Hong", "lou", "yán", "jiū", "Yu", "yú", "píng", "bó", "zhu" },
+        new int[] { 0, 1, 2, 4, 9, 13, 14, 16, 19, 20, 21, 23 },
+        new int[] { 1, 2, 3, 8, 12, 14, 15, 18, 20, 21, 22, 26 });
+    a.close();
+  }
+
+  /** rules may match across whitespace, whether offsets are corrected or not */
+  public void testKeysSpanningWhitespace() throws Exception {
+    final Transliterator transform = Transliterator.createFromRules("NewYork", "'new york' > NY;", Transliterator.FORWARD);
+    String input = "i love new york and new york";
+    assertEquals("i love NY and NY", transform.transliterate(input));
+    for (boolean correctOffsets : new boolean[] { true, false }) {
+      assertEquals("correctOffsets " + correctOffsets, transform.transliterate(input),
+          transliterate(transform, input, ICUTransformCharFilter.DEFAULT_BUFFER_SIZE, correctOffsets, null));
+    }
+    Analyzer a = new Analyzer() {
+      @Override
+      protected TokenStreamComponents createComponents(String fieldName) {
+        return new TokenStreamComponents(new MockTokenizer(MockTokenizer.WHITESPACE, false));
+      }
+
+      @Override
+      protected Reader initReader(String fieldName, Reader reader) {
+        return new ICUTransformCharFilter(reader, transform);
+      }
+    };
+    assertAnalyzesTo(a, input,
+        new String[] { "i", "love", "NY", "and", "NY" },
+        new int[] { 0, 2, 7, 16, 20 },
+        new int[] { 1, 6, 15, 19, 28 });
+    a.close();
+  }
+
+  /** keys spanning whitespace match across step boundaries, at any buffer size */
+  public void testKeysSpanningWhitespaceStreaming() throws Exception {
+    Transliterator transform = Transliterator.createFromRules("NewYork",
+        "'new york city' > NYC; 'new york' > NY;", Transliterator.FORWARD);
+    UnicodeSet sourceSet = ICUTransformCharFilter.sourceSet(transform);
+    String input = "i love new york and new york city, not new jersey; new york";
+    String expected = transform.transliterate(input);
+    assertEquals("i love NY and NYC, not new jersey; NY", expected);
+    for (int bufferSize = 2; bufferSize < 40; bufferSize++) {
+      for (boolean correctOffsets : new boolean[] { true, false }) {
+        assertEquals("bufferSize " + bufferSize + ", correctOffsets " + correctOffsets, expected,
+            transliterate(transform, input, bufferSize, correctOffsets, null));
+        assertEquals("bufferSize " + bufferSize + ", correctOffsets " + correctOffsets + ", sourceSet", expected,
+            transliterate(transform, input, bufferSize, correctOffsets, sourceSet));
+      }
+    }
+  }
+
+  /** streaming in small steps gives the same text as transliterating the whole document */
+  public void testStreamingMatchesWholeDocument() throws Exception {
+    String[] ids = { "Traditional-Simplified", "Katakana-Hiragana", "Han-Latin", "Any-Latin",
+        "NFD; [:Nonspacing Mark:] Remove", "Latin-Katakana", "Hangul-Latin" };
+    String[] samples = { "簡化字 ヒラガナ 中国 Αλφαβητικός Κατάλογος 한국어",
+        "ahiruno kodomo kyoto nippon shinbun", "红楼梦研究 俞平伯著 上海古籍出版社 両大戦間の日本経済" };
+    for (String id : ids) {
+      Transliterator transform = Transliterator.getInstance(id);
+      for (String sample : samples) {
+        for (int bufferSize = 2; bufferSize < 12; bufferSize++) {
+          assertEquals(id + ", bufferSize " + bufferSize, transform.transliterate(sample),
+              transliterate(transform, sample, bufferSize));
+        }
+      }
+      if (id.equals("Any-Latin")) {
+        // Any-Latin can still differ on mixed scripts without whitespace; see ICUTransformCharFilter
+        continue;
+      }
+      for (int i = 0; i < 20 * RANDOM_MULTIPLIER; i++) {
+        String text = TestUtil.randomRealisticUnicodeString(random(), 200);
+        assertEquals(id, transform.transliterate(text), transliterate(transform, text, TestUtil.nextInt(random(), 2, 64)));
+      }
+    }
+  }
+
+  /**
+   * runs without whitespace longer than the pending limit give the same text
+   * as the whole document: Chinese for Han-Latin, which is streamed element
+   * by element, and Latin for Latin-Katakana, which has a global filter
+   */
+  public void testLongRunsWithoutWhitespace() throws Exception {
+    String[] ids = { "Han-Latin", "Latin-Katakana" };
+    String[] pools = { "红楼梦研究俞平伯著上海古籍出版社两晋南北朝史吕思勉中華書局臺灣文學史綱，。《》：abc123",
+        "abcdefghijklmnopqrstuvwxyzāōū'-." };
+    for (int i = 0; i < ids.length; i++) {
+      Transliterator transform = Transliterator.getInstance(ids[i]);
+      for (int doc = 0; doc < 3 * RANDOM_MULTIPLIER; doc++) {
+        StringBuilder text = new StringBuilder();
+        while (text.length() < 4 * ICUTransformCharFilter.DEFAULT_BUFFER_SIZE) {
+          text.append(pools[i].charAt(random().nextInt(pools[i].length())));
+        }
+        String input = text.toString();
+        String expected = transform.transliterate(input);
+        assertEquals(ids[i], expected, transliterate(transform, input, ICUTransformCharFilter.DEFAULT_BUFFER_SIZE));
+        int bufferSize = TestUtil.nextInt(random(), 2, 64);
+        assertEquals(ids[i] + ", bufferSize " + bufferSize, expected, transliterate(transform, input, bufferSize));
+      }
+    }
+  }
+
+  /** skipping text without chars from the source set gives the same text */
+  public void testSourceSet() throws Exception {
+    String[] ids = { "Traditional-Simplified", "Katakana-Hiragana", "Latin-Katakana", "Cyrillic-Latin",
+        "NFD; [:Nonspacing Mark:] Remove" };
+    String sample = "Hong lou meng yan jiu / Yu Pingbo zhu. 红楼梦研究 Shanghai 1985. 簡化字 ヒラガナ "
+        + "Российская Федерация Alphabētikós PL2727.S2 Y8";
+    for (String id : ids) {
+      Transliterator transform = Transliterator.getInstance(id);
+      UnicodeSet sourceSet = ICUTransformCharFilter.sourceSet(transform);
+      assertNotNull(id, sourceSet);
+      for (int bufferSize = 2; bufferSize < 40; bufferSize += 3) {
+        assertEquals(id + ", bufferSize " + bufferSize, transform.transliterate(sample),
+            transliterate(transform, sample, bufferSize, sourceSet));
+      }
+      for (int i = 0; i < 20 * RANDOM_MULTIPLIER; i++) {
+        String text = TestUtil.randomRealisticUnicodeString(random(), 200);
+        assertEquals(id, transform.transliterate(text),
+            transliterate(transform, text, TestUtil.nextInt(random(), 2, 64), sourceSet));
+      }
+    }
+    // rules with an empty key insert text next to chars outside the source set
+    assertNull(ICUTransformCharFilter.sourceSet(Transliterator.getInstance("Han-Latin")));
+    assertNull(ICUTransformCharFilter.sourceSet(Transliterator.getInstance("Any-Latin")));
+  }
+
+  /** a large document is transliterated with only a bounded buffer */
+  public void testLargeDocument() throws Exception {
+    Transliterator transform = Transliterator.getInstance("Traditional-Simplified");
+    StringBuilder doc = new StringBuilder();
+    while (doc.length() < 1 << 20) {
+      doc.append("簡化字 中華書局 臺灣文學史綱 ");
+    }
+    assertEquals(transform.transliterate(doc.toString()), transliterate(transform, doc.toString(), 256));
+  }
+
+  /** the output does not depend on how it is read */
+  public void testReadSizes() throws Exception {
+    Transliterator transform = Transliterator.getInstance("Han-Latin");
+    String input = "红楼梦研究 俞平伯著 上海古籍出版社 两晋南北朝史 吕思勉著 中華書局 臺灣文學史綱";
+    String expected = transform.transliterate(input);
+    for (int readSize = 1; readSize < 40; readSize++) {
+      CharFilter reader = new ICUTransformCharFilter(new StringReader(input), transform, 8);
+      char[] cbuf = new char[readSize + 2];
+      StringBuilder output = new StringBuilder();
+      int length;
+      while ((length = reader.read(cbuf, 2, TestUtil.nextInt(random(), 1, readSize))) != -1) {
+        output.append(cbuf, 2, length);
+      }
+      assertEquals("readSize " + readSize, expected, output.toString());
+    }
+  }
+
+  public void testRandomStrings() throws Exception {
+    for (String id : new String[] { "Traditional-Simplified", "Han-Latin", "Any-Latin" }) {
+      final Transliterator transform = Transliterator.getInstance(id);
+      final int bufferSize = TestUtil.nextInt(random(), 2, 128);
+      Analyzer a = new Analyzer() {
+        @Override
+        protected TokenStreamComponents createComponents(String fieldName) {
+          return new TokenStreamComponents(new MockTokenizer(MockTokenizer.WHITESPACE, false));
+        }
+
+        @Override
+        protected Reader initReader(String fieldName, Reader reader) {
+          return new ICUTransformCharFilter(reader, transform, bufferSize);
+        }
+      };
+      checkRandomData(random(), a, 200 * RANDOM_MULTIPLIER);
+      a.close();
+    }
+  }
+
   private void checkToken(Transliterator transform, String input, String expectedOutput) throws IOException {
+    assertEquals(expectedOutput, transliterate(transform, input, ICUTransformCharFilter.DEFAULT_BUFFER_SIZE));
+  }
+
+  private static String transliterate(Transliterator transform, String input, int bufferSize) throws IOException {
+    return transliterate(transform, input, bufferSize, null);
+  }
 
-    CharFilter reader = new ICUTransformCharFilter(new StringReader(input), transform);
+  private static String transliterate(Transliterator transform, String input, int bufferSize, UnicodeSet sourceSet)
+      throws IOException {
+    return transliterate(transform, input, bufferSize, true, sourceSet);
+  }
+
+  private static String transliterate(Transliterator transform, String input, int bufferSize, boolean correctOffsets,
+                                      UnicodeSet sourceSet) throws IOException {
+    CharFilter reader = new ICUTransformCharFilter(new StringReader(input), transform, bufferSize, correctOffsets,
+        sourceSet);
     char[] tempBuff = new char[10];
     StringBuilder output = new StringBuilder();
     while (true) {
@@ -57,8 +288,7 @@ public class TestICUTransformCharFilter extends BaseTokenStreamTestCase {
       }
       output.append(tempBuff, 0, length);
     }
-
-    assertEquals(expectedOutput, output.toString());
+    return output.toString();
   }
 
 }
@@ -17,8 +17,10 @@
 package edu.stanford.lucene.analysis;
 
 
+import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.io.UncheckedIOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -62,4 +64,79 @@ public class TestICUTransformCharFilterFactory extends BaseTokenStreamTestCase {
         assertTokenStreamContents(stream, new String[] { "Российская", "Федерация" });
     }
 
+    /** offsets="none" passes offsets through unchanged */
+    public void testOffsetsNone() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", "Han-Latin");
+        args.put("offsets", "none");
+        ICUTransformCharFilterFactory factory = new ICUTransformCharFilterFactory(args);
+        TokenStream stream = whitespaceMockTokenizer(factory.create(new StringReader("中国")));
+        assertTokenStreamContents(stream, new String[] { "zhōng", "guó" }, new int[] { 0, 6 }, new int[] { 5, 9 });
+
+        args = new HashMap<>();
+        args.put("id", "Han-Latin");
+        factory = new ICUTransformCharFilterFactory(args);
+        stream = whitespaceMockTokenizer(factory.create(new StringReader("中国")));
+        assertTokenStreamContents(stream, new String[] { "zhōng", "guó" }, new int[] { 0, 1 }, new int[] { 1, 2 });
+    }
+
+    /** the transliterator is loaded by the first create, once for all threads */
+    public void testLazy() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", "Bogus-Transform");
+        ICUTransformCharFilterFactory bogus = new ICUTransformCharFilterFactory(args);
+        expectThrows(IllegalArgumentException.class, () -> bogus.create(new StringReader("text")));
+
+        args.put("id", "Traditional-Simplified");
+        ICUTransformCharFilterFactory factory = new ICUTransformCharFilterFactory(args);
+        Thread[] threads = new Thread[4];
+        String[] results = new String[threads.length];
+        for (int i = 0; i < threads.length; i++) {
+            final int thread = i;
+            threads[i] = new Thread(() -> {
+                try (Reader reader = factory.create(new StringReader("簡化字"))) {
+                    char[] cbuf = new char[16];
+                    results[thread] = new String(cbuf, 0, reader.read(cbuf));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            threads[i].start();
+        }
+        for (int i = 0; i < threads.length; i++) {
+            threads[i].join();
+            assertEquals("简化字", results[i]);
+        }
+    }
+
+    /** warming up, here or in the background, leaves the factory as it was */
+    public void testWarmup() throws Exception {
+        for (String background : new String[] { "false", "true" }) {
+            Map<String,String> args = new HashMap<>();
+            args.put("id", "Traditional-Simplified");
+            args.put("warmup", "3");
+            args.put("backgroundWarmup", background);
+            ICUTransformCharFilterFactory factory = new ICUTransformCharFilterFactory(args);
+            assertTokenStreamContents(whitespaceMockTokenizer(factory.create(new StringReader("簡化字"))),
+                    new String[] { "简化字" });
+            factory.warmedUp().join();
+            assertEquals(background, 3, factory.warmedUp().runs());
+        }
+    }
+
+    /** a bad bufferSize fails when the schema is loaded, not on the first create() */
+    public void testBogusBufferSize() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", "Traditional-Simplified");
+        args.put("bufferSize", "1");
+        expectThrows(IllegalArgumentException.class, () -> new ICUTransformCharFilterFactory(args));
+    }
+
+    public void testBogusOffsets() throws Exception {
+        Map<String,String> args = new HashMap<>();
+        args.put("id", "Han-Latin");
+        args.put("offsets", "bogus");
+        expectThrows(IllegalArgumentException.class, () -> new ICUTransformCharFilterFactory(args));
+    }
+
 }
@@ -0,0 +1,61 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Tests for {@link PerThreadTransliterator}
+ */
+public class TestPerThreadTransliterator extends LuceneTestCase
+{
+	private static final String TEXT = "簡化字 中華書局 臺灣文學史綱 Российская Федерация";
+
+	public void testCopiesPerThread() throws Exception
+	{
+		for (String id : new String[] { "Traditional-Simplified", "Han-Latin", "Katakana-Hiragana", "Cyrillic-Latin" })
+		{
+			Transliterator prototype = Transliterator.getInstance(id);
+			PerThreadTransliterator transliterators = PerThreadTransliterator.of(prototype);
+			assertSame(prototype, transliterators.get());
+			assertSame(prototype, transliterators.get());
+			Transliterator copy = onOtherThread(transliterators);
+			assertNotSame(id, prototype, copy);
+			assertEquals(id, prototype.transliterate(TEXT), copy.transliterate(TEXT));
+		}
+	}
+
+	public void testSharedWhenRulesDoNotRoundTrip() throws Exception
+	{
+		// Hangul-Latin's global filter is not in its rules; Fullwidth-Halfwidth's rules do not parse again
+		for (String id : new String[] { "Hangul-Latin", "Fullwidth-Halfwidth" })
+		{
+			Transliterator prototype = Transliterator.getInstance(id);
+			PerThreadTransliterator transliterators = PerThreadTransliterator.of(prototype);
+			transliterators.get();
+			assertSame(id, prototype, onOtherThread(transliterators));
+		}
+	}
+
+	public void testFromRules() throws Exception
+	{
+		PerThreadTransliterator transliterators = PerThreadTransliterator.fromRules("test", "a > b; c > d;", Transliterator.FORWARD);
+		assertSame(transliterators.prototype(), transliterators.get());
+		Transliterator copy = onOtherThread(transliterators);
+		assertNotSame(transliterators.prototype(), copy);
+		assertEquals("bbdd", copy.transliterate("abcd"));
+	}
+
+	private static Transliterator onOtherThread(PerThreadTransliterator transliterators) throws InterruptedException
+	{
+		AtomicReference<Transliterator> result = new AtomicReference<>();
+		Thread thread = new Thread(() -> result.set(transliterators.get()));
+		thread.start();
+		thread.join();
+		return result.get();
+	}
+}
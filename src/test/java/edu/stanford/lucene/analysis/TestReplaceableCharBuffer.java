@@ -0,0 +1,54 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import java.io.StringReader;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Tests for {@link ReplaceableCharBuffer}
+ */
+public class TestReplaceableCharBuffer extends LuceneTestCase
+{
+	public void testAppend() throws Exception
+	{
+		ReplaceableCharBuffer text = new ReplaceableCharBuffer(2);
+		StringReader reader = new StringReader("abc𠀀de");
+		assertTrue(text.append(reader, 3));
+		assertEquals("abc", text.toString());
+		// a high surrogate is never left at the end
+		assertTrue(text.append(reader, 1));
+		assertEquals("abc𠀀", text.toString());
+		assertFalse(text.append(reader, 4));
+		assertEquals("abc𠀀de", text.toString());
+		text.removeHead(3);
+		assertEquals("𠀀de", text.toString());
+		assertEquals(0x20000, text.char32At(0));
+	}
+
+	public void testReplace() throws Exception
+	{
+		ReplaceableCharBuffer text = new ReplaceableCharBuffer(1);
+		text.append(new StringReader("abcdef"), 6);
+		text.replace(1, 3, "XYZW");
+		assertEquals("aXYZWdef", text.toString());
+		text.replace(0, 5, new char[] {'1', '2'}, 1, 1);
+		assertEquals("2def", text.toString());
+		text.copy(1, 3, 4);
+		assertEquals("2defde", text.toString());
+		char[] dst = new char[3];
+		text.getChars(1, 4, dst, 0);
+		assertEquals("def", new String(dst));
+	}
+
+	public void testTransliterateInPlace() throws Exception
+	{
+		ReplaceableCharBuffer text = new ReplaceableCharBuffer(4);
+		text.append(new StringReader("中国 簡化字"), 16);
+		Transliterator.getInstance("Han-Latin").transliterate(text);
+		assertEquals(Transliterator.getInstance("Han-Latin").transliterate("中国 簡化字"), text.toString());
+	}
+}
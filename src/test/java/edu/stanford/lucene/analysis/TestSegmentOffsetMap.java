@@ -0,0 +1,118 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+
+/**
+ * Tests for {@link SegmentOffsetMap}
+ */
+public class TestSegmentOffsetMap extends LuceneTestCase
+{
+	public void testSameLength() throws Exception
+	{
+		SegmentOffsetMap offsets = new SegmentOffsetMap();
+		offsets.add(10, 10);
+		offsets.add(5, 5);
+		assertEquals(0, offsets.size());
+		for (int i = 0; i <= 20; i++)
+			assertEquals(i, offsets.correct(i));
+	}
+
+	public void testExpansion() throws Exception
+	{
+		SegmentOffsetMap offsets = new SegmentOffsetMap();
+		// "ab " > "ab ", "中国 " > "zhōng guó ", "cd" > "cd"
+		offsets.add(3, 3);
+		offsets.add(3, 10);
+		offsets.add(2, 2);
+		assertEquals(2, offsets.size());
+		assertEquals(0, offsets.correct(0));
+		assertEquals(3, offsets.correct(3));
+		// interpolated to the nearest input offset
+		assertEquals(4, offsets.correct(5));
+		assertEquals(5, offsets.correct(9));
+		assertEquals(6, offsets.correct(12));
+		assertEquals(6, offsets.correct(13));
+		assertEquals(8, offsets.correct(15));
+		assertEquals(9, offsets.correct(16));
+	}
+
+	public void testContraction() throws Exception
+	{
+		SegmentOffsetMap offsets = new SegmentOffsetMap();
+		offsets.add(4, 2);
+		offsets.add(3, 0);
+		offsets.add(2, 2);
+		assertEquals(0, offsets.correct(0));
+		assertEquals(2, offsets.correct(1));
+		// the deleted input is skipped
+		assertEquals(7, offsets.correct(2));
+		assertEquals(8, offsets.correct(3));
+		assertEquals(9, offsets.correct(4));
+	}
+
+	public void testUnchangedPrefixAndSuffix() throws Exception
+	{
+		SegmentOffsetMap offsets = new SegmentOffsetMap();
+		// "jiu 红楼 Yu" > "jiu hóng lóu Yu"
+		char[] input = "jiu 红楼 Yu".toCharArray();
+		char[] output = "jiu hóng lóu Yu".toCharArray();
+		offsets.add(input, 0, input.length, output, 0, output.length);
+		assertEquals(2, offsets.size());
+		for (int i = 0; i <= 4; i++)
+			assertEquals(i, offsets.correct(i));
+		assertEquals(5, offsets.correct(9));
+		assertEquals(6, offsets.correct(12));
+		// " Yu" maps exactly
+		assertEquals(7, offsets.correct(13));
+		assertEquals(9, offsets.correct(15));
+	}
+
+	public void testUnchangedWords() throws Exception
+	{
+		SegmentOffsetMap offsets = new SegmentOffsetMap();
+		// "红楼 Hong lou 研究 Yu" > "hóng lóu Hong lou yán jiū Yu"
+		char[] input = "红楼 Hong lou 研究 Yu".toCharArray();
+		char[] output = "hóng lóu Hong lou yán jiū Yu".toCharArray();
+		offsets.add(input, 0, input.length, output, 0, output.length);
+		// "Hong lou " and " Yu" map exactly, between two changed runs
+		for (int i = 0; i <= 9; i++)
+			assertEquals(3 + i, offsets.correct(9 + i));
+		for (int i = 0; i <= 3; i++)
+			assertEquals(14 + i, offsets.correct(25 + i));
+		// and the words between them are interpolated
+		assertEquals(0, offsets.correct(0));
+		assertEquals(1, offsets.correct(4));
+		assertEquals(13, offsets.correct(22));
+	}
+
+	/** a change spanning whitespace is one segment, and the words around it are exact */
+	public void testChangeAcrossWords() throws Exception
+	{
+		SegmentOffsetMap offsets = new SegmentOffsetMap();
+		char[] input = "i love new york and new york".toCharArray();
+		char[] output = "i love NY and NY".toCharArray();
+		offsets.add(input, 0, input.length, output, 0, output.length);
+		assertEquals(7, offsets.correct(7));
+		assertEquals(15, offsets.correct(9));
+		assertEquals(16, offsets.correct(10));
+		assertEquals(19, offsets.correct(13));
+		assertEquals(20, offsets.correct(14));
+		assertEquals(28, offsets.correct(16));
+	}
+
+	public void testMonotonic() throws Exception
+	{
+		SegmentOffsetMap offsets = new SegmentOffsetMap();
+		for (int i = 0; i < 1000; i++)
+			offsets.add(random().nextInt(20), random().nextInt(40));
+		int last = 0;
+		for (int off = 0; off < 20000; off++)
+		{
+			int corrected = offsets.correct(off);
+			assertTrue(corrected >= last);
+			last = corrected;
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/** @note Copyright (c) 2013 by The Board of Trustees of the Leland Stanford Junior University.
+ * All rights reserved.  See {file:LICENSE} for details. **/
+package edu.stanford.lucene.analysis;
+
+import org.apache.lucene.tests.util.LuceneTestCase;
+
+import com.ibm.icu.text.Transliterator;
+
+/**
+ * Tests for {@link TransliteratorRegistry}
+ */
+public class TestTransliteratorRegistry extends LuceneTestCase
+{
+	public void testShared() throws Exception
+	{
+		CompiledRules forward = TransliteratorRegistry.get("Cyrillic-Latin", Transliterator.FORWARD);
+		assertSame(forward, TransliteratorRegistry.get("Cyrillic-Latin", Transliterator.FORWARD));
+		CompiledRules reverse = TransliteratorRegistry.get("Cyrillic-Latin", Transliterator.REVERSE);
+		assertNotSame(forward, reverse);
+		assertSame(reverse, TransliteratorRegistry.get("Cyrillic-Latin", Transliterator.REVERSE));
+		assertTrue(TransliteratorRegistry.size() >= 2);
+		expectThrows(IllegalArgumentException.class, () -> TransliteratorRegistry.get("Bogus-Transform", Transliterator.FORWARD));
+	}
+
+	public void testRamBytesUsed() throws Exception
+	{
+		CompiledRules loaded = TransliteratorRegistry.get("Katakana-Hiragana", Transliterator.FORWARD);
+		assertTrue(loaded.transliterators().ramBytesUsed() > 0);
+		assertTrue(TransliteratorRegistry.ramBytesUsed() >= loaded.transliterators().ramBytesUsed());
+
+		// a copy for another thread counts too; counted on a private instance,
+		// as other tests' threads also take copies of the registry's
+		PerThreadTransliterator transliterators = PerThreadTransliterator.of(
+				Transliterator.getInstance("Katakana-Hiragana"));
+		long one = transliterators.ramBytesUsed();
+		assertTrue(one > 0);
+		transliterators.get();
+		Thread thread = new Thread(transliterators::get);
+		thread.start();
+		thread.join();
+		assertEquals(2, transliterators.instances());
+		assertEquals(2 * one, transliterators.ramBytesUsed());
+	}
+}